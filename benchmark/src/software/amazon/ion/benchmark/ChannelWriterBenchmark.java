@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.Pipe;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder.AllocatorMode;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Measures binary encoding of a whole corpus into a channel, handing the
+ * writer's blocks to the channel in one gathering write per flush, against
+ * writing them one at a time through an {@code OutputStream} over the same
+ * channel.
+ * <p>
+ * The two differ only in the number of channel writes, so the difference
+ * depends on what a write costs: little for a file, whose writes land in the
+ * page cache, more for a pipe drained by another thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("deprecation")
+public class ChannelWriterBenchmark
+{
+    public enum Target
+    {
+        /** A temporary file, rewritten from the start by each operation. */
+        FILE,
+        /** A pipe whose other end is read and discarded by a daemon thread. */
+        PIPE
+    }
+
+    /** Keeps the target open across writers, which otherwise close it. */
+    private static final class UnclosableChannel implements GatheringByteChannel
+    {
+        private final GatheringByteChannel channel;
+
+        UnclosableChannel(GatheringByteChannel channel)
+        {
+            this.channel = channel;
+        }
+
+        public long write(ByteBuffer[] srcs, int offset, int length)
+            throws IOException
+        {
+            return channel.write(srcs, offset, length);
+        }
+
+        public long write(ByteBuffer[] srcs)
+            throws IOException
+        {
+            return channel.write(srcs);
+        }
+
+        public int write(ByteBuffer src)
+            throws IOException
+        {
+            return channel.write(src);
+        }
+
+        public boolean isOpen()
+        {
+            return channel.isOpen();
+        }
+
+        public void close() {}
+    }
+
+    @Param({"RECORDS", "WIDE_STRUCTS", "DEEP_STRUCTS", "ION_TESTS_GOOD"})
+    public Corpus corpus;
+
+    @Param({"FILE", "PIPE"})
+    public Target target;
+
+    /**
+     * How many values to write between calls to {@code finish()}, each of
+     * which flushes the output; zero to finish only at the end.
+     */
+    @Param({"0", "1"})
+    public int valuesPerFinish;
+
+    private IonDatagram datagram;
+    private PrivateIonManagedBinaryWriterBuilder builder;
+    private File file;
+    private FileChannel fileChannel;
+    private Pipe pipe;
+    private UnclosableChannel channel;
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        datagram = corpus.load(IonSystemBuilder.standard().build());
+        builder = PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.POOLED);
+        switch (target)
+        {
+            case FILE:
+                file = File.createTempFile("ion-benchmark", ".10n");
+                fileChannel = new RandomAccessFile(file, "rw").getChannel();
+                channel = new UnclosableChannel(fileChannel);
+                break;
+            case PIPE:
+                pipe = Pipe.open();
+                channel = new UnclosableChannel(pipe.sink());
+                Thread drain = new Thread("pipe-drain")
+                {
+                    @Override
+                    public void run()
+                    {
+                        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+                        try
+                        {
+                            while (pipe.source().read(buffer) >= 0)
+                            {
+                                buffer.clear();
+                            }
+                        }
+                        catch (IOException e)
+                        {
+                            // the trial is over
+                        }
+                    }
+                };
+                drain.setDaemon(true);
+                drain.start();
+                break;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        if (fileChannel != null)
+        {
+            fileChannel.close();
+            file.delete();
+        }
+        if (pipe != null)
+        {
+            pipe.sink().close();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void rewind()
+        throws IOException
+    {
+        if (fileChannel != null)
+        {
+            fileChannel.position(0);
+        }
+    }
+
+    @Benchmark
+    public void gathering()
+        throws IOException
+    {
+        write(builder.newWriter(channel));
+    }
+
+    @Benchmark
+    public void stream()
+        throws IOException
+    {
+        write(builder.newWriter(Channels.newOutputStream(channel)));
+    }
+
+    private void write(IonWriter writer)
+        throws IOException
+    {
+        int count = 0;
+        for (IonValue value : datagram)
+        {
+            value.writeTo(writer);
+            if (++count == valuesPerFinish)
+            {
+                writer.finish();
+                count = 0;
+            }
+        }
+        writer.close();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.Timestamp;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+import software.amazon.ion.system.IonTextWriterBuilder;
+
+/**
+ * The data sets exercised by the benchmarks.
+ * <p>
+ * Every corpus is generated deterministically so that results are
+ * comparable run-over-run. The {@link #ION_TESTS_GOOD} corpus reads the
+ * {@code iontestdata/good} files of the {@code ion-tests} submodule, located
+ * via the {@code ion.tests.dir} system property (default {@code ../ion-tests}).
+ */
+public enum Corpus
+{
+    /** Flat log-style records mixing the common scalar types. */
+    RECORDS
+    {
+        @Override
+        void populate(IonSystem system, IonDatagram dg)
+        {
+            Random random = new Random(SEED);
+            for (int i = 0; i < 2000; i++)
+            {
+                IonStruct record = system.newEmptyStruct();
+                record.add("id").newInt(i);
+                record.add("timestamp").newTimestamp(
+                    Timestamp.forMillis(1500000000000L + i * 1013L, 0));
+                record.add("host").newString("host-" + random.nextInt(64) + ".example.com");
+                record.add("status").newSymbol(STATUSES[random.nextInt(STATUSES.length)]);
+                record.add("latency").newDecimal(BigDecimal.valueOf(random.nextInt(100000), 3));
+                record.add("ratio").newFloat(random.nextDouble());
+                record.add("bytes").newInt(random.nextLong());
+                record.add("big").newInt(BigInteger.valueOf(random.nextLong()).shiftLeft(64));
+                IonList tags = record.add("tags").newEmptyList();
+                for (int t = random.nextInt(5); t >= 0; t--)
+                {
+                    tags.add().newSymbol("tag" + random.nextInt(32));
+                }
+                record.add("payload").newBlob(randomBytes(random, 32));
+                dg.add(record);
+            }
+        }
+    },
+
+    /** Few structs, each with hundreds of distinct fields. */
+    WIDE_STRUCTS
+    {
+        @Override
+        void populate(IonSystem system, IonDatagram dg)
+        {
+            Random random = new Random(SEED);
+            for (int i = 0; i < 50; i++)
+            {
+                IonStruct struct = system.newEmptyStruct();
+                for (int f = 0; f < 200; f++)
+                {
+                    String name = "field_" + f;
+                    switch (f % 4)
+                    {
+                        case 0:  struct.add(name).newInt(random.nextInt()); break;
+                        case 1:  struct.add(name).newString("value " + random.nextInt()); break;
+                        case 2:  struct.add(name).newSymbol("sym" + random.nextInt(100)); break;
+                        default: struct.add(name).newFloat(random.nextDouble()); break;
+                    }
+                }
+                dg.add(struct);
+            }
+        }
+    },
+
+    /** Structs nested many levels deep, with a few scalars at each level. */
+    DEEP_STRUCTS
+    {
+        @Override
+        void populate(IonSystem system, IonDatagram dg)
+        {
+            Random random = new Random(SEED);
+            for (int i = 0; i < 200; i++)
+            {
+                IonStruct top = system.newEmptyStruct();
+                IonStruct current = top;
+                for (int depth = 0; depth < 64; depth++)
+                {
+                    current.add("depth").newInt(depth);
+                    current.add("name").newString("level" + random.nextInt(1000));
+                    IonList list = current.add("values").newEmptyList();
+                    list.add().newInt(random.nextInt());
+                    list.add().newSymbol("s" + depth);
+                    current = current.add("child").newEmptyStruct();
+                }
+                dg.add(top);
+            }
+        }
+    },
+
+    /** The concatenation of every file in ion-tests' {@code iontestdata/good}. */
+    ION_TESTS_GOOD
+    {
+        @Override
+        void populate(IonSystem system, IonDatagram dg)
+            throws IOException
+        {
+            File root = new File(System.getProperty("ion.tests.dir", "../ion-tests"));
+            File good = new File(new File(root, "iontestdata"), "good");
+            if (!good.isDirectory())
+            {
+                throw new IllegalStateException(
+                    "Cannot locate ion-tests good files at " + good.getAbsolutePath()
+                    + "; set -Dion.tests.dir");
+            }
+            List<File> files = new ArrayList<File>();
+            collect(good, files);
+            for (File file : files)
+            {
+                for (IonValue value : system.getLoader().load(file))
+                {
+                    dg.add(value.clone());
+                }
+            }
+        }
+    };
+
+    private static final long SEED = 0x1024L;
+
+    private static final String[] STATUSES =
+        { "OK", "REDIRECT", "CLIENT_ERROR", "SERVER_ERROR", "TIMEOUT" };
+
+    abstract void populate(IonSystem system, IonDatagram dg)
+        throws IOException;
+
+    /**
+     * Builds this corpus as a datagram of user values.
+     */
+    public IonDatagram load(IonSystem system)
+    {
+        IonDatagram dg = system.newDatagram();
+        try
+        {
+            populate(system, dg);
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+        return dg;
+    }
+
+    /**
+     * Encodes the given values in the requested format using the
+     * standard writer builders.
+     */
+    public static byte[] encode(Iterable<IonValue> values, Format format)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = format.newWriter(out);
+        for (IonValue value : values)
+        {
+            value.writeTo(writer);
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    /** The Ion encodings that readers and writers are measured against. */
+    public enum Format
+    {
+        BINARY
+        {
+            @Override
+            IonWriter newWriter(ByteArrayOutputStream out)
+            {
+                return IonBinaryWriterBuilder.standard().build(out);
+            }
+        },
+        TEXT
+        {
+            @Override
+            IonWriter newWriter(ByteArrayOutputStream out)
+            {
+                return IonTextWriterBuilder.standard().build(out);
+            }
+        };
+
+        abstract IonWriter newWriter(ByteArrayOutputStream out);
+    }
+
+    private static void collect(File dir, List<File> files)
+    {
+        File[] children = dir.listFiles();
+        Arrays.sort(children);
+        for (File child : children)
+        {
+            if (child.isDirectory())
+            {
+                collect(child, files);
+            }
+            else if (child.getName().endsWith(".ion")
+                     || child.getName().endsWith(".10n"))
+            {
+                files.add(child);
+            }
+        }
+    }
+
+    private static byte[] randomBytes(Random random, int length)
+    {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.benchmark;
+
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Shared benchmark state: one corpus, pre-built as a DOM and pre-encoded in
+ * one {@link Corpus.Format}. Setup cost is excluded from measurements.
+ */
+@State(Scope.Benchmark)
+public class CorpusState
+{
+    @Param({"RECORDS", "WIDE_STRUCTS", "DEEP_STRUCTS", "ION_TESTS_GOOD"})
+    public Corpus corpus;
+
+    @Param({"BINARY", "TEXT"})
+    public Corpus.Format format;
+
+    public IonSystem   system;
+    public IonDatagram datagram;
+    public byte[]      encoded;
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        system = IonSystemBuilder.standard().build();
+        datagram = corpus.load(system);
+        encoded = Corpus.encode(datagram, format);
+    }
+}
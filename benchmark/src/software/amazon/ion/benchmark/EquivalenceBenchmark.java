@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.system.IonSystemBuilder;
+import software.amazon.ion.util.Equivalence;
+
+/**
+ * Measures {@link Equivalence#ionEquals} between two independently built,
+ * equal copies of a corpus, which forces a full comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EquivalenceBenchmark
+{
+    @Param({"RECORDS", "WIDE_STRUCTS", "DEEP_STRUCTS", "ION_TESTS_GOOD"})
+    public Corpus corpus;
+
+    private IonDatagram left;
+    private IonDatagram right;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        IonSystem system = IonSystemBuilder.standard().build();
+        left = corpus.load(system);
+        right = corpus.load(system);
+    }
+
+    @Benchmark
+    public boolean ionEquals()
+    {
+        return Equivalence.ionEquals(left, right);
+    }
+
+    @Benchmark
+    public boolean ionEqualsByContent()
+    {
+        return Equivalence.ionEqualsByContent(left, right);
+    }
+
+    @Benchmark
+    public int hashCodes()
+    {
+        return left.hashCode();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+
+/**
+ * Measures materialization of the DOM from encoded data, through
+ * {@code IonLoader.load} and {@code IonSystem.newValue(IonReader)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoaderBenchmark
+{
+    @Benchmark
+    public IonDatagram load(CorpusState state)
+    {
+        return state.system.getLoader().load(state.encoded);
+    }
+
+    @Benchmark
+    public void newValuePerTopLevelValue(CorpusState state, Blackhole bh)
+        throws Exception
+    {
+        IonReader reader = state.system.newReader(state.encoded);
+        while (reader.next() != null)
+        {
+            bh.consume(state.system.newValue(reader));
+        }
+        reader.close();
+    }
+
+    @Benchmark
+    public int cloneDatagram(CorpusState state)
+    {
+        IonDatagram copy = state.datagram.clone();
+        return copy.size();
+    }
+
+    /** Included so DOM load can be compared against a bare traversal. */
+    @Benchmark
+    public void readOnlyBaseline(CorpusState state, Blackhole bh)
+        throws Exception
+    {
+        IonReader reader = state.system.newReader(state.encoded);
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            bh.consume(type);
+        }
+        reader.close();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.system.IonReaderBuilder;
+
+/**
+ * Measures streaming reads of a whole corpus. Binary input is handled by
+ * {@code IonReaderBinaryUserX}, text input by {@code IonReaderTextUserX}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReaderBenchmark
+{
+    private static final IonReaderBuilder BUILDER = IonReaderBuilder.standard().immutable();
+    private static final IonReaderBuilder CACHING_BUILDER =
+        IonReaderBuilder.standard().withStringCacheEnabled(true).immutable();
+
+    /** Steps into every container and materializes every scalar. */
+    @Benchmark
+    public void fullTraversalFromBytes(CorpusState state, Blackhole bh)
+        throws Exception
+    {
+        IonReader reader = BUILDER.build(state.encoded);
+        traverse(reader, bh);
+        reader.close();
+    }
+
+    /** Like {@link #fullTraversalFromBytes} but with the string cache. */
+    @Benchmark
+    public void fullTraversalWithStringCache(CorpusState state, Blackhole bh)
+        throws Exception
+    {
+        IonReader reader = CACHING_BUILDER.build(state.encoded);
+        traverse(reader, bh);
+        reader.close();
+    }
+
+    /** Like {@link #fullTraversalFromBytes} but through the stream-refill path. */
+    @Benchmark
+    public void fullTraversalFromStream(CorpusState state, Blackhole bh)
+        throws Exception
+    {
+        IonReader reader = BUILDER.build(new ByteArrayInputStream(state.encoded));
+        traverse(reader, bh);
+        reader.close();
+    }
+
+    /** Visits only the top-level values, skipping their contents. */
+    @Benchmark
+    public void skipTopLevel(CorpusState state, Blackhole bh)
+        throws Exception
+    {
+        IonReader reader = BUILDER.build(state.encoded);
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            bh.consume(type);
+        }
+        reader.close();
+    }
+
+    static void traverse(IonReader reader, Blackhole bh)
+    {
+        IonType type;
+        while (true)
+        {
+            type = reader.next();
+            if (type == null)
+            {
+                if (reader.getDepth() == 0) break;
+                reader.stepOut();
+                continue;
+            }
+            if (reader.isInStruct())
+            {
+                bh.consume(reader.getFieldName());
+            }
+            bh.consume(reader.getTypeAnnotations());
+            if (reader.isNullValue())
+            {
+                continue;
+            }
+            switch (type)
+            {
+                case STRUCT:
+                case LIST:
+                case SEXP:
+                    reader.stepIn();
+                    break;
+                case BOOL:
+                    bh.consume(reader.booleanValue());
+                    break;
+                case INT:
+                    switch (reader.getIntegerSize())
+                    {
+                        case INT:  bh.consume(reader.intValue()); break;
+                        case LONG: bh.consume(reader.longValue()); break;
+                        default:   bh.consume(reader.bigIntegerValue()); break;
+                    }
+                    break;
+                case FLOAT:
+                    bh.consume(reader.doubleValue());
+                    break;
+                case DECIMAL:
+                    bh.consume(reader.decimalValue());
+                    break;
+                case TIMESTAMP:
+                    bh.consume(reader.timestampValue());
+                    break;
+                case SYMBOL:
+                    bh.consume(reader.symbolValue());
+                    break;
+                case STRING:
+                    bh.consume(reader.stringValue());
+                    break;
+                case CLOB:
+                case BLOB:
+                    bh.consume(reader.newBytes());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Measures text-to-sid lookups in a shared symbol table, against a
+ * {@code HashMap<String,Integer>} over the same symbols as a baseline.
+ * <p>
+ * Each operation looks up one text, cycling in a shuffled order through the
+ * declared symbols and as many undeclared ones, so that neither structure
+ * benefits from the order in which its entries were allocated. The texts are
+ * distinct instances from the declared ones, so lookups can't short-circuit
+ * on identity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SymbolTableBenchmark
+{
+    @Param({"16", "1000", "100000"})
+    public int symbolCount;
+
+    private SymbolTable table;
+    private Map<String, Integer> map;
+    private String[] texts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        IonSystem system = IonSystemBuilder.standard().build();
+        List<String> symbols = new ArrayList<String>(symbolCount);
+        for (int i = 0; i < symbolCount; i++)
+        {
+            symbols.add("field_" + i);
+        }
+        table = system.newSharedSymbolTable("benchmark", 1, symbols.iterator());
+
+        // Built from the finished list, as shared tables used to build theirs,
+        // rather than interleaving each entry's allocation with its text's.
+        map = new HashMap<String, Integer>();
+        for (int i = 0; i < symbolCount; i++)
+        {
+            map.put(symbols.get(i), i + 1);
+        }
+
+        // Round up to a power of two so that cycling is a mask.
+        int count = Integer.highestOneBit(2 * symbolCount - 1) << 1;
+        texts = new String[count];
+        for (int i = 0; i < count; i++)
+        {
+            int n = i % (2 * symbolCount);
+            texts[i] = (n < symbolCount ? "field_" : "missing_") + n;
+        }
+        Collections.shuffle(Arrays.asList(texts), new Random(42));
+    }
+
+    private String nextText()
+    {
+        return texts[next++ & (texts.length - 1)];
+    }
+
+    @Benchmark
+    public int findSymbol()
+    {
+        return table.findSymbol(nextText());
+    }
+
+    @Benchmark
+    public Integer hashMapGet()
+    {
+        return map.get(nextText());
+    }
+}
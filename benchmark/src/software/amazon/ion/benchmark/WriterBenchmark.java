@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+import software.amazon.ion.system.IonReaderBuilder;
+import software.amazon.ion.system.IonTextWriterBuilder;
+
+/**
+ * Measures encoding of a whole corpus. Binary output goes through
+ * {@code IonManagedBinaryWriter}, text output through
+ * {@code IonWriterSystemText}. The {@code format} parameter of
+ * {@link CorpusState} selects the <em>source</em> encoding for the
+ * reader-to-writer benchmarks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriterBenchmark
+{
+    @State(Scope.Thread)
+    public static class Output
+    {
+        public ByteArrayOutputStream out;
+
+        @Setup(Level.Invocation)
+        public void reset()
+        {
+            if (out == null)
+            {
+                out = new ByteArrayOutputStream(1 << 20);
+            }
+            out.reset();
+        }
+    }
+
+    private static final IonBinaryWriterBuilder BINARY =
+        IonBinaryWriterBuilder.standard().immutable();
+    private static final IonTextWriterBuilder TEXT =
+        IonTextWriterBuilder.standard().immutable();
+    private static final IonTextWriterBuilder PRETTY =
+        IonTextWriterBuilder.pretty().immutable();
+    private static final IonTextWriterBuilder JSON =
+        IonTextWriterBuilder.json().immutable();
+    private static final IonReaderBuilder READER =
+        IonReaderBuilder.standard().immutable();
+
+    @Benchmark
+    public int domToBinary(CorpusState state, Output output)
+        throws Exception
+    {
+        return writeDom(state, BINARY.build(output.out), output);
+    }
+
+    @Benchmark
+    public int domToText(CorpusState state, Output output)
+        throws Exception
+    {
+        return writeDom(state, TEXT.build(output.out), output);
+    }
+
+    @Benchmark
+    public int domToPrettyText(CorpusState state, Output output)
+        throws Exception
+    {
+        return writeDom(state, PRETTY.build(output.out), output);
+    }
+
+    @Benchmark
+    public int domToJson(CorpusState state, Output output)
+        throws Exception
+    {
+        return writeDom(state, JSON.build(output.out), output);
+    }
+
+    @Benchmark
+    public int readerToBinary(CorpusState state, Output output)
+        throws Exception
+    {
+        return writeReader(state, BINARY.build(output.out), output);
+    }
+
+    @Benchmark
+    public int readerToText(CorpusState state, Output output)
+        throws Exception
+    {
+        return writeReader(state, TEXT.build(output.out), output);
+    }
+
+    private static int writeDom(CorpusState state,
+                                IonWriter writer,
+                                Output output)
+        throws Exception
+    {
+        for (IonValue value : state.datagram)
+        {
+            value.writeTo(writer);
+        }
+        writer.close();
+        return output.out.size();
+    }
+
+    private static int writeReader(CorpusState state,
+                                   IonWriter writer,
+                                   Output output)
+        throws Exception
+    {
+        IonReader reader = READER.build(state.encoded);
+        writer.writeValues(reader);
+        writer.close();
+        reader.close();
+        return output.out.size();
+    }
+}
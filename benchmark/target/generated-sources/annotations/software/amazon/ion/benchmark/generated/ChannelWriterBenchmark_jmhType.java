@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class ChannelWriterBenchmark_jmhType extends ChannelWriterBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class CorpusState_jmhType extends CorpusState_jmhType_B3 {
+}
+
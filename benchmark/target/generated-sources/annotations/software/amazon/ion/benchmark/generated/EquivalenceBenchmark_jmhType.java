@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class EquivalenceBenchmark_jmhType extends EquivalenceBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class LoaderBenchmark_jmhType extends LoaderBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class PipeScratch_jmhType extends PipeScratch_jmhType_B3 {
+}
+
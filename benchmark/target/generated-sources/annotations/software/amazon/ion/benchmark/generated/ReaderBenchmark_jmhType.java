@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class ReaderBenchmark_jmhType extends ReaderBenchmark_jmhType_B3 {
+}
+
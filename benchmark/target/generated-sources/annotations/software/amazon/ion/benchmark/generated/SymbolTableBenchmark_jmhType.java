@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class SymbolTableBenchmark_jmhType extends SymbolTableBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class WriterBenchmark_Output_jmhType extends WriterBenchmark_Output_jmhType_B3 {
+}
+
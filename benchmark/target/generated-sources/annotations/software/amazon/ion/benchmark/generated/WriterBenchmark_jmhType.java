@@ -0,0 +1,4 @@
+package software.amazon.ion.benchmark.generated;
+public class WriterBenchmark_jmhType extends WriterBenchmark_jmhType_B3 {
+}
+
@@ -287,6 +287,22 @@ public class Decimal
         return ibd;
     }
 
+    /**
+     * Translates a character array representation of a decimal, as accepted
+     * by {@link BigDecimal#BigDecimal(char[], int, int)}, into a Decimal,
+     * without first making a {@link String} of it.
+     */
+    public static Decimal valueOf(char[] in, int offset, int len)
+    {
+        boolean negative = (len > 0 && in[offset] == '-');
+        Decimal ibd = new Decimal(in, offset, len);
+        if (negative && ibd.signum() == 0)
+        {
+            ibd = new NegativeZero(ibd.scale());
+        }
+        return ibd;
+    }
+
     public static Decimal valueOf(String val, MathContext mc)
     {
         boolean negative = val.startsWith("-");
@@ -358,7 +374,6 @@ public class Decimal
     }
 
 
-    // TODO create static valueOf to check for -0
     private Decimal(char[] in, int offset, int len)
     {
         super(in, offset, len);
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+import software.amazon.ion.util.FieldNameSet;
+
+/**
+ * An {@link IonReader} facet providing the symbol ID of the current field
+ * name as it's encoded, so that field names can be compared without
+ * resolving them to text.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ * The ID is only meaningful with respect to the reader's current
+ * {@link IonReader#getSymbolTable() symbol table}; {@link FieldNameSet}
+ * takes care of resolving names against each table as it changes.
+ */
+public interface FieldIdProvider
+{
+    /**
+     * Gets the symbol ID of the field name of the current value, without
+     * looking it up in the symbol table.
+     *
+     * @return the symbol ID, or {@link SymbolTable#UNKNOWN_SYMBOL_ID} if the
+     * current value isn't a struct field.
+     */
+    public int getFieldId();
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+import java.nio.ByteBuffer;
+import software.amazon.ion.system.IonReaderBuilder;
+
+/**
+ * An {@link IonReader} over Ion binary data that is pushed to it in chunks,
+ * as it arrives from a non-blocking source, rather than pulled from a
+ * stream.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * Instances are built by {@link IonReaderBuilder#buildIncremental()}.
+ * Bytes given to {@link #feed(ByteBuffer)} are buffered until they complete
+ * a top-level value, and only complete values are visible to the reader, so
+ * it never blocks or fails on a value that has only partially arrived.
+ * When every complete value has been read, {@link #next()} returns null at
+ * top-level and {@link #needsData()} returns true; after more data is fed,
+ * {@link #next()} continues from where it stopped. Bytes are examined once
+ * to find value boundaries and are not parsed again when reading resumes.
+ * Symbol tables carry over from one chunk to the next, as they would in a
+ * single stream.
+ * <p>
+ * Instances are <b>not</b> thread-safe.
+ */
+public interface IonIncrementalReader
+    extends IonReader
+{
+    /**
+     * Copies the remaining bytes of the given buffer to the end of this
+     * reader's input, advancing the buffer's position to its limit.
+     *
+     * @param chunk the next bytes of the Ion binary stream; must not be null.
+     *
+     * @throws IllegalStateException if {@link #endOfInput()} has been
+     * called.
+     */
+    public void feed(ByteBuffer chunk);
+
+
+    /**
+     * Copies the given bytes to the end of this reader's input.
+     *
+     * @throws IllegalStateException if {@link #endOfInput()} has been
+     * called.
+     */
+    public void feed(byte[] chunk, int offset, int length);
+
+
+    /**
+     * Determines whether this reader has read every complete top-level value
+     * fed so far, so that it can't proceed until more data is fed.
+     *
+     * @return true if the most recent call to {@link #next()} at top-level
+     * returned null for lack of input.
+     */
+    public boolean needsData();
+
+
+    /**
+     * Declares that no more data will be fed, after which {@link #next()}
+     * returning null at top-level signals the true end of the stream.
+     *
+     * @throws UnexpectedEofException if the data fed so far ends part way
+     * through a value.
+     */
+    public void endOfInput();
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion;
+
+import java.io.InputStream;
+import software.amazon.ion.system.IonReaderBuilder;
+import software.amazon.ion.system.IonReaderPool;
+
+/**
+ * An {@link IonReader} facet providing the ability to re-target a reader at
+ * a new source of Ion binary data, reusing its buffers and decoder state
+ * rather than building a new reader per message.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This facet is available from binary readers built by
+ * {@link IonReaderBuilder}. After a reset, the reader behaves exactly as a
+ * reader newly built over the given data with the same configuration: it's
+ * positioned before the first value, and symbol tables from the previous
+ * source are forgotten. Any previous source is abandoned without being
+ * closed.
+ * <p>
+ * Gzipped data is detected and uncompressed as it is by the builder.
+ * Ion text cannot be read by a binary reader; see {@link IonReaderPool} for
+ * transparently handling both.
+ */
+public interface ResettableReader
+{
+    /**
+     * Re-targets this reader at a new block of Ion binary data.
+     *
+     * @param ionData the source of the Ion data, which is used only within
+     * the range of bytes starting at {@code offset} for {@code length} bytes.
+     * The reader retains a reference to the array, so its data must not be
+     * modified while the reader is active. Must not be null.
+     *
+     * @throws IonException if the data is not Ion binary, after which this
+     * reader can't be used until it's successfully reset.
+     */
+    public void reset(byte[] ionData, int offset, int length);
+
+
+    /**
+     * Re-targets this reader at a new stream of Ion binary data.
+     * Callers must call {@link IonReader#close()} when finished with it,
+     * to close the stream.
+     *
+     * @param ionData the source of the Ion data. Must not be null.
+     *
+     * @throws IonException if the data is not Ion binary, after which this
+     * reader can't be used until it's successfully reset; or if the source
+     * throws {@link java.io.IOException}.
+     */
+    public void reset(InputStream ionData);
+}
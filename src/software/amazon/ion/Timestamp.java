@@ -169,8 +169,25 @@ public final class Timestamp
      * <p>
      * This calendar instance is adjusted such that it is always in UTC;  see _calendarCompensationOffsetMs
      * if the original "instant" millis is needed.
+     * <p>
+     * Timestamps built from individual fields (which includes everything the
+     * readers produce) start out without a calendar and hold their fields in
+     * {@link #_year} and friends instead; one is created by {@link #calendar()}
+     * only when calendar arithmetic or conversion is needed.
      */
-    private final Calendar _calendar;
+    private volatile Calendar _calendar;
+
+    /**
+     * The UTC date and time fields. Fields beyond the precision hold their
+     * minimum values. A {@code _year} of zero means they aren't in use and
+     * {@link #_calendar} holds the Timestamp's fields instead.
+     */
+    private short _year;
+    private byte  _month;
+    private byte  _day;
+    private byte  _hour;
+    private byte  _minute;
+    private byte  _second;
 
     /**
      * Fractional seconds. Must be within range [0, 1).
@@ -211,6 +228,15 @@ public final class Timestamp
         if (offset < -24*60 || offset > 24*60) {
             throw new IllegalArgumentException("bad offset " + offset);
         }
+        if (_year > GREGORIAN_CUTOVER_YEAR)
+        {
+            applyOffsetToFields(offset);
+            _calendar = null;
+            return;
+        }
+        Calendar calendar = calendar();
+        _year = 0;
+
         // To convert _to_ UTC you must SUBTRACT the local offset
         offset = -offset;
         int hour_offset = offset / 60;
@@ -219,16 +245,89 @@ public final class Timestamp
         // When we add hour_offset and min_offset to _calendar below, the underlying millis "instant"
         // is changed.  To compensate, we set _calendarCompensationOffsetMs here and use it to
         // recalculate the correct millis if/when needed
-        if (_calendar.isSet(Calendar.ZONE_OFFSET) || _calendar.isSet(Calendar.DST_OFFSET)) {
+        if (calendar.isSet(Calendar.ZONE_OFFSET) || calendar.isSet(Calendar.DST_OFFSET)) {
             _calendarCompensationOffsetMs = -offset * 60 * 1000;
         }
 
         // First, clear the offsets that are already set. Otherwise, the 'add' calls will add them in, which will
         // result in a double add.
-        _calendar.clear(Calendar.ZONE_OFFSET);
-        _calendar.clear(Calendar.DST_OFFSET);
-        _calendar.add(Calendar.HOUR_OF_DAY, hour_offset);
-        _calendar.add(Calendar.MINUTE, min_offset);
+        calendar.clear(Calendar.ZONE_OFFSET);
+        calendar.clear(Calendar.DST_OFFSET);
+        calendar.add(Calendar.HOUR_OF_DAY, hour_offset);
+        calendar.add(Calendar.MINUTE, min_offset);
+    }
+
+    /**
+     * The field-based equivalent of {@link #apply_offset(int)}, for years
+     * after {@link #GREGORIAN_CUTOVER_YEAR}. The offset is within a day, so
+     * this rolls the date over by one day at most.
+     */
+    private void applyOffsetToFields(int offset)
+    {
+        int minutes = _hour * 60 + _minute - offset;
+        int dayDelta = 0;
+        if (minutes < 0) {
+            minutes += 24 * 60;
+            dayDelta = -1;
+        }
+        else if (minutes >= 24 * 60) {
+            minutes -= 24 * 60;
+            dayDelta = 1;
+        }
+        _hour = (byte) (minutes / 60);
+        _minute = (byte) (minutes % 60);
+
+        int year = _year;
+        int month = _month;
+        int day = _day + dayDelta;
+        if (day < 1) {
+            if (--month < 1) {
+                month = 12;
+                year--;
+            }
+            day = lastDayInMonth(year, month);
+        }
+        else if (day > lastDayInMonth(year, month)) {
+            day = 1;
+            if (++month > 12) {
+                month = 1;
+                year++;
+            }
+        }
+        _year = (short) year;
+        _month = (byte) month;
+        _day = (byte) day;
+    }
+
+    /**
+     * Returns this Timestamp's calendar, creating it from the UTC fields if
+     * it doesn't have one yet. Callers that modify the calendar must set
+     * {@link #_year} to zero.
+     */
+    private Calendar calendar()
+    {
+        Calendar calendar = _calendar;
+        if (calendar == null)
+        {
+            assert _year != 0;
+            calendar = new GregorianCalendar(PrivateUtils.UTC);
+            calendar.clear();
+            switch (_precision) {
+            case SECOND:
+                calendar.set(Calendar.SECOND, _second);
+            case MINUTE:
+                calendar.set(Calendar.MINUTE, _minute);
+                calendar.set(Calendar.HOUR_OF_DAY, _hour);
+            case DAY:
+                calendar.set(Calendar.DAY_OF_MONTH, _day);
+            case MONTH:
+                calendar.set(Calendar.MONTH, _month - 1);
+            case YEAR:
+                calendar.set(Calendar.YEAR, _year);
+            }
+            _calendar = calendar;
+        }
+        return calendar;
     }
 
     /**
@@ -393,9 +492,9 @@ public final class Timestamp
                       int zhour, int zminute, int zsecond, BigDecimal frac,
                       Integer offset, boolean shouldApplyOffset)
     {
-        _calendar = new GregorianCalendar(PrivateUtils.UTC);
-        _calendar.clear();
         boolean dayPrecision = false;
+        _month = 1;
+        _day = 1;
 
         switch (p) {
         default:
@@ -409,27 +508,33 @@ public final class Timestamp
             {
                 _fraction = frac.abs();
             }
-            _calendar.set(Calendar.SECOND, checkAndCastSecond(zsecond));
+            _second = checkAndCastSecond(zsecond);
         case MINUTE:
-            _calendar.set(Calendar.MINUTE, checkAndCastMinute(zminute));
-            _calendar.set(Calendar.HOUR_OF_DAY, checkAndCastHour(zhour));
+            _minute = checkAndCastMinute(zminute);
+            _hour = checkAndCastHour(zhour);
             _offset = offset;      // offset must be null for years/months/days
         case DAY:
              dayPrecision = true;
         case MONTH:
-            _calendar.set(Calendar.MONTH, checkAndCastMonth(zmonth) - 1);
+            _month = checkAndCastMonth(zmonth);
         case YEAR:
-            _calendar.set(Calendar.YEAR, checkAndCastYear(zyear));
+            _year = checkAndCastYear(zyear);
         }
 
         if (dayPrecision)
         {
             checkCalendarDay(zday);
-            _calendar.set(Calendar.DAY_OF_MONTH, zday);
+            _day = (byte) zday;
         }
 
         _precision = checkFraction(p, _fraction);
 
+        if (_year <= GREGORIAN_CUTOVER_YEAR) {
+            // Leave the Julian calendar and the cutover gap to Calendar.
+            calendar();
+            _year = 0;
+        }
+
         if (shouldApplyOffset && offset != null) {
             apply_offset(offset);
         }
@@ -972,7 +1077,34 @@ public final class Timestamp
     @Override
     public Timestamp clone()
     {
-        return new Timestamp((Calendar) _calendar.clone(), _precision, _fraction, _offset);
+        return copy(_offset);
+    }
+
+    /**
+     * Copies this Timestamp, replacing its local offset. The copy shares
+     * nothing mutable with this instance.
+     */
+    private Timestamp copy(Integer offset)
+    {
+        if (_year == 0)
+        {
+            return new Timestamp((Calendar) _calendar.clone(), _precision, _fraction, offset);
+        }
+        return new Timestamp(this, offset);
+    }
+
+    /** Copies a Timestamp's UTC fields; see {@link #copy}. */
+    private Timestamp(Timestamp source, Integer offset)
+    {
+        _precision = source._precision;
+        _fraction  = source._fraction;
+        _offset    = offset;
+        _year      = source._year;
+        _month     = source._month;
+        _day       = source._day;
+        _hour      = source._hour;
+        _minute    = source._minute;
+        _second    = source._second;
     }
 
     /**
@@ -1314,7 +1446,7 @@ public final class Timestamp
      */
     public Calendar calendarValue()
     {
-        Calendar cal = (Calendar) _calendar.clone();
+        Calendar cal = (Calendar) calendar().clone();
         if (_precision.includes(Precision.SECOND)) {
             if (this._fraction != null)
             {
@@ -1352,7 +1484,7 @@ public final class Timestamp
      */
     public long getMillis()
     {
-        long millis = _calendar.getTimeInMillis();
+        long millis = calendarMillis();
         if (this._fraction != null) {
             BigDecimal fracAsDecimal = this._fraction.movePointRight(3);
             int frac = isIntegralZero(fracAsDecimal) ? 0 : fracAsDecimal.intValue();
@@ -1362,6 +1494,21 @@ public final class Timestamp
 
     }
 
+    /**
+     * Returns the epoch millis of the calendar fields, ignoring any fraction
+     * and {@link #_calendarCompensationOffsetMs}. Computed directly from the
+     * UTC fields when they're in use.
+     */
+    private long calendarMillis()
+    {
+        if (_year > GREGORIAN_CUTOVER_YEAR)
+        {
+            long days = epochDay(_year, _month, _day);
+            return (((days * 24 + _hour) * 60 + _minute) * 60 + _second) * 1000;
+        }
+        return calendar().getTimeInMillis();
+    }
+
     /**
      * Returns a BigDecimal representing the Timestamp's point in time that is
      * the number of milliseconds (<em>including</em> any fractional milliseconds)
@@ -1382,7 +1529,7 @@ public final class Timestamp
         case DAY:
         case MINUTE:
         case SECOND:
-            long millis = _calendar.getTimeInMillis() + _calendarCompensationOffsetMs;
+            long millis = calendarMillis() + _calendarCompensationOffsetMs;
             BigDecimal dec = BigDecimal.valueOf(millis);
             if (_fraction != null) {
                 dec = dec.add(this._fraction.movePointRight(3));
@@ -1574,7 +1721,7 @@ public final class Timestamp
      */
     public int getZYear()
     {
-        return this._calendar.get(Calendar.YEAR);
+        return _year != 0 ? _year : _calendar.get(Calendar.YEAR);
     }
 
 
@@ -1589,7 +1736,7 @@ public final class Timestamp
      */
     public int getZMonth()
     {
-        return this._calendar.get(Calendar.MONTH) + 1;
+        return _year != 0 ? _month : _calendar.get(Calendar.MONTH) + 1;
     }
 
 
@@ -1603,7 +1750,7 @@ public final class Timestamp
      */
     public int getZDay()
     {
-        return this._calendar.get(Calendar.DAY_OF_MONTH);
+        return _year != 0 ? _day : _calendar.get(Calendar.DAY_OF_MONTH);
     }
 
 
@@ -1617,7 +1764,7 @@ public final class Timestamp
      */
     public int getZHour()
     {
-        return this._calendar.get(Calendar.HOUR_OF_DAY);
+        return _year != 0 ? _hour : _calendar.get(Calendar.HOUR_OF_DAY);
     }
 
 
@@ -1631,7 +1778,7 @@ public final class Timestamp
      */
     public int getZMinute()
     {
-        return this._calendar.get(Calendar.MINUTE);
+        return _year != 0 ? _minute : _calendar.get(Calendar.MINUTE);
     }
 
 
@@ -1649,7 +1796,7 @@ public final class Timestamp
      */
     public int getZSecond()
     {
-        return this._calendar.get(Calendar.SECOND);
+        return _year != 0 ? _second : _calendar.get(Calendar.SECOND);
     }
 
 
@@ -1709,7 +1856,7 @@ public final class Timestamp
         {
             return this;
         }
-        return new Timestamp((Calendar) _calendar.clone(), precision, _fraction, offset);
+        return copy(offset);
     }
 
 
@@ -2030,8 +2177,10 @@ public final class Timestamp
     private Timestamp calendarAdd(int field, int amount, Precision precision) {
         if (amount == 0 && _precision == precision) return this;
         Timestamp timestamp = make_localtime();
-        timestamp._calendar.add(field, amount);
-        checkCalendarYear(timestamp._calendar);
+        Calendar calendar = timestamp.calendar();
+        timestamp._year = 0;
+        calendar.add(field, amount);
+        checkCalendarYear(calendar);
         if (_offset != null) {
             timestamp.apply_offset(_offset);
             timestamp._offset = _offset;
@@ -2044,16 +2193,18 @@ public final class Timestamp
      * Clears any fields more precise than this Timestamp's precision supports.
      */
     private void clearUnusedPrecision() {
+        Calendar calendar = calendar();
+        _year = 0;
         switch (_precision) {
             case YEAR:
-                _calendar.set(Calendar.MONTH, 0);
+                calendar.set(Calendar.MONTH, 0);
             case MONTH:
-                _calendar.set(Calendar.DAY_OF_MONTH, 1);
+                calendar.set(Calendar.DAY_OF_MONTH, 1);
             case DAY:
-                _calendar.set(Calendar.HOUR_OF_DAY, 0);
-                _calendar.set(Calendar.MINUTE, 0);
+                calendar.set(Calendar.HOUR_OF_DAY, 0);
+                calendar.set(Calendar.MINUTE, 0);
             case MINUTE:
-                _calendar.set(Calendar.SECOND, 0);
+                calendar.set(Calendar.SECOND, 0);
                 _fraction = null;
             case SECOND:
         }
@@ -2548,12 +2699,55 @@ public final class Timestamp
     }
 
     private void checkCalendarDay(int day) {
-        int lastDayInMonth = _calendar.getActualMaximum(Calendar.DAY_OF_MONTH);
-        if (day > lastDayInMonth || day < _calendar.getActualMinimum(Calendar.DAY_OF_MONTH)) {
+        int lastDayInMonth = lastDayInMonth(_year, _month);
+        if (day > lastDayInMonth || day < 1) {
             throw new IllegalArgumentException(String.format("Day %s for year %s and month %s must be between 1 and %s inclusive", day, getZYear(), getZMonth(), lastDayInMonth));
         }
     }
 
+    /**
+     * The last year whose dates are Julian under the default
+     * {@link GregorianCalendar}, which switches over in October 1582.
+     */
+    private static final int GREGORIAN_CUTOVER_YEAR = 1582;
+
+    /**
+     * Returns the number of days in the month, following the leap year rules
+     * of the default {@link GregorianCalendar} on both sides of the cutover.
+     */
+    private static int lastDayInMonth(int year, int month)
+    {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0)
+                    && (year <= GREGORIAN_CUTOVER_YEAR
+                        || year % 100 != 0 || year % 400 == 0);
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the given proleptic
+     * Gregorian date.
+     */
+    private static long epochDay(int year, int month, int day)
+    {
+        // Shift the year to start in March so leap days fall at its end.
+        if (month <= 2) year--;
+        int era = year / 400;
+        int yearOfEra = year - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
     private static byte checkAndCastHour(int hour)
     {
         if (hour < 0 || hour > 23)
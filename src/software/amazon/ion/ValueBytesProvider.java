@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IonReader} facet providing direct access to the encoded content
+ * of the current value, so that text and lob values can be compared, hashed,
+ * or routed without materializing a {@link String} or {@code byte[]}.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ * The bytes are exposed as a view onto the reader's internal buffers: they
+ * must not be modified, and are only valid until the reader is moved by
+ * {@link IonReader#next() next()}, {@link IonReader#stepIn() stepIn()} or
+ * {@link IonReader#stepOut() stepOut()}.
+ * <p>
+ * For strings the bytes are the value's UTF-8 encoding; for symbols they're
+ * the UTF-8 encoding of the symbol's text; for blobs and clobs they're the
+ * raw content. Other types cause an {@link IllegalStateException}, as does a
+ * lob whose content has already been read in full.
+ * Null values have no bytes: {@link #currentBytes()} and
+ * {@link #currentBytesArray()} return null.
+ */
+public interface ValueBytesProvider
+{
+    /**
+     * Gets a read-only buffer over the content of the current value,
+     * positioned at its start with its limit at its end.
+     *
+     * @return null if the current value is null.
+     *
+     * @throws UnknownSymbolException if the current value is a symbol with
+     * unknown text.
+     */
+    public ByteBuffer currentBytes();
+
+
+    /**
+     * Gets the array holding the content of the current value, located by
+     * {@link #currentBytesOffset()} and {@link #currentBytesLength()}.
+     * Unlike {@link #currentBytes()} this doesn't allocate.
+     *
+     * @return null if the current value is null.
+     *
+     * @throws UnknownSymbolException if the current value is a symbol with
+     * unknown text.
+     */
+    public byte[] currentBytesArray();
+
+
+    /**
+     * Gets the offset of the current value's content within
+     * {@link #currentBytesArray()}.
+     */
+    public int currentBytesOffset();
+
+
+    /**
+     * Gets the length of the current value's content, or -1 if the value is
+     * null.
+     */
+    public int currentBytesLength();
+
+
+    /**
+     * Compares the content of the current value with the given bytes, as
+     * unsigned bytes in lexicographic order. For text this orders as
+     * {@link String#compareTo(String)} would for characters in the Basic
+     * Multilingual Plane, and in code point order in general.
+     *
+     * @param utf8 the bytes to compare against, typically UTF-8 text.
+     *
+     * @return a negative number, zero, or a positive number as the current
+     * value is less than, equal to, or greater than the given bytes.
+     *
+     * @throws NullValueException if the current value is null.
+     */
+    public int compareCurrentBytes(byte[] utf8, int offset, int length);
+}
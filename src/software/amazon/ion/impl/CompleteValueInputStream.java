@@ -0,0 +1,231 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import software.amazon.ion.IonException;
+
+/**
+ * Buffers chunks of Ion binary data and exposes, as a stream, only the bytes
+ * of complete top-level values.  At the end of the complete values the
+ * stream reports end-of-file, which a binary reader sees as the ordinary
+ * end of its input; it can continue once more values are complete.
+ * <p>
+ * Value boundaries are found from the type descriptors and lengths of the
+ * top-level values alone, and the header of a value that has only partially
+ * arrived is scanned only once.
+ */
+final class CompleteValueInputStream
+    extends InputStream
+{
+    private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    /** The type descriptor of the first byte of the binary version marker. */
+    private static final int IVM_TYPE_DESC =
+        PrivateIonConstants.BINARY_VERSION_MARKER_1_0[0] & 0xff;
+
+    private byte[] _bytes;
+    /** The next byte to hand to the reader. */
+    private int    _pos;
+    /** The end of the complete top-level values. */
+    private int    _complete;
+    /** The end of the data fed so far. */
+    private int    _limit;
+    /**
+     * The end of the value starting at {@link #_complete}, once its header
+     * has been scanned, or -1.
+     */
+    private long   _value_end;
+
+    CompleteValueInputStream()
+    {
+        _bytes = new byte[DEFAULT_BUFFER_SIZE];
+        _value_end = -1;
+    }
+
+    void feed(byte[] chunk, int offset, int length)
+    {
+        if (offset < 0 || length < 0 || offset > chunk.length - length)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        ensure_capacity(length);
+        System.arraycopy(chunk, offset, _bytes, _limit, length);
+        _limit += length;
+        scan();
+    }
+
+    void feed(ByteBuffer chunk)
+    {
+        int length = chunk.remaining();
+        ensure_capacity(length);
+        chunk.get(_bytes, _limit, length);
+        _limit += length;
+        scan();
+    }
+
+    /** @return true if a top-level value has only partially arrived. */
+    boolean has_partial_value()
+    {
+        return _limit > _complete;
+    }
+
+    /** @return true if there are complete bytes not yet read. */
+    boolean has_unread_bytes()
+    {
+        return _pos < _complete;
+    }
+
+    private void ensure_capacity(int length)
+    {
+        if (_limit + length <= _bytes.length)
+        {
+            return;
+        }
+
+        // drop the bytes the reader already has
+        int kept = _limit - _pos;
+        byte[] dest = _bytes;
+        if (kept + length > _bytes.length)
+        {
+            long size = Math.max((long) _bytes.length * 2, (long) kept + length);
+            if (size > Integer.MAX_VALUE)
+            {
+                throw new IonException("Incomplete value exceeds the maximum buffer size");
+            }
+            dest = new byte[(int) size];
+        }
+        System.arraycopy(_bytes, _pos, dest, 0, kept);
+        _bytes = dest;
+        _complete -= _pos;
+        _limit -= _pos;
+        if (_value_end != -1)
+        {
+            _value_end -= _pos;
+        }
+        _pos = 0;
+    }
+
+    /** Advances {@link #_complete} over every top-level value now complete. */
+    private void scan()
+    {
+        for (;;)
+        {
+            if (_value_end == -1)
+            {
+                _value_end = scan_header(_complete);
+                if (_value_end == -1)
+                {
+                    return;
+                }
+            }
+            if (_value_end > _limit)
+            {
+                return;
+            }
+            _complete = (int) _value_end;
+            _value_end = -1;
+        }
+    }
+
+    /**
+     * @return the end of the value starting at {@code start}, or -1 if its
+     * header is incomplete.
+     */
+    private long scan_header(int start)
+    {
+        if (start >= _limit)
+        {
+            return -1;
+        }
+        int td = _bytes[start] & 0xff;
+        int tid = PrivateIonConstants.getTypeCode(td);
+        int len = PrivateIonConstants.getLowNibble(td);
+        int pos = start + 1;
+
+        if (td == IVM_TYPE_DESC)
+        {
+            return start + PrivateIonConstants.BINARY_VERSION_MARKER_SIZE;
+        }
+        if (len == PrivateIonConstants.lnIsNull
+            || tid == PrivateIonConstants.tidBoolean
+            || tid == PrivateIonConstants.tidUnused)
+        {
+            // the length nibble holds the value, or the reserved type
+            // descriptor is left for the reader to reject
+            return pos;
+        }
+        if (len == PrivateIonConstants.lnIsVarLen
+            || (tid == PrivateIonConstants.tidStruct && len == 1))
+        {
+            long value = 0;
+            for (;;)
+            {
+                if (pos >= _limit)
+                {
+                    return -1;
+                }
+                int b = _bytes[pos++] & 0xff;
+                value = (value << 7) | (b & 0x7f);
+                if (value > Integer.MAX_VALUE)
+                {
+                    throw new IonException("Top-level value length exceeds "
+                                          + Integer.MAX_VALUE + " bytes");
+                }
+                if ((b & 0x80) != 0)
+                {
+                    break;
+                }
+            }
+            return pos + value;
+        }
+        return pos + len;
+    }
+
+    @Override
+    public int read()
+    {
+        if (_pos >= _complete)
+        {
+            return -1;
+        }
+        return _bytes[_pos++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len)
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+        int available = _complete - _pos;
+        if (available <= 0)
+        {
+            return -1;
+        }
+        int n = Math.min(len, available);
+        System.arraycopy(_bytes, _pos, b, off, n);
+        _pos += n;
+        return n;
+    }
+
+    @Override
+    public int available()
+    {
+        return _complete - _pos;
+    }
+}
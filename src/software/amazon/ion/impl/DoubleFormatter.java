@@ -0,0 +1,298 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.math.BigInteger;
+
+/**
+ * Formats doubles for Ion text using the shortest decimal that reads back
+ * as the same double, following the Schubfach algorithm described by
+ * Raffaello Giulietti in "The Schubfach way to render doubles" (2020).
+ * <p>
+ * The layout matches what {@link PrivateIonTextAppender} has always derived
+ * from {@link Double#toString(double)}: plain notation with an {@code e0}
+ * suffix for magnitudes in [10<sup>-3</sup>, 10<sup>7</sup>), and
+ * {@code d.dddE<exp>} otherwise. Only the digits may differ, since
+ * {@link Double#toString(double)} doesn't always produce the shortest ones.
+ * <p>
+ * Instances hold scratch space and are <b>not</b> thread-safe.
+ */
+final class DoubleFormatter
+{
+    /** Upper bound on the number of chars written by {@link #format}. */
+    static final int MAX_CHARS = 32;
+
+    private static final int  P       = 53;     // precision, in bits
+    private static final int  Q_MIN   = -1074;  // minimum binary exponent
+    private static final long C_MIN   = 1L << (P - 1);
+    private static final long C_TINY  = 3;      // subnormals below need a digit more
+    private static final int  K_MIN   = -324;
+    private static final int  K_MAX   = 292;
+    private static final int  BQ_MASK = (1 << 11) - 1;
+    private static final long T_MASK  = C_MIN - 1;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * For each k in [K_MIN, K_MAX], 10<sup>-k</sup> scaled by a power of two
+     * into [2<sup>125</sup>, 2<sup>126</sup>), plus one, split into two
+     * 63-bit halves.
+     */
+    private static final long[] G;
+    static
+    {
+        G = new long[(K_MAX - K_MIN + 1) * 2];
+        BigInteger ten = BigInteger.TEN;
+        for (int k = K_MIN; k <= K_MAX; k++)
+        {
+            int r = flog2pow10(-k) - 125;
+            BigInteger num = ten.pow(Math.max(-k, 0));
+            BigInteger den = ten.pow(Math.max(k, 0));
+            if (r < 0) {
+                num = num.shiftLeft(-r);
+            } else {
+                den = den.shiftLeft(r);
+            }
+            BigInteger g = num.divide(den).add(BigInteger.ONE);
+            G[(k - K_MIN) << 1]       = g.shiftRight(63).longValue();
+            G[(k - K_MIN) << 1 | 1]   = g.longValue() & MASK_63;
+        }
+    }
+
+    private final char[] myDigits = new char[20];
+
+    /** Results of {@link #toDecimal(int, long, int)}. */
+    private long mySignificand;
+    private int  myExponent;
+
+
+    /**
+     * Writes a finite, non-zero double into {@code out} starting at index 0.
+     *
+     * @param out must have room for {@link #MAX_CHARS} chars.
+     *
+     * @return the number of chars written.
+     */
+    int format(double v, char[] out)
+    {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        assert bq < BQ_MASK && (bq != 0 || t != 0);
+
+        int pos = 0;
+        if (bits < 0) {
+            out[pos++] = '-';
+        }
+
+        if (bq != 0) {
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            long f = (0 < mq && mq < P) ? c >> mq : 0;
+            if (f != 0 && f << mq == c) {
+                // Integers below 2^53 are their own shortest decimal.
+                mySignificand = f;
+                myExponent = 0;
+            } else {
+                toDecimal(-mq, c, 0);
+            }
+        } else if (t < C_TINY) {
+            toDecimal(Q_MIN, 10 * t, -1);
+        } else {
+            toDecimal(Q_MIN, t, 0);
+        }
+        return toChars(mySignificand, myExponent, out, pos);
+    }
+
+    /**
+     * Finds the shortest decimal in the rounding interval of
+     * c&times;2<sup>q</sup>, closest to it on ties of length.
+     */
+    private void toDecimal(int q, long c, int dk)
+    {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN | q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G[(k - K_MIN) << 1];
+        long g0 = G[(k - K_MIN) << 1 | 1];
+
+        long vb  = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // Try one digit fewer first.
+            long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                mySignificand = upin ? sp10 : tp10;
+                myExponent = k;
+                return;
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            mySignificand = uin ? s : t;
+        } else {
+            long cmp = vb - ((s + t) << 1);
+            mySignificand = (cmp < 0 || cmp == 0 && (s & 0x1) == 0) ? s : t;
+        }
+        myExponent = k + dk;
+    }
+
+    /** Writes f&times;10<sup>e</sup> in the layout described above. */
+    private int toChars(long f, int e, char[] out, int pos)
+    {
+        // Strip trailing zeros, in big steps first since f often has many.
+        while (f % 100000000L == 0) {
+            f /= 100000000L;
+            e += 8;
+        }
+        if (f % 10000 == 0) {
+            f /= 10000;
+            e += 4;
+        }
+        if (f % 100 == 0) {
+            f /= 100;
+            e += 2;
+        }
+        if (f % 10 == 0) {
+            f /= 10;
+            e += 1;
+        }
+
+        // Generate digits eight at a time using int arithmetic.
+        char[] digits = myDigits;
+        int start = digits.length;
+        while (f >= 100000000L) {
+            long q = f / 100000000L;
+            int r = (int) (f - q * 100000000L);
+            for (int i = 0; i < 8; i++) {
+                digits[--start] = (char) ('0' + r % 10);
+                r /= 10;
+            }
+            f = q;
+        }
+        int r = (int) f;
+        do {
+            digits[--start] = (char) ('0' + r % 10);
+            r /= 10;
+        } while (r != 0);
+        int n = digits.length - start;
+
+        // The value is 0.<digits> x 10^exp
+        int exp = n + e;
+        if (-2 <= exp && exp <= 7) {
+            if (exp <= 0) {
+                out[pos++] = '0';
+                out[pos++] = '.';
+                for (int i = exp; i < 0; i++) out[pos++] = '0';
+                pos = copy(digits, start, n, out, pos);
+            } else if (exp >= n) {
+                pos = copy(digits, start, n, out, pos);
+                for (int i = n; i < exp; i++) out[pos++] = '0';
+            } else {
+                pos = copy(digits, start, exp, out, pos);
+                out[pos++] = '.';
+                pos = copy(digits, start + exp, n - exp, out, pos);
+            }
+            out[pos++] = 'e';
+            out[pos++] = '0';
+        } else {
+            out[pos++] = digits[start];
+            out[pos++] = '.';
+            if (n > 1) {
+                pos = copy(digits, start + 1, n - 1, out, pos);
+            } else {
+                out[pos++] = '0';
+            }
+            out[pos++] = 'E';
+            int x = exp - 1;
+            if (x < 0) {
+                out[pos++] = '-';
+                x = -x;
+            }
+            if (x >= 100) out[pos++] = (char) ('0' + x / 100);
+            if (x >= 10)  out[pos++] = (char) ('0' + x / 10 % 10);
+            out[pos++] = (char) ('0' + x % 10);
+        }
+        return pos;
+    }
+
+    private static int copy(char[] src, int start, int len,
+                            char[] out, int pos)
+    {
+        System.arraycopy(src, start, out, pos, len);
+        return pos + len;
+    }
+
+
+    /**
+     * Rounds g&times;cp&times;2<sup>-127</sup> to odd, where g is the
+     * 126-bit value split into g1 and g0.
+     */
+    private static long rop(long g1, long g0, long cp)
+    {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+
+    /** High 64 bits of the 128-bit product of two non-negative longs. */
+    private static long multiplyHigh(long x, long y)
+    {
+        long x1 = x >>> 32, x0 = x & 0xFFFFFFFFL;
+        long y1 = y >>> 32, y0 = y & 0xFFFFFFFFL;
+        long t = x1 * y0 + ((x0 * y0) >>> 32);
+        long w1 = x0 * y1 + (t & 0xFFFFFFFFL);
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+
+    /** floor(e log10(2)) */
+    private static int flog10pow2(int e)
+    {
+        return (int) (e * 661971961083L >> 41);
+    }
+
+    /** floor(e log10(2) + log10(3/4)) */
+    private static int flog10threeQuartersPow2(int e)
+    {
+        return (int) (e * 661971961083L + -274743187321L >> 41);
+    }
+
+    /** floor(e log2(10)) */
+    private static int flog2pow10(int e)
+    {
+        return (int) (e * 913124641741L >> 38);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonIncrementalReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.ResettableReader;
+import software.amazon.ion.UnexpectedEofException;
+import software.amazon.ion.impl.UnifiedInputStreamX.FromByteStream;
+
+/**
+ * A binary user reader over a {@link CompleteValueInputStream}, which picks
+ * up again after reaching the end of the complete values once more have
+ * been fed.
+ */
+final class IonReaderBinaryIncrementalX
+    extends IonReaderBinaryUserX
+    implements IonIncrementalReader
+{
+    private final CompleteValueInputStream _chunks;
+    private boolean _end_of_input;
+
+    private IonReaderBinaryIncrementalX(IonCatalog catalog,
+                                        PrivateLocalSymbolTableFactory lstFactory,
+                                        CompleteValueInputStream chunks)
+        throws IOException
+    {
+        super(catalog, lstFactory, new FromByteStream(chunks), 0);
+        _chunks = chunks;
+    }
+
+    static IonReaderBinaryIncrementalX make(IonCatalog catalog,
+                                            PrivateLocalSymbolTableFactory lstFactory)
+    {
+        try
+        {
+            return new IonReaderBinaryIncrementalX(catalog, lstFactory,
+                                                   new CompleteValueInputStream());
+        }
+        catch (IOException e)
+        {
+            // the stream is in memory and empty
+            throw new IonException(e);
+        }
+    }
+
+    public void feed(ByteBuffer chunk)
+    {
+        check_feed();
+        _chunks.feed(chunk);
+    }
+
+    public void feed(byte[] chunk, int offset, int length)
+    {
+        check_feed();
+        _chunks.feed(chunk, offset, length);
+    }
+
+    private void check_feed()
+    {
+        if (_end_of_input)
+        {
+            throw new IllegalStateException("Cannot feed data after the end of input");
+        }
+    }
+
+    public boolean needsData()
+    {
+        return !_end_of_input && _eof && getDepth() == 0
+            && !_chunks.has_unread_bytes();
+    }
+
+    public void endOfInput()
+    {
+        if (_chunks.has_partial_value())
+        {
+            throw new UnexpectedEofException("Input ends part way through a top-level value");
+        }
+        _end_of_input = true;
+    }
+
+    @Override
+    public IonType next()
+    {
+        if (getDepth() == 0 && _chunks.has_unread_bytes())
+        {
+            if (_eof)
+            {
+                resume_after_eof();
+            }
+            else
+            {
+                // the input may have run dry while we weren't at the end,
+                // as when nothing had been fed yet
+                _input.resume_after_eof();
+            }
+        }
+        return super.next();
+    }
+
+    @Override
+    public <T> T asFacet(Class<T> facetType)
+    {
+        // the input can't be replaced
+        if (facetType == ResettableReader.class)
+        {
+            return null;
+        }
+        return super.asFacet(facetType);
+    }
+}
@@ -142,6 +142,45 @@ abstract class IonReaderBinaryRawX
         _container_top = 0;
     }
 
+    /**
+     * Releases this reader's hold on its current input, in preparation for
+     * {@link #reset_raw} re-targeting it (or replacing it).
+     */
+    final void release_input() {
+        _input._save_points.deactivateAll();
+        clear_value();
+    }
+
+    /**
+     * Re-initializes this reader over the given input, which is either its
+     * current input after being re-targeted, or a replacement. Buffers and
+     * other allocations are retained.
+     * Callers must {@link #release_input} first.
+     */
+    final void reset_raw(UnifiedInputStreamX uis) {
+        if (uis != _input) {
+            _input = uis;
+            _annotations = uis.savePointAllocate();
+        }
+
+        re_init_raw();
+
+        _position_start = -1;
+        _position_len = 0;
+    }
+
+    /**
+     * Lets a reader that reached the end of its input at top-level continue
+     * from the same position, once its input has more data.
+     */
+    final void resume_after_eof() {
+        assert getDepth() == 0;
+        _input.resume_after_eof();
+        _state = State.S_BEFORE_TID;
+        _has_next_needed = true;
+        _eof = false;
+    }
+
     public void close()
         throws IOException
     {
@@ -430,6 +469,8 @@ abstract class IonReaderBinaryRawX
         _v.clear();
         _annotation_count = 0;
         _value_field_id = SymbolTable.UNKNOWN_SYMBOL_ID;
+        _value_bytes = null;
+        _value_bytes_staged = false;
     }
 
     /**
@@ -712,6 +753,15 @@ abstract class IonReaderBinaryRawX
             return 0;
         }
         int read_len;
+        if (_value_bytes_staged) {
+            // the content was already consumed by load_value_bytes()
+            read_len = Math.min(value_len, _value_lob_remaining);
+            int consumed = _value_bytes_len - _value_lob_remaining;
+            System.arraycopy(_value_bytes, _value_bytes_start + consumed,
+                             buffer, offset, read_len);
+            _value_lob_remaining -= read_len;
+            return read_len;
+        }
         try {
             read_len = read(buffer, offset, value_len);
             _value_lob_remaining -= read_len;
@@ -1164,73 +1214,294 @@ abstract class IonReaderBinaryRawX
         }
     }
 
+    /**
+     * Strings read into a freshly allocated buffer, rather than the reusable
+     * ones, when longer than this, so one huge value doesn't stay pinned.
+     */
+    private static final int MAX_RETAINED_STRING_BUFFER = 32 * 1024;
+    /** ASCII strings up to this many bytes long are eligible for caching. */
+    static final int STRING_CACHE_MAX_LENGTH = 32;
+    private static final int STRING_CACHE_SIZE = 256; // must be a power of 2
+
+    private byte[]   _string_bytes;  // staging for strings that span pages
+    private char[]   _string_chars;  // decode target for non-ASCII strings
+    private String[] _string_cache;  // null unless enabled
+
+    /**
+     * Enables or disables a small cache of recently decoded short ASCII
+     * strings, so that repeated values (enumerations, host names, etc.)
+     * are returned as the same {@link String} instance instead of being
+     * allocated anew. This trades some hashing on every short string for
+     * fewer allocations, so is a win only when values do repeat.
+     */
+    final void setStringCacheEnabled(boolean enabled)
+    {
+        if (!enabled) {
+            _string_cache = null;
+        }
+        else if (_string_cache == null) {
+            _string_cache = new String[STRING_CACHE_SIZE];
+        }
+    }
+
     protected final String readString(int len) throws IOException
     {
-        // len is bytes, which is greater than or equal to java
-        // chars even after utf8 to utf16 decoding nonsense
-        // the char array is way faster than using string buffer
-        char[] chars = new char[len];
-        int    c, ii = 0;
-        int    save_limit = _local_remaining - len;
+        if (len == 0) {
+            return "";
+        }
+        int save_limit = _local_remaining;
+        if (save_limit != NO_LIMIT && !_value_bytes_staged) {
+            save_limit -= len;
+        }
+
+        // Decode straight out of the input page when the value lies
+        // entirely within it, which is nearly always.
+        UnifiedInputStreamX input = _input;
+        int pos = input._pos;
+        byte[] bytes;
+        int start;
+        if (_value_bytes_staged) {
+            bytes = _value_bytes;
+            start = _value_bytes_start;
+        }
+        else if (len <= input._limit - pos) {
+            bytes = input._bytes;
+            start = pos;
+            input._pos = pos + len;
+        }
+        else {
+            bytes = (len > MAX_RETAINED_STRING_BUFFER) ? new byte[len] : string_bytes(len);
+            start = 0;
+            _local_remaining = len;
+            readAll(bytes, 0, len);
+        }
+        _local_remaining = save_limit;
+        if (!_value_bytes_staged) {
+            // remember where the content was, until the reader moves on
+            _value_bytes = bytes;
+            _value_bytes_start = start;
+            _value_bytes_len = len;
+        }
+
+        // ASCII fast path, hashing as we go for the cache
+        int end = start + len;
+        int hash = 0;
+        int ii = start;
+        while (ii < end) {
+            int b = bytes[ii];
+            if (b < 0) break;
+            hash = 31 * hash + b;
+            ii++;
+        }
+        if (ii == end) {
+            return make_ascii_string(bytes, start, len, hash);
+        }
+        return decode_utf8(bytes, start, ii, end);
+    }
+
+    /**
+     * The content of the current string, symbol, or lob value once located
+     * by {@link #load_value_bytes()} or {@link #readString(int)}; null
+     * otherwise. This may alias the input page, so is only valid until the
+     * reader moves.
+     */
+    byte[]           _value_bytes;
+    int              _value_bytes_start;
+    int              _value_bytes_len;
+    /** True when the content had to be consumed from the input to be located. */
+    private boolean  _value_bytes_staged;
+    private byte[]   _symbol_bytes;  // UTF-8 encoding of the current symbol
+
+    /**
+     * Locates the content of the current non-null string or lob value,
+     * leaving it in place (and unconsumed) when it lies entirely within the
+     * current input page. Otherwise it's staged into a buffer, from which
+     * the value's getters will subsequently read. After a partial read of a
+     * lob, only its unread remainder is located.
+     */
+    final void load_value_bytes() throws IOException
+    {
+        if (_value_bytes != null) {
+            return;
+        }
+        if (_state != State.S_BEFORE_VALUE) {
+            throw new IllegalStateException("the value's content has already been read");
+        }
+
+        int len = _value_len;
+        UnifiedInputStreamX input = _input;
+        if (len <= input._limit - input._pos) {
+            _value_bytes = input._bytes;
+            _value_bytes_start = input._pos;
+            _value_bytes_len = len;
+            return;
+        }
+
+        int save_limit = _local_remaining;
+        if (save_limit != NO_LIMIT) {
+            save_limit -= len;
+        }
+        byte[] bytes = (len > MAX_RETAINED_STRING_BUFFER) ? new byte[len] : string_bytes(len);
         _local_remaining = len;
-        while (!isEOF()) {
-            c = readUnicodeScalar();
-            if (c < 0) throwUnexpectedEOFException();
-            if (c < 0x10000) {
-                chars[ii++] = (char)c;
+        readAll(bytes, 0, len);
+        _local_remaining = save_limit;
+
+        _value_bytes = bytes;
+        _value_bytes_start = 0;
+        _value_bytes_len = len;
+        _value_bytes_staged = true;
+        _state = State.S_AFTER_VALUE;
+    }
+
+    /**
+     * Makes the UTF-8 encoding of the given symbol text the current value
+     * bytes, encoding it into a reusable buffer.
+     */
+    final void load_symbol_bytes(String text)
+    {
+        int max = text.length() * 3;
+        byte[] bytes = _symbol_bytes;
+        if (bytes == null || bytes.length < max) {
+            bytes = new byte[Math.max(max, 64)];
+            if (max <= MAX_RETAINED_STRING_BUFFER) {
+                _symbol_bytes = bytes;
             }
-            else { // when c is >= 0x10000 we need surrogate encoding
-                chars[ii++] = (char)PrivateIonConstants.makeHighSurrogate(c);
-                chars[ii++] = (char)PrivateIonConstants.makeLowSurrogate(c);
+        }
+        int len = 0;
+        int count = text.length();
+        for (int ii=0; ii<count; ii++) {
+            int c = text.charAt(ii);
+            if (c < 0x80) {
+                bytes[len++] = (byte) c;
+                continue;
             }
+            if (IonUTF8.isHighSurrogate(c) && ii + 1 < count
+                && IonUTF8.isLowSurrogate(text.charAt(ii + 1))) {
+                c = IonUTF8.getUnicodeScalarFromSurrogates(c, text.charAt(++ii));
+            }
+            len += IonUTF8.convertToUTF8Bytes(c, bytes, len, bytes.length - len);
         }
-        _local_remaining = save_limit;
-        return new String(chars, 0, ii);
+        _value_bytes = bytes;
+        _value_bytes_start = 0;
+        _value_bytes_len = len;
     }
-    private final int readUnicodeScalar() throws IOException
+
+    private byte[] string_bytes(int len)
     {
-        int c = -1, b;
-        b = read();
-        // ascii is all good, even -1 (eof)
-        if (IonUTF8.isOneByteUTF8(b)) {
-            return b;
+        if (_string_bytes == null || _string_bytes.length < len) {
+            _string_bytes = new byte[Math.max(len, 256)];
         }
-        switch(IonUTF8.getUTF8LengthFromFirstByte(b)) {
-        case 2:
-            // now we start gluing the multi-byte value together
-            assert((b & 0xe0) == 0xc0);
-            // for values from 0x80 to 0x7FF (all legal)
-            int b2 = read();
-            if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
-            c = IonUTF8.twoByteScalar(b, b2);
-            break;
-        case 3:
-            assert((b & 0xf0) == 0xe0);
-            // for values from 0x800 to 0xFFFFF (NOT all legal)
-            b2 = read();
-            if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
-            int b3 = read();
-            if (!IonUTF8.isContinueByteUTF8(b3)) throwUTF8Exception();
-            c = IonUTF8.threeByteScalar(b, b2, b3);
-            break;
-        case 4:
-            assert((b & 0xf8) == 0xf0);
-            // for values from 0x010000 to 0x1FFFFF (NOT all legal)
-            b2 = read();
-            if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
-            b3 = read();
-            if (!IonUTF8.isContinueByteUTF8(b3)) throwUTF8Exception();
-            int b4 = read();
-            if (!IonUTF8.isContinueByteUTF8(b4)) throwUTF8Exception();
-            c = IonUTF8.fourByteScalar(b, b2, b3, b4);
-            if (c > 0x10FFFF) {
-                throw new IonException("illegal utf value encountered in input utf-8 stream");
+        return _string_bytes;
+    }
+
+    private char[] string_chars(int len)
+    {
+        if (len > MAX_RETAINED_STRING_BUFFER) {
+            return new char[len];
+        }
+        if (_string_chars == null || _string_chars.length < len) {
+            _string_chars = new char[Math.max(len, 256)];
+        }
+        return _string_chars;
+    }
+
+    @SuppressWarnings("deprecation")
+    private String make_ascii_string(byte[] bytes, int start, int len, int hash)
+    {
+        String[] cache = _string_cache;
+        if (cache == null || len > STRING_CACHE_MAX_LENGTH) {
+            // this (deprecated) constructor copies the bytes without decoding
+            return new String(bytes, 0, start, len);
+        }
+        int idx = (hash ^ (hash >>> 16)) & (STRING_CACHE_SIZE - 1);
+        String cached = cache[idx];
+        if (cached != null
+            && cached.hashCode() == hash
+            && cached.length() == len
+            && ascii_matches(cached, bytes, start)) {
+            return cached;
+        }
+        String s = new String(bytes, 0, start, len);
+        cache[idx] = s;
+        return s;
+    }
+
+    private static boolean ascii_matches(String s, byte[] bytes, int start)
+    {
+        int len = s.length();
+        for (int ii=0; ii<len; ii++) {
+            if (s.charAt(ii) != bytes[start + ii]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes UTF-8 whose first {@code ascii_end - start} bytes are already
+     * known to be ASCII.
+     */
+    private String decode_utf8(byte[] bytes, int start, int ascii_end, int end)
+        throws IOException
+    {
+        // len is bytes, which is greater than or equal to java
+        // chars even after utf8 to utf16 decoding nonsense
+        char[] chars = string_chars(end - start);
+        int ci = 0;
+        int ii = start;
+        while (ii < ascii_end) {
+            chars[ci++] = (char) bytes[ii++];
+        }
+        while (ii < end) {
+            int b = bytes[ii++] & 0xff;
+            if (IonUTF8.isOneByteUTF8(b)) {
+                chars[ci++] = (char) b;
+                continue;
+            }
+            int c = -1;
+            switch (IonUTF8.getUTF8LengthFromFirstByte(b)) {
+            case 2:
+                // for values from 0x80 to 0x7FF (all legal)
+                if (end - ii < 1) throwUTF8Exception();
+                int b2 = bytes[ii++] & 0xff;
+                if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
+                c = IonUTF8.twoByteScalar(b, b2);
+                break;
+            case 3:
+                // for values from 0x800 to 0xFFFFF (NOT all legal)
+                if (end - ii < 2) throwUTF8Exception();
+                b2 = bytes[ii++] & 0xff;
+                if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
+                int b3 = bytes[ii++] & 0xff;
+                if (!IonUTF8.isContinueByteUTF8(b3)) throwUTF8Exception();
+                c = IonUTF8.threeByteScalar(b, b2, b3);
+                break;
+            case 4:
+                // for values from 0x010000 to 0x1FFFFF (NOT all legal)
+                if (end - ii < 3) throwUTF8Exception();
+                b2 = bytes[ii++] & 0xff;
+                if (!IonUTF8.isContinueByteUTF8(b2)) throwUTF8Exception();
+                b3 = bytes[ii++] & 0xff;
+                if (!IonUTF8.isContinueByteUTF8(b3)) throwUTF8Exception();
+                int b4 = bytes[ii++] & 0xff;
+                if (!IonUTF8.isContinueByteUTF8(b4)) throwUTF8Exception();
+                c = IonUTF8.fourByteScalar(b, b2, b3, b4);
+                if (c > 0x10FFFF) {
+                    throw new IonException("illegal utf value encountered in input utf-8 stream");
+                }
+                break;
+            default:
+                throwUTF8Exception();
+            }
+            if (c < 0x10000) {
+                chars[ci++] = (char)c;
+            }
+            else { // when c is >= 0x10000 we need surrogate encoding
+                chars[ci++] = (char)PrivateIonConstants.makeHighSurrogate(c);
+                chars[ci++] = (char)PrivateIonConstants.makeLowSurrogate(c);
             }
-            break;
-        default:
-            throwUTF8Exception();
         }
-        return c;
+        return new String(chars, 0, ci);
     }
     private final void throwUTF8Exception() throws IOException
     {
@@ -30,6 +30,7 @@ import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.Timestamp;
 import software.amazon.ion.UnknownSymbolException;
+import software.amazon.ion.ValueBytesProvider;
 import software.amazon.ion.impl.PrivateScalarConversions.AS_TYPE;
 import software.amazon.ion.impl.PrivateScalarConversions.ValueVariant;
 
@@ -431,6 +432,45 @@ class IonReaderBinarySystemX
         return _v.getInt();
     }
 
+    /**
+     * Locates the content of the current value for {@link ValueBytesProvider}.
+     *
+     * @return false if the current value is null.
+     */
+    final boolean load_current_bytes()
+    {
+        if (_value_type == null) {
+            throw new IllegalStateException("no current value");
+        }
+        switch (_value_type) {
+        case STRING:
+        case CLOB:
+        case BLOB:
+            if (_value_is_null) return false;
+            try {
+                load_value_bytes();
+            }
+            catch (IOException e) {
+                error(e);
+            }
+            return true;
+        case SYMBOL:
+            if (_value_is_null) return false;
+            if (_value_bytes == null) {
+                int sid = getSymbolId();
+                String text = _symbols.findKnownSymbol(sid);
+                if (text == null) {
+                    throw new UnknownSymbolException(sid);
+                }
+                load_symbol_bytes(text);
+            }
+            return true;
+        default:
+            throw new IllegalStateException("current value has no content bytes: "
+                                            + _value_type);
+        }
+    }
+
     public final String getFieldName()
     {
         String name;
@@ -18,20 +18,28 @@ import static software.amazon.ion.SystemSymbols.ION_1_0_SID;
 import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import software.amazon.ion.FieldIdProvider;
 import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
 import software.amazon.ion.IonType;
+import software.amazon.ion.NullValueException;
 import software.amazon.ion.OffsetSpan;
+import software.amazon.ion.ResettableReader;
 import software.amazon.ion.SeekableReader;
 import software.amazon.ion.Span;
 import software.amazon.ion.SpanProvider;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.UnknownSymbolException;
+import software.amazon.ion.ValueBytesProvider;
 import software.amazon.ion.impl.PrivateScalarConversions.AS_TYPE;
 import software.amazon.ion.impl.UnifiedInputStreamX.FromByteArray;
 import software.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
 
-final class IonReaderBinaryUserX
+class IonReaderBinaryUserX
     extends IonReaderBinarySystemX
     implements PrivateReaderWriter
 {
@@ -40,12 +48,18 @@ final class IonReaderBinaryUserX
      * It must be subtracted from the logical offsets exposed by
      * {@link OffsetSpan}s.
      */
-    private final int _physical_start_offset;
-    private final PrivateLocalSymbolTableFactory _lstFactory;
+    private int _physical_start_offset;
+    final PrivateLocalSymbolTableFactory _lstFactory;
 
     IonCatalog  _catalog;
 
-    private static final class IonReaderBinarySpan
+    /** Created on demand, and kept since pooled readers ask for it often. */
+    private ResettableReader _resettable;
+
+    /** Created on demand, and kept since field filters ask for it often. */
+    private FieldIdProvider _field_ids;
+
+    static final class IonReaderBinarySpan
         extends DowncastingFaceted
         implements Span, OffsetSpan
     {
@@ -83,6 +97,21 @@ final class IonReaderBinaryUserX
         _catalog = catalog;
     }
 
+    /**
+     * Re-initializes this reader over new input, as if newly constructed
+     * with the same catalog and factory.
+     * Callers must {@link #release_input} first.
+     *
+     * @see PrivateIonReaderFactory#resetReader(IonReader, byte[], int, int)
+     */
+    final void reset_user(UnifiedInputStreamX uis, int physicalStartOffset)
+    {
+        reset_raw(uis);
+        _physical_start_offset = physicalStartOffset;
+        clear_system_value_stack();
+        init_user(_catalog);
+    }
+
 
     /**
      * Determines the abstract position of the reader, such that one can
@@ -312,6 +341,29 @@ final class IonReaderBinaryUserX
             return facetType.cast(new SpanProviderFacet());
         }
 
+        if (facetType == ValueBytesProvider.class)
+        {
+            return facetType.cast(new ValueBytesProviderFacet());
+        }
+
+        if (facetType == FieldIdProvider.class)
+        {
+            if (_field_ids == null)
+            {
+                _field_ids = new FieldIdProviderFacet();
+            }
+            return facetType.cast(_field_ids);
+        }
+
+        if (facetType == ResettableReader.class)
+        {
+            if (_resettable == null)
+            {
+                _resettable = new ResettableReaderFacet();
+            }
+            return facetType.cast(_resettable);
+        }
+
         // TODO amzn/ion-java#17 support seeking over InputStream
         if (_input instanceof FromByteArray)
         {
@@ -343,6 +395,44 @@ final class IonReaderBinaryUserX
     }
 
 
+    private class ResettableReaderFacet implements ResettableReader
+    {
+        public void reset(byte[] ionData, int offset, int length)
+        {
+            IonReader reader =
+                PrivateIonReaderFactory.resetReader(IonReaderBinaryUserX.this,
+                                                    ionData, offset, length);
+            check_reset(reader);
+        }
+
+        public void reset(InputStream ionData)
+        {
+            IonReader reader =
+                PrivateIonReaderFactory.resetReader(IonReaderBinaryUserX.this,
+                                                    ionData);
+            check_reset(reader);
+        }
+
+        private void check_reset(IonReader reader)
+        {
+            if (reader != IonReaderBinaryUserX.this)
+            {
+                throw new IonException("Only Ion binary data can be read " +
+                                       "by a reset binary reader");
+            }
+        }
+    }
+
+
+    private class FieldIdProviderFacet implements FieldIdProvider
+    {
+        public int getFieldId()
+        {
+            return _value_field_id;
+        }
+    }
+
+
     private class SpanProviderFacet implements SpanProvider
     {
         public Span currentSpan()
@@ -352,6 +442,50 @@ final class IonReaderBinaryUserX
     }
 
 
+    private class ValueBytesProviderFacet implements ValueBytesProvider
+    {
+        public ByteBuffer currentBytes()
+        {
+            if (! load_current_bytes()) return null;
+            return ByteBuffer.wrap(_value_bytes, _value_bytes_start, _value_bytes_len)
+                             .slice()
+                             .asReadOnlyBuffer();
+        }
+
+        public byte[] currentBytesArray()
+        {
+            return load_current_bytes() ? _value_bytes : null;
+        }
+
+        public int currentBytesOffset()
+        {
+            return load_current_bytes() ? _value_bytes_start : 0;
+        }
+
+        public int currentBytesLength()
+        {
+            return load_current_bytes() ? _value_bytes_len : -1;
+        }
+
+        public int compareCurrentBytes(byte[] utf8, int offset, int length)
+        {
+            if (! load_current_bytes()) throw new NullValueException();
+
+            byte[] bytes = _value_bytes;
+            int start = _value_bytes_start;
+            int len = _value_bytes_len;
+            int common = Math.min(len, length);
+            for (int ii = 0; ii < common; ii++)
+            {
+                int a = bytes[start + ii] & 0xff;
+                int b = utf8[offset + ii] & 0xff;
+                if (a != b) return a - b;
+            }
+            return len - length;
+        }
+    }
+
+
     private class SeekableReaderFacet
         extends SpanProviderFacet
         implements SeekableReader
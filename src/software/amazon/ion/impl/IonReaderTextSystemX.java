@@ -59,6 +59,9 @@ class IonReaderTextSystemX
 {
     private static int UNSIGNED_BYTE_MAX_VALUE = 255;
 
+    /** Holds the text of a decimal while it's parsed. */
+    private char[] _decimal_chars = new char[32];
+
     SymbolTable _system_symtab;
 
     protected IonReaderTextSystemX(UnifiedInputStreamX iis)
@@ -113,95 +116,6 @@ class IonReaderTextSystemX
         }
     }
 
-    enum Radix
-    {
-        DECIMAL
-        {
-
-            @Override
-            boolean isInt(String image, int len)
-            {
-                return valueWithinBounds(image, len, MIN_INT_IMAGE, MAX_INT_IMAGE);
-            }
-
-            @Override
-            boolean isLong(String image, int len)
-            {
-                return valueWithinBounds(image, len, MIN_LONG_IMAGE, MAX_LONG_IMAGE);
-            }
-
-        },
-        HEX
-        {
-
-            @Override
-            boolean isInt(String image, int len)
-            {
-                return valueWithinBounds(image, len, MIN_HEX_INT_IMAGE, MAX_HEX_INT_IMAGE);
-            }
-
-            @Override
-            boolean isLong(String image, int len)
-            {
-                return valueWithinBounds(image, len, MIN_HEX_LONG_IMAGE, MAX_HEX_LONG_IMAGE);
-            }
-
-        },
-        BINARY
-        {
-
-            @Override
-            boolean isInt(String image, int len)
-            {
-                return valueWithinBounds(image, len, MIN_BINARY_INT_IMAGE, MAX_BINARY_INT_IMAGE);
-            }
-
-            @Override
-            boolean isLong(String image, int len)
-            {
-                return valueWithinBounds(image, len, MIN_BINARY_LONG_IMAGE, MAX_BINARY_LONG_IMAGE);
-            }
-
-        };
-
-        private static final char[] MAX_INT_IMAGE = Integer.toString(Integer.MAX_VALUE).toCharArray();
-        private static final char[] MIN_INT_IMAGE = Integer.toString(Integer.MIN_VALUE).toCharArray();
-        private static final char[] MAX_LONG_IMAGE = Long.toString(Long.MAX_VALUE).toCharArray();
-        private static final char[] MIN_LONG_IMAGE = Long.toString(Long.MIN_VALUE).toCharArray();
-        private static final char[] MAX_BINARY_INT_IMAGE = Integer.toBinaryString(Integer.MAX_VALUE).toCharArray();
-        private static final char[] MIN_BINARY_INT_IMAGE = ("-" + Integer.toBinaryString(Integer.MIN_VALUE)).toCharArray();
-        private static final char[] MAX_BINARY_LONG_IMAGE = Long.toBinaryString(Long.MAX_VALUE).toCharArray();
-        private static final char[] MIN_BINARY_LONG_IMAGE = ("-" + Long.toBinaryString(Long.MIN_VALUE)).toCharArray();
-        private static final char[] MAX_HEX_INT_IMAGE = Integer.toHexString(Integer.MAX_VALUE).toCharArray();
-        private static final char[] MIN_HEX_INT_IMAGE = ("-" + Integer.toHexString(Integer.MIN_VALUE)).toCharArray();
-        private static final char[] MAX_HEX_LONG_IMAGE = Long.toHexString(Long.MAX_VALUE).toCharArray();
-        private static final char[] MIN_HEX_LONG_IMAGE = ("-" + Long.toHexString(Long.MIN_VALUE)).toCharArray();
-
-        abstract boolean isInt(String image, int len);
-        abstract boolean isLong(String image, int len);
-
-        private static boolean valueWithinBounds(String value, int len, char[] minImage, char[] maxImage)
-        {
-            boolean negative = value.charAt(0) == '-';
-            char[] boundaryImage = negative ? minImage : maxImage;
-            int maxImageLength = boundaryImage.length;
-            return len < maxImageLength || (len == maxImageLength && magnitudeLessThanOrEqualTo(value, len, boundaryImage));
-        }
-
-        private static boolean magnitudeLessThanOrEqualTo(String lhs, int lhsLen, char[] rhs)
-        {
-            assert lhsLen == rhs.length;
-            for (int i = lhsLen - 1; i >= 0; i--)
-            {
-                if (lhs.charAt(i) > rhs[i])
-                {
-                    return false;
-                }
-            }
-            return true;
-        }
-    }
-
     private final void load_scalar_value() throws IOException {
         // make sure we're trying to load a scalar value here
         switch(_value_type) {
@@ -225,68 +139,19 @@ class IonReaderTextSystemX
 
         int token_type = _scanner.getToken();
 
-        if (_value_type == IonType.DECIMAL) {
-            // we do this here (instead of in the case below
-            // so that we can modify the value while it's not
-            // a string, but still in the StringBuilder
-            for (int ii=0; ii<cs.length(); ii++) {
-                int c = cs.charAt(ii);
-                if (c == 'd' || c == 'D') {
-                    cs.setCharAt(ii, 'e');
-                    break;
-                }
-            }
-        } else if (token_type == IonTokenConstsX.TOKEN_HEX || token_type == IonTokenConstsX.TOKEN_BINARY) {
-            boolean isNegative = (cs.charAt(0) == '-');
-            // prefix = is_negative ? "-0x" : "0x";
-            int pos = isNegative ? 1 : 0;
-            char caseChar = token_type == IonTokenConstsX.TOKEN_HEX ? 'x' : 'b';
-            if (cs.length() <= (isNegative ? 3 : 2) || Character.toLowerCase(cs.charAt(pos + 1)) != caseChar) {
-                parse_error("Invalid " + (caseChar == 'x' ? "hexadecimal" : "binary") + " int value.");
-            }
-            cs.deleteCharAt(pos);
-            cs.deleteCharAt(pos);
-        }
-
-
-        int          len = cs.length();
-        String       s  = cs.toString();
-
-        clear_current_value_buffer();
-
-        switch (token_type) {
-        case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
+        if (token_type == IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC) {
             switch (_value_type) {
             case INT:
-                if (Radix.DECIMAL.isInt(s, len)) {
-                    _v.setValue(Integer.parseInt(s));
-                }
-                else if (Radix.DECIMAL.isLong(s, len)) {
-                    _v.setValue(Long.parseLong(s));
-                }
-                else {
-                    _v.setValue(new BigInteger(s));
-                }
+                token_type = IonTokenConstsX.TOKEN_INT;
                 break;
             case DECIMAL:
-                // note that the string was modified above when it was a charsequence
-                try {
-                _v.setValue(Decimal.valueOf(s));
-                }
-                catch (NumberFormatException e) {
-                    parse_error(e);
-                }
+                token_type = IonTokenConstsX.TOKEN_DECIMAL;
                 break;
             case FLOAT:
-                try {
-                    _v.setValue(Double.parseDouble(s));
-                }
-                catch (NumberFormatException e) {
-                    parse_error(e);
-                }
+                token_type = IonTokenConstsX.TOKEN_FLOAT;
                 break;
             case TIMESTAMP:
-                _v.setValue(Timestamp.valueOf(s));
+                token_type = IonTokenConstsX.TOKEN_TIMESTAMP;
                 break;
             default:
                 String message = "unexpected prefectched value type "
@@ -294,70 +159,61 @@ class IonReaderTextSystemX
                                + " encountered handling an unquoted symbol";
                 parse_error(message);
             }
-            break;
+        }
+
+        // numbers are decoded straight from the token buffer
+        switch (token_type) {
         case IonTokenConstsX.TOKEN_INT:
-            if (Radix.DECIMAL.isInt(s, len)) {
-                _v.setValue(Integer.parseInt(s));
-            }
-            else if (Radix.DECIMAL.isLong(s, len)) {
-                _v.setValue(Long.parseLong(s));
-            }
-            else {
-                _v.setValue(new BigInteger(s));
-            }
-            break;
+            load_int_value(cs, 0, 10);
+            clear_current_value_buffer();
+            return;
         case IonTokenConstsX.TOKEN_BINARY:
-            if (Radix.BINARY.isInt(s, len)) {
-                _v.setValue(Integer.parseInt(s, 2));
-            }
-            else if (Radix.BINARY.isLong(s, len)) {
-                _v.setValue(Long.parseLong(s, 2));
-            }
-            else {
-                _v.setValue(new BigInteger(s, 2));
-            }
-            break;
         case IonTokenConstsX.TOKEN_HEX:
-            if (Radix.HEX.isInt(s, len)) {
-                int v_int = Integer.parseInt(s, 16);
-                _v.setValue(v_int);
-            }
-            else if (Radix.HEX.isLong(s, len)) {
-                long v_long = Long.parseLong(s, 16);
-                _v.setValue(v_long);
-            }
-            else {
-                BigInteger v_big_int = new BigInteger(s, 16);
-                _v.setValue(v_big_int);
+        {
+            boolean isNegative = (cs.charAt(0) == '-');
+            // prefix = is_negative ? "-0x" : "0x";
+            int pos = isNegative ? 1 : 0;
+            char caseChar = token_type == IonTokenConstsX.TOKEN_HEX ? 'x' : 'b';
+            if (cs.length() <= (isNegative ? 3 : 2) || Character.toLowerCase(cs.charAt(pos + 1)) != caseChar) {
+                parse_error("Invalid " + (caseChar == 'x' ? "hexadecimal" : "binary") + " int value.");
             }
-            break;
+            load_int_value(cs, pos + 2, (caseChar == 'x' ? 16 : 2));
+            clear_current_value_buffer();
+            return;
+        }
         case IonTokenConstsX.TOKEN_DECIMAL:
-            try {
-            _v.setValue(Decimal.valueOf(s));
-            }
-            catch (NumberFormatException e) {
-                parse_error(e);
-            }
-            break;
+            load_decimal_value(cs);
+            clear_current_value_buffer();
+            return;
         case IonTokenConstsX.TOKEN_FLOAT:
             try {
-                _v.setValue(Double.parseDouble(s));
+                _v.setValue(Double.parseDouble(cs.toString()));
             }
             catch (NumberFormatException e) {
                 parse_error(e);
             }
-
-            break;
+            clear_current_value_buffer();
+            return;
         case IonTokenConstsX.TOKEN_TIMESTAMP:
             Timestamp t = null;
             try {
-                t = Timestamp.valueOf(s);
+                t = Timestamp.valueOf(cs);
             }
             catch (IllegalArgumentException e) {
                 parse_error(e);
             }
             _v.setValue(t);
+            clear_current_value_buffer();
+            return;
+        default:
             break;
+        }
+
+        String       s  = cs.toString();
+
+        clear_current_value_buffer();
+
+        switch (token_type) {
         case IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER:
             // this includes the various value keywords like true
             // and nan, in addition to "normal" unquoted symbols
@@ -428,6 +284,65 @@ class IonReaderTextSystemX
             parse_error("scalar token "+IonTokenConstsX.getTokenName(_scanner.getToken())+"isn't a recognized type");
         }
     }
+    /**
+     * Accumulates the digits of an int into a long, falling back to
+     * {@link BigInteger} only when the value doesn't fit.
+     *
+     * @param start the index of the first digit, after any sign or radix
+     * prefix.
+     */
+    private final void load_int_value(CharSequence cs, int start, int radix) {
+        boolean negative = (cs.charAt(0) == '-');
+        if (start == 0 && (negative || cs.charAt(0) == '+')) {
+            start = 1;
+        }
+
+        // accumulate negatively, since Long.MIN_VALUE has the larger magnitude
+        long limit = (negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+        long multmin = limit / radix;
+        long result = 0;
+        int len = cs.length();
+        for (int ii = start; ii < len; ii++) {
+            int digit = Character.digit(cs.charAt(ii), radix);
+            if (digit < 0 || result < multmin || result * radix < limit + digit) {
+                String digits = cs.subSequence(start, len).toString();
+                _v.setValue(new BigInteger(negative ? "-" + digits : digits, radix));
+                return;
+            }
+            result = result * radix - digit;
+        }
+
+        long value = (negative ? result : -result);
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            _v.setValue((int) value);
+        }
+        else {
+            _v.setValue(value);
+        }
+    }
+
+    private final void load_decimal_value(StringBuilder cs) {
+        int len = cs.length();
+        if (_decimal_chars.length < len) {
+            _decimal_chars = new char[Math.max(len, _decimal_chars.length * 2)];
+        }
+        char[] chars = _decimal_chars;
+        cs.getChars(0, len, chars, 0);
+        for (int ii = 0; ii < len; ii++) {
+            char c = chars[ii];
+            if (c == 'd' || c == 'D') {
+                chars[ii] = 'e';
+                break;
+            }
+        }
+        try {
+            _v.setValue(Decimal.valueOf(chars, 0, len));
+        }
+        catch (NumberFormatException e) {
+            parse_error(e);
+        }
+    }
+
     private final void cast_cached_value(int new_type)
     {
         // this should only be called when it actually has to do some work
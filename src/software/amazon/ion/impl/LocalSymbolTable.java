@@ -29,10 +29,8 @@ import static software.amazon.ion.impl.PrivateUtils.safeEquals;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
@@ -101,28 +99,45 @@ class LocalSymbolTable
     private final LocalSymbolTableImports myImportsList;
 
     /**
-     * Map of symbol names to symbol ids of local symbols that are not in
-     * imports.
+     * Open-addressed hash table of the tokens of local symbols that are not
+     * in imports, keyed by their text; the lowest sid wins for duplicated
+     * text. The tokens are immutable and cached here so that lookups don't
+     * allocate.
+     * <p>
+     * Lookups don't lock: new tokens are only ever stored into empty slots,
+     * and a grown table is fully built before it is published. Readers must
+     * ignore any token whose sid is not yet covered by
+     * {@link #mySymbolsCount}.
+     */
+    private volatile SymbolToken[] mySymbolIndex;
+
+    /**
+     * The number of tokens in {@link #mySymbolIndex}. Only accessed with
+     * this table locked, or during construction.
      */
-    private final Map<String, Integer> mySymbolsMap;
+    private int mySymbolIndexSize;
 
     /**
      * Whether this symbol table is read only, and thus, immutable.
      */
-    private boolean isReadOnly;
+    private volatile boolean isReadOnly;
 
     /**
      * The local symbol names declared in this symtab; never null.
      * The sid of the first element is {@link #myFirstLocalSid}.
      * Only the first {@link #mySymbolsCount} elements are valid.
+     * <p>
+     * Symbols are appended in place, and the array is replaced when it
+     * grows. Unlocked readers must read {@link #mySymbolsCount} before
+     * this, so that the elements they read are published.
      */
-    String[] mySymbolNames;
+    volatile String[] mySymbolNames;
 
     /**
      * This is the number of symbols defined in this symbol table
      * locally, that is not imported from some other table.
      */
-    int mySymbolsCount;
+    volatile int mySymbolsCount;
 
     /**
      * The sid of the first local symbol, which is stored at
@@ -134,19 +149,123 @@ class LocalSymbolTable
     // Private constructor(s) and static factory methods
     //==========================================================================
 
-    private void buildSymbolsMap()
+    private void buildSymbolIndex()
     {
+        int count = mySymbolsCount;
+        mySymbolIndex = newSymbolIndex(count);
+        mySymbolIndexSize = 0;
+
         int sid = myFirstLocalSid;
-        for (int i = 0; i < mySymbolNames.length; i++, sid++)
+        for (int i = 0; i < count; i++, sid++)
         {
             String symbolText = mySymbolNames[i];
             if (symbolText != null)
             {
-                putToMapIfNotThere(mySymbolsMap, symbolText, sid);
+                addToSymbolIndex(symbolText, sid);
+            }
+        }
+    }
+
+    private static SymbolToken[] newSymbolIndex(int symbolCount)
+    {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < symbolCount * 2)
+        {
+            capacity <<= 1;
+        }
+        return new SymbolToken[capacity];
+    }
+
+    private static int symbolIndexSlot(String text, int mask)
+    {
+        int h = text.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * @return the token with the given text in the index, or null.
+     */
+    private static SymbolToken findInSymbolIndex(SymbolToken[] index,
+                                                 String text)
+    {
+        int mask = index.length - 1;
+        for (int slot = symbolIndexSlot(text, mask); ; slot = (slot + 1) & mask)
+        {
+            SymbolToken token = index[slot];
+            if (token == null || text.equals(token.getText()))
+            {
+                return token;
             }
         }
     }
 
+    /**
+     * Stores into an empty slot, so it cannot disturb concurrent lookups.
+     */
+    private static void storeInSymbolIndex(SymbolToken[] index,
+                                           SymbolToken token)
+    {
+        int mask = index.length - 1;
+        int slot = symbolIndexSlot(token.getText(), mask);
+        while (index[slot] != null)
+        {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = token;
+    }
+
+    /**
+     * NOT SYNCHRONIZED! Call within constructor or from synch'd method.
+     * When there's a duplicate name, the lower sid is kept.
+     */
+    private void addToSymbolIndex(String text, int sid)
+    {
+        SymbolToken[] index = mySymbolIndex;
+        if (findInSymbolIndex(index, text) != null)
+        {
+            // We always insert symbols with increasing sids
+            return;
+        }
+
+        SymbolToken token = new SymbolTokenImpl(text, sid);
+        if ((mySymbolIndexSize + 1) * 2 > index.length)
+        {
+            SymbolToken[] grown = new SymbolToken[index.length * 2];
+            for (SymbolToken extant : index)
+            {
+                if (extant != null)
+                {
+                    storeInSymbolIndex(grown, extant);
+                }
+            }
+            storeInSymbolIndex(grown, token);
+            mySymbolIndex = grown;
+        }
+        else
+        {
+            storeInSymbolIndex(index, token);
+        }
+        mySymbolIndexSize++;
+    }
+
+    /**
+     * Finds a local symbol without locking.
+     *
+     * @return null if the text isn't declared locally.
+     */
+    private SymbolToken findLocalToken(String text)
+    {
+        // Read the count first, so we don't return a symbol that's still
+        // being added.
+        int count = mySymbolsCount;
+        SymbolToken token = findInSymbolIndex(mySymbolIndex, text);
+        if (token != null && token.getSid() - myFirstLocalSid < count)
+        {
+            return token;
+        }
+        return null;
+    }
+
 
     /**
      * @param imports           never null
@@ -168,9 +287,8 @@ class LocalSymbolTable
         myImportsList = imports;
         myFirstLocalSid = myImportsList.getMaxId() + 1;
 
-        // Copy locally declared symbols to mySymbolsMap
-        mySymbolsMap = new HashMap<String, Integer>();
-        buildSymbolsMap();
+        // Index locally declared symbols
+        buildSymbolIndex();
     }
 
     /**
@@ -186,16 +304,16 @@ class LocalSymbolTable
 
         mySymbolNames   = copyOf(other.mySymbolNames, mySymbolsCount);
 
-        // Copy locally declared symbols to mySymbolsMap
+        // Index locally declared symbols
         if (maxId == other.getMaxId())
         {
-            // Shallow copy
-            mySymbolsMap = new HashMap<String, Integer>(other.mySymbolsMap);
+            // The tokens are immutable, so they can be shared
+            mySymbolIndex     = other.mySymbolIndex.clone();
+            mySymbolIndexSize = other.mySymbolIndexSize;
         }
         else
         {
-            mySymbolsMap = new HashMap<String, Integer>(mySymbolsCount);
-            buildSymbolsMap();
+            buildSymbolIndex();
         }
     }
 
@@ -346,7 +464,7 @@ class LocalSymbolTable
         return false;
     }
 
-    public synchronized boolean isReadOnly()
+    public boolean isReadOnly()
     {
         return isReadOnly;
     }
@@ -361,7 +479,7 @@ class LocalSymbolTable
         return myImportsList.getMaxId();
     }
 
-    public synchronized int getMaxId()
+    public int getMaxId()
     {
         int maxid = mySymbolsCount + myImportsList.getMaxId();
         return maxid;
@@ -383,9 +501,10 @@ class LocalSymbolTable
         return system_table.getIonVersionId();
     }
 
-    public synchronized Iterator<String> iterateDeclaredSymbolNames()
+    public Iterator<String> iterateDeclaredSymbolNames()
     {
-        return new SymbolIterator(mySymbolNames, mySymbolsCount);
+        int count = mySymbolsCount;
+        return new SymbolIterator(mySymbolNames, count);
     }
 
     public String findKnownSymbol(int id)
@@ -405,15 +524,9 @@ class LocalSymbolTable
         {
             int offset = id - myFirstLocalSid;
 
-            String[] names;
-            synchronized (this)
+            if (offset < mySymbolsCount)
             {
-                names = mySymbolNames;
-            }
-
-            if (offset < names.length)
-            {
-                name = names[offset];
+                name = mySymbolNames[offset];
             }
         }
 
@@ -436,29 +549,32 @@ class LocalSymbolTable
 
     private int findLocalSymbol(String name)
     {
-        Integer isid;
-        synchronized (this)
+        SymbolToken token = findLocalToken(name);
+        if (token != null)
         {
-            isid = mySymbolsMap.get(name);
-        }
-
-        if (isid != null)
-        {
-            assert isid != UNKNOWN_SYMBOL_ID;
-            return isid;
+            assert token.getSid() != UNKNOWN_SYMBOL_ID;
+            return token.getSid();
         }
         return UNKNOWN_SYMBOL_ID;
     }
 
 
-    public synchronized SymbolToken intern(String text)
+    public SymbolToken intern(String text)
     {
         SymbolToken is = find(text);
         if (is == null)
         {
-            validateSymbol(text);
-            int sid = putSymbol(text);
-            is = new SymbolTokenImpl(text, sid);
+            synchronized (this)
+            {
+                // Another thread may have added it in the meantime.
+                is = find(text);
+                if (is == null)
+                {
+                    validateSymbol(text);
+                    putSymbol(text);
+                    is = findInSymbolIndex(mySymbolIndex, text);
+                }
+            }
         }
         return is;
     }
@@ -473,21 +589,7 @@ class LocalSymbolTable
         // Look in local symbols
         if (symTok == null)
         {
-            Integer  sid;
-            String[] names;
-            synchronized (this)
-            {
-                sid = mySymbolsMap.get(text);
-                names = mySymbolNames;
-            }
-
-            if (sid != null)
-            {
-                int offset = sid - myFirstLocalSid;
-                String internedText = names[offset];
-                assert internedText != null;
-                symTok = new SymbolTokenImpl(internedText, sid);
-            }
+            symTok = findLocalToken(text);
         }
 
         return symTok;
@@ -538,46 +640,35 @@ class LocalSymbolTable
             throw new ReadOnlyValueException(SymbolTable.class);
         }
 
-        if (mySymbolsCount == mySymbolNames.length)
+        int count = mySymbolsCount;
+        String[] names = mySymbolNames;
+        if (count == names.length)
         {
-            int newlen = mySymbolsCount * 2;
+            int newlen = count * 2;
             if (newlen < DEFAULT_CAPACITY)
             {
                 newlen = DEFAULT_CAPACITY;
             }
             String[] temp = new String[newlen];
-            System.arraycopy(mySymbolNames, 0, temp, 0, mySymbolsCount);
+            System.arraycopy(names, 0, temp, 0, count);
+            names = temp;
             mySymbolNames = temp;
         }
 
         int sid = -1;
         if (symbolName != null)
         {
-            sid = mySymbolsCount + myFirstLocalSid;
+            sid = count + myFirstLocalSid;
             assert sid == getMaxId() + 1;
 
-            putToMapIfNotThere(mySymbolsMap, symbolName, sid);
+            addToSymbolIndex(symbolName, sid);
         }
-        mySymbolNames[mySymbolsCount] = symbolName;
-        mySymbolsCount++;
+        names[count] = symbolName;
 
-        return sid;
-    }
+        // Publishes the new symbol to unlocked readers.
+        mySymbolsCount = count + 1;
 
-    private static void putToMapIfNotThere(Map<String, Integer> symbolsMap,
-                                           String text,
-                                           int sid)
-    {
-        // When there's a duplicate name, don't replace the lower sid.
-        // This pattern avoids double-lookup in the normal happy case
-        // and only requires a second lookup when there's a duplicate.
-        Integer extantSid = symbolsMap.put(text, sid);
-        if (extantSid != null)
-        {
-            // We always insert symbols with increasing sids
-            assert extantSid < sid;
-            symbolsMap.put(text, extantSid);
-        }
+        return sid;
     }
 
     public SymbolTable getSystemSymbolTable()
@@ -68,12 +68,52 @@ final class OutputStreamFastAppendable
         return this;
     }
 
+    /**
+     * Encodes the range as UTF-8 directly into the byte buffer. Well-formed
+     * surrogate pairs are combined; unmatched surrogates are written as-is,
+     * like {@link #append(char)} does.
+     */
     public Appendable append(CharSequence csq, int start, int end)
         throws IOException
     {
-        for (int ii = start; ii < end; ++ii) {
-            append(csq.charAt(ii));
+        final byte[] buf = _byteBuffer;
+        int pos = _pos;
+        int ii = start;
+        while (ii < end) {
+            if (pos > buf.length - 4) {
+                _out.write(buf, 0, pos);
+                pos = 0;
+            }
+
+            // Copy a run of ASCII without re-checking for space per byte.
+            int runEnd = Math.min(end, ii + buf.length - pos);
+            char c;
+            while (ii < runEnd && (c = csq.charAt(ii)) < 0x80) {
+                buf[pos++] = (byte) c;
+                ii++;
+            }
+            if (ii == end || pos > buf.length - 4) continue;
+
+            c = csq.charAt(ii++);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte)( 0xff & (0xC0 | ( c >> 6        )) );
+                buf[pos++] = (byte)( 0xff & (0x80 | ( c       & 0x3F)) );
+            } else if (Character.isHighSurrogate(c) && ii < end
+                       && Character.isLowSurrogate(csq.charAt(ii))) {
+                int cp = makeUnicodeScalar(c, csq.charAt(ii++));
+                buf[pos++] = (byte)( 0xff & (0xF0 | ( cp >> 18        )) );
+                buf[pos++] = (byte)( 0xff & (0x80 | ((cp >> 12) & 0x3F)) );
+                buf[pos++] = (byte)( 0xff & (0x80 | ((cp >> 6)  & 0x3F)) );
+                buf[pos++] = (byte)( 0xff & (0x80 | ( cp        & 0x3F)) );
+            } else {
+                buf[pos++] = (byte)( 0xff & (0xE0 | ( c >> 12       )) );
+                buf[pos++] = (byte)( 0xff & (0x80 | ((c >> 6) & 0x3F)) );
+                buf[pos++] = (byte)( 0xff & (0x80 | ( c       & 0x3F)) );
+            }
         }
+        _pos = pos;
         return this;
     }
 
@@ -120,15 +160,22 @@ final class OutputStreamFastAppendable
                 } while (start < end);
             }
         } else {
-            for (int ii=start; ii < end; ii++) {
-                if (_pos == _byteBuffer.length) {
-                    _out.write(_byteBuffer, 0, _pos);
-                    _pos = 0;
+            final byte[] buf = _byteBuffer;
+            int pos = _pos;
+            int ii = start;
+            while (ii < end) {
+                if (pos == buf.length) {
+                    _out.write(buf, 0, pos);
+                    pos = 0;
+                }
+                int runEnd = Math.min(end, ii + buf.length - pos);
+                while (ii < runEnd) {
+                    char c = csq.charAt(ii++);
+                    assert c < 0x80;
+                    buf[pos++] = (byte)c;
                 }
-                char c = csq.charAt(ii);
-                assert c < 0x80;
-                _byteBuffer[_pos++] = (byte)c;
             }
+            _pos = pos;
         }
     }
 
@@ -0,0 +1,572 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_1_0;
+import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_SIZE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.impl.IonReaderBinaryUserX.IonReaderBinarySpan;
+
+/**
+ * A side index of the top-level values of a block of Ion binary data, giving
+ * random access to the Nth value, or to a struct by the value of a key field,
+ * without scanning the values before it.
+ * <p>
+ * Each entry records the offset and length of a value, the symbol table
+ * epoch it belongs to (which changes whenever a new local symbol table or
+ * version marker takes effect) and, optionally, its key. The index can be
+ * written out with {@link #writeTo(IonWriter)} and loaded again with
+ * {@link #read(IonCatalog, byte[], IonReader)}, in which case the symbol
+ * table of an epoch is rebuilt from the system values that began it, the
+ * first time one of its values is read.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @deprecated This is an internal API that is subject to change without
+ * notice.
+ */
+@Deprecated
+public final class PrivateIonBinaryIndex
+{
+    private static final String KEY_FIELD     = "key_field";
+    private static final String OFFSETS       = "offsets";
+    private static final String LENGTHS       = "lengths";
+    private static final String EPOCHS        = "epochs";
+    private static final String KEYS          = "keys";
+    private static final String EPOCH_SOURCES = "epoch_sources";
+
+    private final IonCatalog _catalog;
+    private final byte[]     _data;
+    private final String     _key_field;
+    private final int        _size;
+    private final int[]      _offsets;
+    private final int[]      _lengths;
+    private final int[]      _epochs;
+    /** Null if there's no key field. */
+    private final String[]   _keys;
+
+    /**
+     * Per epoch, the range of the data holding the system values that began
+     * it, and the epoch it extends (-1 if its range starts a new stream).
+     */
+    private final int[]         _epoch_starts;
+    private final int[]         _epoch_lengths;
+    private final int[]         _epoch_parents;
+    /** Per epoch, created as needed when the index was read. */
+    private final SymbolTable[] _symtabs;
+
+    private Map<String, Integer> _key_map;
+
+    private PrivateIonBinaryIndex(IonCatalog catalog,
+                                  byte[] data,
+                                  String keyField,
+                                  int size,
+                                  int[] offsets,
+                                  int[] lengths,
+                                  int[] epochs,
+                                  String[] keys,
+                                  int epochCount,
+                                  int[] epochStarts,
+                                  int[] epochLengths,
+                                  int[] epochParents,
+                                  SymbolTable[] symtabs)
+    {
+        _catalog = catalog;
+        _data = data;
+        _key_field = keyField;
+        _size = size;
+        _offsets = offsets;
+        _lengths = lengths;
+        _epochs = epochs;
+        _keys = keys;
+        _epoch_starts = epochStarts;
+        _epoch_lengths = epochLengths;
+        _epoch_parents = epochParents;
+        _symtabs = (symtabs != null ? symtabs : new SymbolTable[epochCount]);
+    }
+
+
+    /**
+     * Scans a block of Ion binary data once to index its top-level values.
+     *
+     * @param catalog resolves the shared symbol tables imported by the data.
+     * @param data must be Ion binary. The index retains a reference to it, so
+     * it must not be modified while the index is in use.
+     * @param keyField if not null, the name of a field whose value is the key
+     * of each top-level struct. String, symbol, and int keys are recorded as
+     * text; structs without such a field, and other values, have no key.
+     *
+     * @throws IonException if the data is not Ion binary.
+     */
+    public static PrivateIonBinaryIndex build(IonCatalog catalog,
+                                              byte[] data,
+                                              String keyField)
+    {
+        IonReaderBinaryUserX reader = binaryReader(catalog, data);
+
+        int[] offsets = new int[16];
+        int[] lengths = new int[16];
+        int[] epochs = new int[16];
+        String[] keys = (keyField != null ? new String[16] : null);
+        List<SymbolTable> symtabs = new ArrayList<SymbolTable>();
+        int[] epochStarts = new int[4];
+        int[] epochLengths = new int[4];
+        int[] epochParents = new int[4];
+
+        SymbolTable current = null;
+        int previousEnd = 0;
+        int size = 0;
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            IonReaderBinarySpan span =
+                (IonReaderBinarySpan) reader.getCurrentPosition();
+            int offset = (int) span._offset;
+            if (size == offsets.length)
+            {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+                epochs = Arrays.copyOf(epochs, size * 2);
+                if (keys != null) keys = Arrays.copyOf(keys, size * 2);
+            }
+
+            if (span._symbol_table != current)
+            {
+                current = span._symbol_table;
+                int epoch = symtabs.size();
+                if (epoch == epochStarts.length)
+                {
+                    epochStarts = Arrays.copyOf(epochStarts, epoch * 2);
+                    epochLengths = Arrays.copyOf(epochLengths, epoch * 2);
+                    epochParents = Arrays.copyOf(epochParents, epoch * 2);
+                }
+                symtabs.add(current);
+                epochStarts[epoch] = previousEnd;
+                epochLengths[epoch] = offset - previousEnd;
+                epochParents[epoch] =
+                    (startsWithIvm(data, previousEnd, offset) ? -1 : epoch - 1);
+            }
+
+            offsets[size] = offset;
+            lengths[size] = (int) (span._limit - span._offset);
+            epochs[size] = symtabs.size() - 1;
+            if (keys != null && type == IonType.STRUCT)
+            {
+                keys[size] = findKey(reader, keyField);
+            }
+            previousEnd = offset + lengths[size];
+            size++;
+        }
+
+        return new PrivateIonBinaryIndex(catalog, data, keyField, size,
+                                         offsets, lengths, epochs, keys,
+                                         symtabs.size(), epochStarts,
+                                         epochLengths, epochParents,
+                                         symtabs.toArray(new SymbolTable[0]));
+    }
+
+    private static IonReaderBinaryUserX binaryReader(IonCatalog catalog,
+                                                     byte[] data)
+    {
+        IonReader reader = PrivateIonReaderFactory.makeReader(catalog, data);
+        if (! (reader instanceof IonReaderBinaryUserX))
+        {
+            throw new IonException("Only Ion binary data can be indexed");
+        }
+        return (IonReaderBinaryUserX) reader;
+    }
+
+    private static boolean startsWithIvm(byte[] data, int start, int end)
+    {
+        if (end - start < BINARY_VERSION_MARKER_SIZE) return false;
+        for (int i = 0; i < BINARY_VERSION_MARKER_SIZE; i++)
+        {
+            if (data[start + i] != BINARY_VERSION_MARKER_1_0[i]) return false;
+        }
+        return true;
+    }
+
+    private static String findKey(IonReader reader, String keyField)
+    {
+        String key = null;
+        reader.stepIn();
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            if (keyField.equals(reader.getFieldName()) && ! reader.isNullValue())
+            {
+                switch (type)
+                {
+                    case STRING:
+                    case SYMBOL:
+                        key = reader.stringValue();
+                        break;
+                    case INT:
+                        key = reader.bigIntegerValue().toString();
+                        break;
+                    default:
+                        break;
+                }
+                break;
+            }
+        }
+        reader.stepOut();
+        return key;
+    }
+
+
+    /** @return the number of top-level values in the data. */
+    public int size()
+    {
+        return _size;
+    }
+
+    public int getOffset(int index)
+    {
+        checkIndex(index);
+        return _offsets[index];
+    }
+
+    public int getLength(int index)
+    {
+        checkIndex(index);
+        return _lengths[index];
+    }
+
+    /**
+     * @return the symbol table epoch of the value; values in the same epoch
+     * share a symbol table.
+     */
+    public int getEpoch(int index)
+    {
+        checkIndex(index);
+        return _epochs[index];
+    }
+
+    /** @return the key of the value, or null if it has none. */
+    public String getKey(int index)
+    {
+        checkIndex(index);
+        return (_keys != null ? _keys[index] : null);
+    }
+
+    /**
+     * @return the index of the first value with the given key, or -1 if
+     * there's none.
+     */
+    public int indexOfKey(String key)
+    {
+        if (_keys == null)
+        {
+            throw new IllegalStateException("The index has no key field");
+        }
+        if (_key_map == null)
+        {
+            Map<String, Integer> map = new HashMap<String, Integer>();
+            for (int i = _size - 1; i >= 0; i--)
+            {
+                if (_keys[i] != null) map.put(_keys[i], i);
+            }
+            _key_map = map;
+        }
+        Integer index = _key_map.get(key);
+        return (index != null ? index : -1);
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= _size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+        }
+    }
+
+
+    /**
+     * Creates a reader over the indexed data, to be positioned with
+     * {@link #seek(IonReader, int)}.
+     */
+    public IonReader newReader()
+    {
+        return binaryReader(_catalog, _data);
+    }
+
+    /**
+     * Positions a reader created by {@link #newReader()} on the value at the
+     * given index, as {@link software.amazon.ion.SeekableReader#hoist} does:
+     * the next call to {@link IonReader#next()} returns that value, and the
+     * one after that returns null.
+     */
+    public void seek(IonReader reader, int index)
+    {
+        checkIndex(index);
+        IonReaderBinarySpan span = new IonReaderBinarySpan();
+        span._offset = _offsets[index];
+        span._limit = _offsets[index] + _lengths[index];
+        span._symbol_table = symbolTable(_epochs[index]);
+        ((IonReaderBinaryUserX) reader).seek(span);
+    }
+
+    private SymbolTable symbolTable(int epoch)
+    {
+        SymbolTable symtab = _symtabs[epoch];
+        if (symtab == null)
+        {
+            // replay the system values that began the epoch, and those of
+            // the epochs it extends
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int root = epoch;
+            while (_epoch_parents[root] != -1)
+            {
+                root = _epoch_parents[root];
+            }
+            if (! startsWithIvm(_data, _epoch_starts[root],
+                                _epoch_starts[root] + _epoch_lengths[root]))
+            {
+                out.write(BINARY_VERSION_MARKER_1_0, 0, BINARY_VERSION_MARKER_SIZE);
+            }
+            appendEpochSource(out, epoch);
+
+            IonReader reader = binaryReader(_catalog, out.toByteArray());
+            if (reader.next() != null)
+            {
+                throw new IonException("The index doesn't match the data");
+            }
+            symtab = reader.getSymbolTable();
+            _symtabs[epoch] = symtab;
+        }
+        return symtab;
+    }
+
+    private void appendEpochSource(ByteArrayOutputStream out, int epoch)
+    {
+        int parent = _epoch_parents[epoch];
+        if (parent != -1)
+        {
+            appendEpochSource(out, parent);
+        }
+        out.write(_data, _epoch_starts[epoch], _epoch_lengths[epoch]);
+    }
+
+
+    /**
+     * Writes this index as a single struct, which
+     * {@link #read(IonCatalog, byte[], IonReader)} can load again.
+     */
+    public void writeTo(IonWriter writer)
+        throws IOException
+    {
+        int epochCount = _symtabs.length;
+        writer.stepIn(IonType.STRUCT);
+        if (_key_field != null)
+        {
+            writer.setFieldName(KEY_FIELD);
+            writer.writeString(_key_field);
+        }
+        writer.setFieldName(OFFSETS);
+        writer.writeBlob(encodeDeltas(_offsets, _size));
+        writer.setFieldName(LENGTHS);
+        writer.writeBlob(encode(_lengths, _size));
+        writer.setFieldName(EPOCHS);
+        writer.writeBlob(encode(_epochs, _size));
+        if (_keys != null)
+        {
+            writer.setFieldName(KEYS);
+            writer.stepIn(IonType.LIST);
+            for (int i = 0; i < _size; i++)
+            {
+                writer.writeString(_keys[i]);
+            }
+            writer.stepOut();
+        }
+        writer.setFieldName(EPOCH_SOURCES);
+        int[] sources = new int[epochCount * 3];
+        for (int i = 0; i < epochCount; i++)
+        {
+            sources[i * 3] = _epoch_starts[i];
+            sources[i * 3 + 1] = _epoch_lengths[i];
+            sources[i * 3 + 2] = _epoch_parents[i] + 1;
+        }
+        writer.writeBlob(encode(sources, sources.length));
+        writer.stepOut();
+    }
+
+    /**
+     * Loads an index written by {@link #writeTo(IonWriter)}.
+     *
+     * @param catalog resolves the shared symbol tables imported by the data.
+     * @param data the data that was indexed.
+     * @param indexReader is positioned before the struct holding the index.
+     */
+    public static PrivateIonBinaryIndex read(IonCatalog catalog,
+                                             byte[] data,
+                                             IonReader indexReader)
+    {
+        if (indexReader.next() != IonType.STRUCT)
+        {
+            throw new IonException("Expected an index struct");
+        }
+        String keyField = null;
+        int[] offsets = null;
+        int[] lengths = null;
+        int[] epochs = null;
+        List<String> keys = null;
+        int[] sources = null;
+
+        indexReader.stepIn();
+        while (indexReader.next() != null)
+        {
+            String name = indexReader.getFieldName();
+            if (KEY_FIELD.equals(name))
+            {
+                keyField = indexReader.stringValue();
+            }
+            else if (OFFSETS.equals(name))
+            {
+                offsets = decodeDeltas(indexReader.newBytes());
+            }
+            else if (LENGTHS.equals(name))
+            {
+                lengths = decode(indexReader.newBytes());
+            }
+            else if (EPOCHS.equals(name))
+            {
+                epochs = decode(indexReader.newBytes());
+            }
+            else if (KEYS.equals(name))
+            {
+                keys = new ArrayList<String>();
+                indexReader.stepIn();
+                while (indexReader.next() != null)
+                {
+                    keys.add(indexReader.stringValue());
+                }
+                indexReader.stepOut();
+            }
+            else if (EPOCH_SOURCES.equals(name))
+            {
+                sources = decode(indexReader.newBytes());
+            }
+        }
+        indexReader.stepOut();
+
+        if (offsets == null || lengths == null || epochs == null
+            || sources == null || sources.length % 3 != 0
+            || lengths.length != offsets.length
+            || epochs.length != offsets.length
+            || (keyField != null && (keys == null || keys.size() != offsets.length)))
+        {
+            throw new IonException("Malformed index struct");
+        }
+
+        int epochCount = sources.length / 3;
+        int[] epochStarts = new int[epochCount];
+        int[] epochLengths = new int[epochCount];
+        int[] epochParents = new int[epochCount];
+        for (int i = 0; i < epochCount; i++)
+        {
+            epochStarts[i] = sources[i * 3];
+            epochLengths[i] = sources[i * 3 + 1];
+            epochParents[i] = sources[i * 3 + 2] - 1;
+        }
+
+        return new PrivateIonBinaryIndex(catalog, data, keyField,
+                                         offsets.length, offsets, lengths,
+                                         epochs,
+                                         (keyField != null
+                                             ? keys.toArray(new String[0])
+                                             : null),
+                                         epochCount, epochStarts,
+                                         epochLengths, epochParents, null);
+    }
+
+
+    //========================================================================
+    // Packed integers, as Ion VarUInts
+
+    private static byte[] encode(int[] values, int count)
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 2);
+        for (int i = 0; i < count; i++)
+        {
+            writeVarUInt(out, values[i]);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeDeltas(int[] values, int count)
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 2);
+        int previous = 0;
+        for (int i = 0; i < count; i++)
+        {
+            writeVarUInt(out, values[i] - previous);
+            previous = values[i];
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeVarUInt(ByteArrayOutputStream out, int value)
+    {
+        for (int shift = 28; shift > 0; shift -= 7)
+        {
+            if ((value >>> shift) != 0)
+            {
+                out.write((value >>> shift) & 0x7f);
+            }
+        }
+        out.write((value & 0x7f) | 0x80);
+    }
+
+    private static int[] decode(byte[] bytes)
+    {
+        int[] values = new int[bytes.length];
+        int count = 0;
+        int value = 0;
+        for (byte b : bytes)
+        {
+            value = (value << 7) | (b & 0x7f);
+            if ((b & 0x80) != 0)
+            {
+                values[count++] = value;
+                value = 0;
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private static int[] decodeDeltas(byte[] bytes)
+    {
+        int[] values = decode(bytes);
+        for (int i = 1; i < values.length; i++)
+        {
+            values[i] += values[i - 1];
+        }
+        return values;
+    }
+}
@@ -22,9 +22,13 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.util.zip.GZIPInputStream;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
+import software.amazon.ion.IonIncrementalReader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonValue;
@@ -192,6 +196,12 @@ public final class PrivateIonReaderFactory
         }
     }
 
+    public static IonIncrementalReader makeIncrementalReader(IonCatalog catalog)
+    {
+        return IonReaderBinaryIncrementalX.make(catalog,
+                                                LocalSymbolTable.DEFAULT_LST_FACTORY);
+    }
+
     public static IonReader makeSystemReader(InputStream is)
     {
         try {
@@ -203,6 +213,37 @@ public final class PrivateIonReaderFactory
         }
     }
 
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             ByteBuffer buffer)
+    {
+        if (buffer.hasArray()) {
+            // read the backing array in place
+            return makeReader(catalog,
+                              buffer.array(),
+                              buffer.arrayOffset() + buffer.position(),
+                              buffer.remaining());
+        }
+        try {
+            UnifiedInputStreamX uis = makeUnifiedStream(buffer);
+            return makeReader(catalog, uis, 0, LocalSymbolTable.DEFAULT_LST_FACTORY);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             FileChannel channel)
+    {
+        try {
+            UnifiedInputStreamX uis = makeUnifiedStream(map(channel));
+            return makeReader(catalog, uis, 0, LocalSymbolTable.DEFAULT_LST_FACTORY);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
     public static final IonReader makeReader(IonCatalog catalog,
                                              Reader chars)
     {
@@ -250,6 +291,114 @@ public final class PrivateIonReaderFactory
     }
 
 
+    /**
+     * Enables the short string cache of binary readers; has no effect on
+     * other readers.
+     */
+    public static void enableStringCache(IonReader reader)
+    {
+        if (reader instanceof IonReaderBinaryRawX) {
+            ((IonReaderBinaryRawX) reader).setStringCacheEnabled(true);
+        }
+    }
+
+
+    /**
+     * Re-targets a binary reader made by this factory at new data, reusing
+     * its buffers. If the new data isn't Ion binary, a new text reader is
+     * made over it instead; it may take over the given reader's buffers, so
+     * the given reader must then be discarded.
+     *
+     * @return the given reader, if it was reset; a new reader over the data;
+     * or null if the given reader can't be reset.
+     */
+    public static IonReader resetReader(IonReader reader,
+                                        byte[] bytes,
+                                        int offset,
+                                        int length)
+    {
+        if (! (reader instanceof IonReaderBinaryUserX)
+            || reader instanceof IonReaderBinaryIncrementalX) {
+            return null;
+        }
+        IonReaderBinaryUserX r = (IonReaderBinaryUserX) reader;
+        r.release_input();
+        try {
+            UnifiedInputStreamX uis;
+            if (IonStreamUtils.isGzip(bytes, offset, length)) {
+                ByteArrayInputStream baos =
+                    new ByteArrayInputStream(bytes, offset, length);
+                uis = resetUnifiedStream(r._input, new GZIPInputStream(baos));
+            }
+            else if (r._input instanceof UnifiedInputStreamX.FromByteArray) {
+                uis = r._input;
+                ((UnifiedInputStreamX.FromByteArray) uis).reset(bytes, offset, length);
+            }
+            else {
+                uis = makeStream(bytes, offset, length);
+            }
+            return resetReader(r, uis, offset);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    /**
+     * Re-targets a binary reader made by this factory at new data, reusing
+     * its buffers. If the new data isn't Ion binary, a new text reader is
+     * made over it instead; it may take over the given reader's buffers, so
+     * the given reader must then be discarded.
+     *
+     * @return the given reader, if it was reset; a new reader over the data;
+     * or null if the given reader can't be reset.
+     */
+    public static IonReader resetReader(IonReader reader,
+                                        InputStream is)
+    {
+        if (! (reader instanceof IonReaderBinaryUserX)
+            || reader instanceof IonReaderBinaryIncrementalX) {
+            return null;
+        }
+        is.getClass(); // Force NPE
+
+        IonReaderBinaryUserX r = (IonReaderBinaryUserX) reader;
+        r.release_input();
+        try {
+            UnifiedInputStreamX uis =
+                resetUnifiedStream(r._input, IonStreamUtils.unGzip(is));
+            return resetReader(r, uis, 0);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    private static UnifiedInputStreamX resetUnifiedStream(UnifiedInputStreamX uis,
+                                                          InputStream in)
+        throws IOException
+    {
+        if (uis instanceof UnifiedInputStreamX.FromByteStream) {
+            ((UnifiedInputStreamX.FromByteStream) uis).reset(in);
+            return uis;
+        }
+        return UnifiedInputStreamX.makeStream(in);
+    }
+
+    private static IonReader resetReader(IonReaderBinaryUserX reader,
+                                         UnifiedInputStreamX uis,
+                                         int offset)
+        throws IOException
+    {
+        if (has_binary_cookie(uis) || is_empty(uis)) {
+            reader.reset_user(uis, offset);
+            return reader;
+        }
+        return new IonReaderTextUserX(reader._catalog, reader._lstFactory,
+                                      uis, offset);
+    }
+
+
     //=========================================================================
 
 
@@ -321,6 +470,106 @@ public final class PrivateIonReaderFactory
         return uis;
     }
 
+    private static UnifiedInputStreamX makeUnifiedStream(ByteBuffer... segments)
+        throws IOException
+    {
+        UnifiedInputStreamX uis;
+        if (isGzip(segments[0]))
+        {
+            uis = makeUnifiedStream(new ByteBufferInputStream(segments));
+        }
+        else
+        {
+            uis = UnifiedInputStreamX.makeStream(segments);
+        }
+        return uis;
+    }
+
+    private static boolean isGzip(ByteBuffer buffer)
+    {
+        int pos = buffer.position();
+        int len = Math.min(buffer.remaining(), 2);
+        byte[] header = new byte[len];
+        for (int ii=0; ii<len; ii++) {
+            header[ii] = buffer.get(pos + ii);
+        }
+        return IonStreamUtils.isGzip(header, 0, len);
+    }
+
+    /**
+     * Largest region mapped at once; {@link ByteBuffer}s are int-indexed.
+     */
+    private static final long MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Maps the whole channel, read-only, as consecutive buffers of at most
+     * {@link #MAX_MAPPING_SIZE} bytes each.
+     */
+    private static ByteBuffer[] map(FileChannel channel)
+        throws IOException
+    {
+        long size = channel.size();
+        int count = (int) Math.max(1, (size + MAX_MAPPING_SIZE - 1) / MAX_MAPPING_SIZE);
+        ByteBuffer[] segments = new ByteBuffer[count];
+        long offset = 0;
+        for (int ii=0; ii<count; ii++) {
+            long len = Math.min(MAX_MAPPING_SIZE, size - offset);
+            segments[ii] = channel.map(MapMode.READ_ONLY, offset, len);
+            offset += len;
+        }
+        return segments;
+    }
+
+    /**
+     * Adapts consecutive buffers to an {@link InputStream}, for
+     * decompression. Reads from duplicates so the callers' positions are
+     * untouched.
+     */
+    private static final class ByteBufferInputStream
+        extends InputStream
+    {
+        private final ByteBuffer[] _segments;
+        private int _idx;
+
+        ByteBufferInputStream(ByteBuffer[] segments)
+        {
+            _segments = new ByteBuffer[segments.length];
+            for (int ii=0; ii<segments.length; ii++) {
+                _segments[ii] = segments[ii].duplicate();
+            }
+        }
+
+        private ByteBuffer current()
+        {
+            while (_idx < _segments.length && !_segments[_idx].hasRemaining()) {
+                _idx++;
+            }
+            return (_idx < _segments.length) ? _segments[_idx] : null;
+        }
+
+        @Override
+        public int read()
+        {
+            ByteBuffer buffer = current();
+            return (buffer == null) ? -1 : (buffer.get() & 0xff);
+        }
+
+        @Override
+        public int read(byte[] dst, int offset, int length)
+        {
+            if (length == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(dst, offset, read);
+            return read;
+        }
+    }
+
     private static final boolean has_binary_cookie(UnifiedInputStreamX uis)
         throws IOException
     {
@@ -343,4 +592,15 @@ public final class PrivateIonReaderFactory
         boolean is_cookie = isIonBinary(bytes, 0, len);
         return is_cookie;
     }
+
+    private static final boolean is_empty(UnifiedInputStreamX uis)
+        throws IOException
+    {
+        int c = uis.read();
+        if (c == UnifiedInputStreamX.EOF) {
+            return true;
+        }
+        uis.unread(c);
+        return false;
+    }
 }
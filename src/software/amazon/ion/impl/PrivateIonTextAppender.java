@@ -573,6 +573,12 @@ public final class PrivateIonTextAppender
     private final void printCodePoints(CharSequence text, String[] escapes)
         throws IOException
     {
+        if (!escapeNonAscii)
+        {
+            printCodePointsUtf8(text, escapes);
+            return;
+        }
+
         int len = text.length();
         for (int i = 0; i < len; ++i)
         {
@@ -599,72 +605,130 @@ public final class PrivateIonTextAppender
                 break;
             }
 
-            // We've found a code point that's escaped and/or non-ASCII.
-
-            if (c < 0x80)
-            {
-                // An escaped ASCII character.
-                assert escapes[c] != null;
-                appendAscii(escapes[c]);
-            }
-            else if (c < 0x100)
-            {
-                // Non-ASCII LATIN-1; we will have an escape sequence but may
-                // not use it.
-                assert escapes[c] != null;
+            i = printEscapedCodePoint(text, i, c, escapes);
+        }
+    }
 
-                // Always escape the C1 control codes U+80 through U+9F.
-                if (escapeNonAscii || c <= 0x9F) {
-                    appendAscii(escapes[c]);
-                } else {
-                    appendUtf16(c);
+    /**
+     * Like {@link #printCodePoints} but for output that isn't restricted to
+     * ASCII. Spans of code points that need no escaping, ASCII or not, are
+     * handed to the appendable in one call so it can transcode them in bulk.
+     */
+    private final void printCodePointsUtf8(CharSequence text, String[] escapes)
+        throws IOException
+    {
+        int len = text.length();
+        int i = 0;
+        while (i < len)
+        {
+            char c = 0;
+            boolean ascii = true;
+            int j;
+            for (j = i; j < len; ++j) {
+                c = text.charAt(j);
+                if (c < 0x80) {
+                    if (escapes[c] != null) break;
                 }
-            }
-            else if (c < 0xD800 || c >= 0xE000)
-            {
-                // Not LATIN-1, but still in the BMP.
-                String s = Integer.toHexString(c);
-                if (escapeNonAscii) {
-                    appendAscii(HEX_4_PREFIX);
-                    appendAscii(ZERO_PADDING[4 - s.length()]);
-                    appendAscii(s);
-                } else {
-                    appendUtf16(c);
+                // LATIN-1 escapes above U+9F aren't used for UTF-8 output.
+                else if (c <= 0x9F || (c >= 0xD800 && c < 0xE000)) {
+                    break;
                 }
-            }
-            else if (isHighSurrogate(c))
-            {
-                // Outside the BMP! High surrogate must be followed by low.
-                char c2;
-                if (++i == len || !isLowSurrogate(c2 = text.charAt(i))) {
-                    String message =
-                        "text is invalid UTF-16. It contains an unmatched " +
-                        "leading surrogate 0x" + Integer.toHexString(c) +
-                        " at index " + (i-1);
-                    throw new IllegalArgumentException(message);
+                else {
+                    ascii = false;
                 }
-                if (escapeNonAscii) {
-                    int cp = makeUnicodeScalar(c, c2);
-                    String s = Integer.toHexString(cp);
-                    appendAscii(HEX_8_PREFIX);
-                    appendAscii(ZERO_PADDING[8 - s.length()]);
-                    appendAscii(s);
+            }
+            if (j > i) {
+                if (ascii) {
+                    appendAscii(text, i, j);
                 } else {
-                    appendUtf16Surrogate(c, c2);
+                    myAppendable.append(text, i, j);
                 }
             }
-            else
-            {
-                // unmatched low surrogate
-                assert isLowSurrogate(c);
+            if (j == len) break;
+
+            i = printEscapedCodePoint(text, j, c, escapes) + 1;
+        }
+    }
+
+    /**
+     * Prints the code point starting with {@code c} at index {@code i},
+     * escaping it as needed.
+     *
+     * @return the index of the last char consumed, which differs from
+     * {@code i} for a surrogate pair.
+     */
+    private final int printEscapedCodePoint(CharSequence text, int i, char c,
+                                            String[] escapes)
+        throws IOException
+    {
+        int len = text.length();
 
+        // We've found a code point that's escaped and/or non-ASCII.
+
+        if (c < 0x80)
+        {
+            // An escaped ASCII character.
+            assert escapes[c] != null;
+            appendAscii(escapes[c]);
+        }
+        else if (c < 0x100)
+        {
+            // Non-ASCII LATIN-1; we will have an escape sequence but may
+            // not use it.
+            assert escapes[c] != null;
+
+            // Always escape the C1 control codes U+80 through U+9F.
+            if (escapeNonAscii || c <= 0x9F) {
+                appendAscii(escapes[c]);
+            } else {
+                appendUtf16(c);
+            }
+        }
+        else if (c < 0xD800 || c >= 0xE000)
+        {
+            // Not LATIN-1, but still in the BMP.
+            String s = Integer.toHexString(c);
+            if (escapeNonAscii) {
+                appendAscii(HEX_4_PREFIX);
+                appendAscii(ZERO_PADDING[4 - s.length()]);
+                appendAscii(s);
+            } else {
+                appendUtf16(c);
+            }
+        }
+        else if (isHighSurrogate(c))
+        {
+            // Outside the BMP! High surrogate must be followed by low.
+            char c2;
+            if (++i == len || !isLowSurrogate(c2 = text.charAt(i))) {
                 String message =
                     "text is invalid UTF-16. It contains an unmatched " +
-                    "trailing surrogate 0x" + Integer.toHexString(c) +
-                    " at index " + i;
+                    "leading surrogate 0x" + Integer.toHexString(c) +
+                    " at index " + (i-1);
                 throw new IllegalArgumentException(message);
             }
+            if (escapeNonAscii) {
+                int cp = makeUnicodeScalar(c, c2);
+                String s = Integer.toHexString(cp);
+                appendAscii(HEX_8_PREFIX);
+                appendAscii(ZERO_PADDING[8 - s.length()]);
+                appendAscii(s);
+            } else {
+                appendUtf16Surrogate(c, c2);
+            }
         }
+        else
+        {
+            // unmatched low surrogate
+            assert isLowSurrogate(c);
+
+            String message =
+                "text is invalid UTF-16. It contains an unmatched " +
+                "trailing surrogate 0x" + Integer.toHexString(c) +
+                " at index " + i;
+            throw new IllegalArgumentException(message);
+        }
+        return i;
     }
 
 
@@ -675,8 +739,24 @@ public final class PrivateIonTextAppender
     /** ONLY FOR USE BY {@link #printInt(long)}. */
     private final char[] _fixedIntBuffer = new char[MAX_LONG_TEXT_SIZE];
 
+    /** Wraps {@link #_fixedIntBuffer} once rather than on every call. */
+    private final CharBuffer _fixedIntChars = CharBuffer.wrap(_fixedIntBuffer);
+
     public void printInt(long value)
         throws IOException
+    {
+        int j = fillFixedIntBuffer(value);
+
+        // Using CharBuffer avoids copying the _fixedIntBuffer into a String
+        appendAscii(_fixedIntChars, j, _fixedIntBuffer.length);
+    }
+
+    /**
+     * Renders the value at the end of {@link #_fixedIntBuffer}.
+     *
+     * @return the index of the first char.
+     */
+    private int fillFixedIntBuffer(long value)
     {
         int j = _fixedIntBuffer.length;
         if (value == 0) {
@@ -695,11 +775,7 @@ public final class PrivateIonTextAppender
                 }
             }
         }
-
-        // Using CharBuffer avoids copying the _fixedIntBuffer into a String
-        appendAscii(CharBuffer.wrap(_fixedIntBuffer),
-                    j,
-                    _fixedIntBuffer.length);
+        return j;
     }
 
 
@@ -743,21 +819,36 @@ public final class PrivateIonTextAppender
             appendAscii('-');
         }
 
-        final String unscaledText = unscaled.toString();
-        final int significantDigits = unscaledText.length();
+        // Unscaled values that fit in a long are rendered into the int
+        // buffer instead of going through BigInteger.toString().
+        // Its digits are consumed before any exponent is printed with it.
+        final CharSequence unscaledText;
+        final int start;
+        if (unscaled.bitLength() < 64)
+        {
+            start = fillFixedIntBuffer(unscaled.longValue());
+            unscaledText = _fixedIntChars;
+        }
+        else
+        {
+            start = 0;
+            unscaledText = unscaled.toString();
+        }
+        final int end = unscaledText.length();
+        final int significantDigits = end - start;
 
         final int scale = value.scale();
         final int exponent = -scale;
 
         if (_options._decimal_as_float)
         {
-            appendAscii(unscaledText);
+            appendAscii(unscaledText, start, end);
             appendAscii('e');
-            appendAscii(Integer.toString(exponent));
+            printInt(exponent);
         }
         else if (exponent == 0)
         {
-            appendAscii(unscaledText);
+            appendAscii(unscaledText, start, end);
             appendAscii('.');
         }
         else if (exponent < 0)
@@ -769,35 +860,38 @@ public final class PrivateIonTextAppender
             if (adjustedExponent >= 0)
             {
                 int wholeDigits = significantDigits - scale;
-                appendAscii(unscaledText, 0, wholeDigits);
+                appendAscii(unscaledText, start, start + wholeDigits);
                 appendAscii('.');
-                appendAscii(unscaledText, wholeDigits,
-                                    significantDigits);
+                appendAscii(unscaledText, start + wholeDigits, end);
             }
             else if (adjustedExponent >= -6)
             {
                 appendAscii("0.");
                 appendAscii("00000", 0, scale - significantDigits);
-                appendAscii(unscaledText);
+                appendAscii(unscaledText, start, end);
             }
             else
             {
-                appendAscii(unscaledText);
+                appendAscii(unscaledText, start, end);
                 appendAscii("d-");
-                appendAscii(Integer.toString(scale));
+                printInt(scale);
             }
         }
         else // (exponent > 0)
         {
             // We cannot move the decimal point to the right, adding
             // rightmost zeros, because that would alter the precision.
-            appendAscii(unscaledText);
+            appendAscii(unscaledText, start, end);
             appendAscii('d');
-            appendAscii(Integer.toString(exponent));
+            printInt(exponent);
         }
     }
 
 
+    /** ONLY FOR USE BY {@link #printFloat(double)}; created on demand. */
+    private DoubleFormatter _doubleFormatter;
+    private CharBuffer      _floatChars;
+
     public void printFloat(double value)
         throws IOException
     {
@@ -827,22 +921,13 @@ public final class PrivateIonTextAppender
         }
         else
         {
-            // Double.toString() forces a digit after the decimal point.
-            // Remove it when it's not meaningful.
-            String str = Double.toString(value);
-            if (str.endsWith(".0"))
+            if (_doubleFormatter == null)
             {
-                appendAscii(str, 0, str.length() - 2);
-                appendAscii("e0");
-            }
-            else
-            {
-                appendAscii(str);
-                if (str.indexOf('E') == -1)
-                {
-                    appendAscii("e0");
-                }
+                _doubleFormatter = new DoubleFormatter();
+                _floatChars = CharBuffer.allocate(DoubleFormatter.MAX_CHARS);
             }
+            int len = _doubleFormatter.format(value, _floatChars.array());
+            appendAscii(_floatChars, 0, len);
         }
     }
 
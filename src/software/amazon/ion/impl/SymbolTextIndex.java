@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
+
+import software.amazon.ion.SymbolTable;
+
+/**
+ * An immutable text-to-sid index over the declared symbols of a shared
+ * symbol table, built once via {@link #compile(String[])}.
+ * <p>
+ * The index is an open-addressed hash table, at most half full, keyed on
+ * {@link String#hashCode()}, which strings cache. Each slot keeps its text,
+ * hash and sid in parallel arrays, so a lookup is one multiplication of the
+ * cached hash and a short linear probe that compares texts only when their
+ * hashes match, with no boxing, no per-entry objects and no allocation.
+ * Distinct texts with equal hash codes simply occupy successive slots.
+ * <p>
+ * When a text is declared more than once, the lowest sid wins.
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ */
+final class SymbolTextIndex
+{
+    private static final int GOLDEN_GAMMA = 0x9E3779B9;
+
+    /** The text of each slot, or null for an unused slot. */
+    private final String[] mySlotNames;
+
+    /** The hash code of each slot's text. */
+    private final int[]    mySlotHashes;
+
+    /** The sid of each slot's text. */
+    private final int[]    mySlotSids;
+
+    /** Shifts a multiplied hash code down to a slot number. */
+    private final int      myShift;
+
+    private SymbolTextIndex(int bits)
+    {
+        mySlotNames  = new String[1 << bits];
+        mySlotHashes = new int[1 << bits];
+        mySlotSids   = new int[1 << bits];
+        myShift      = 32 - bits;
+    }
+
+    //==========================================================================
+    // Compilation
+    //==========================================================================
+
+    /**
+     * Builds the index for the given symbol texts.
+     *
+     * @param names the declared texts, where index 0 holds sid 1;
+     *  null elements denote gaps. The array is not retained.
+     */
+    static SymbolTextIndex compile(String[] names)
+    {
+        // At least twice as many slots as texts, so probes stay short.
+        int bits =
+            32 - Integer.numberOfLeadingZeros(Math.max(1, 2 * names.length - 1));
+        SymbolTextIndex index = new SymbolTextIndex(bits);
+        for (int i = 0; i < names.length; i++)
+        {
+            if (names[i] != null)
+            {
+                index.add(names[i], i + 1);
+            }
+        }
+        return index;
+    }
+
+    /** Adds a text unless it is already present with a lower sid. */
+    private void add(String text, int sid)
+    {
+        int hash = text.hashCode();
+        int mask = mySlotNames.length - 1;
+        for (int slot = slotOf(hash); ; slot = (slot + 1) & mask)
+        {
+            String indexed = mySlotNames[slot];
+            if (indexed == null)
+            {
+                mySlotNames[slot]  = text;
+                mySlotHashes[slot] = hash;
+                mySlotSids[slot]   = sid;
+                return;
+            }
+            if (mySlotHashes[slot] == hash && indexed.equals(text))
+            {
+                return;
+            }
+        }
+    }
+
+    //==========================================================================
+    // Lookup
+    //==========================================================================
+
+    /**
+     * Finds the lowest sid declaring the given text.
+     *
+     * @return the sid, or {@link SymbolTable#UNKNOWN_SYMBOL_ID}
+     *  if the text is null or not declared.
+     */
+    int findSymbol(String text)
+    {
+        if (text == null)
+        {
+            return UNKNOWN_SYMBOL_ID;
+        }
+
+        int hash = text.hashCode();
+        int mask = mySlotNames.length - 1;
+        for (int slot = slotOf(hash); ; slot = (slot + 1) & mask)
+        {
+            String indexed = mySlotNames[slot];
+            if (indexed == null)
+            {
+                return UNKNOWN_SYMBOL_ID;
+            }
+            if (mySlotHashes[slot] == hash && text.equals(indexed))
+            {
+                return mySlotSids[slot];
+            }
+        }
+    }
+
+    /**
+     * Fibonacci hashing: the high bits of the product depend on every bit of
+     * the hash code, so similar texts are spread apart.
+     */
+    private int slotOf(int hash)
+    {
+        return (hash * GOLDEN_GAMMA) >>> myShift;
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.ion.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 
 /**
  * this base class and it's two children (below) manage
@@ -96,6 +97,28 @@ abstract class UnifiedDataPageX
         return read;
     }
 
+    /**
+     * Fills this page with a bulk copy from the current position of the
+     * source buffer, advancing that position. Unlike the stream loaders this
+     * makes no calls into user code, so direct and memory-mapped buffers are
+     * transferred with a single native copy per page.
+     */
+    int load(ByteBuffer source, int start_offset, long file_position)
+    {
+        if (!isBytes()) {
+            throw new UnsupportedOperationException("character pages can't load bytes");
+        }
+        int read = Math.min(source.remaining(), _bytes.length - start_offset);
+        if (read > 0) {
+            source.get(_bytes, start_offset, read);
+            _base_offset = start_offset;
+            _unread_count = 0;
+            _page_limit = start_offset + read;
+            setFilePosition(file_position, start_offset);
+        }
+        return read;
+    }
+
     public int getBufferLimit()    { return _page_limit; }
     public int getOriginalStartingOffset() { return _base_offset; }
 
@@ -175,6 +198,17 @@ abstract class UnifiedDataPageX
             _base_offset = offset;
             _page_limit  = offset + len;
         }
+        /**
+         * Re-targets a page over a caller's array at a new array, as if
+         * newly constructed over it.
+         */
+        final void reset(byte[] bytes, int offset, int len) {
+            _bytes        = bytes;
+            _base_offset  = offset;
+            _page_limit   = offset + len;
+            _unread_count = 0;
+            _file_offset  = 0;
+        }
 
         @Override
         public int getValue(int offset) {
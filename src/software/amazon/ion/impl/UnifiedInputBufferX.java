@@ -257,6 +257,42 @@ abstract class UnifiedInputBufferX
         _buffer_current = 0;
     }
 
+    /**
+     * Re-targets a buffer over a caller's byte array at a new array,
+     * reusing its page.
+     */
+    protected final void reset(byte[] bytes, int offset, int length) {
+        UnifiedDataPageX page = _buffers[0];
+
+        for (int ii=0; ii<_buffers.length; ii++) {
+            _buffers[ii] = null;
+        }
+
+        if (page instanceof UnifiedDataPageX.Bytes) {
+            ((UnifiedDataPageX.Bytes)page).reset(bytes, offset, length);
+        }
+        else {
+            page = new UnifiedDataPageX.Bytes(bytes, offset, length);
+        }
+        _buffers[0] = page;
+        _buffer_current = 0;
+        _buffer_count = 1;
+        _locks = 0;
+    }
+
+    /**
+     * Empties a buffer filled from a stream so it can be refilled from the
+     * start of another, keeping one page for reuse.
+     */
+    protected final void resetForStream() {
+        clear();
+        UnifiedDataPageX page = _buffers[0];
+        if (page != null) {
+            page.setFilePosition(0, 0);
+        }
+        _locks = 0;
+    }
+
     static class Bytes extends UnifiedInputBufferX {
         protected Bytes(int initialPageSize) {
             super(initialPageSize);
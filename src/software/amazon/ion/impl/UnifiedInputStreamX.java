@@ -18,6 +18,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import software.amazon.ion.impl.IonReaderTextRawTokensX.IonReaderTextTokenException;
 import software.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
 
@@ -86,6 +87,11 @@ abstract class UnifiedInputStreamX
     byte[]                  _bytes;
     char[]                  _chars;
 
+    // set, instead of _stream, when the byte source is a sequence of
+    // (possibly direct or memory-mapped) buffers that pages are filled from
+    ByteBuffer[]            _segments;
+    int                     _segment_idx;
+
 
     UnifiedSavePointManagerX _save_points;
 
@@ -116,6 +122,15 @@ abstract class UnifiedInputStreamX
     public static UnifiedInputStreamX makeStream(InputStream stream) throws IOException {
         return new FromByteStream(stream);
     }
+    /**
+     * Consumes each buffer from its position to its limit, a page at a time,
+     * without modifying the buffers' contents or positions. Intended for
+     * direct and memory-mapped buffers; array-backed buffers are better read
+     * in place with {@link #makeStream(byte[], int, int)}.
+     */
+    public static UnifiedInputStreamX makeStream(ByteBuffer... segments) throws IOException {
+        return new FromByteBuffers(segments);
+    }
     public final InputStream getInputStream() { return _stream; }
     public final Reader      getReader()      { return _reader; }
     public final byte[]      getByteArray()   { return _bytes; }
@@ -139,6 +154,19 @@ abstract class UnifiedInputStreamX
         return _eof; // (_state == UIS_STATE.STATE_EOF);
     }
 
+    /**
+     * Clears end-of-file so that the next read refills from the source
+     * again, for sources that may have more data later.
+     */
+    final void resume_after_eof() {
+        if (_eof) {
+            _eof = false;
+            if (_limit < _pos) {
+                _limit = _pos;
+            }
+        }
+    }
+
     /**
      * used to find the current position of this stream in the
      * input source.
@@ -520,7 +548,16 @@ abstract class UnifiedInputStreamX
     {
         int read = 0;
         if (can_fill_new_page()) {
-            if (is_byte_data()) {
+            if (_segments != null) {
+                while (_segment_idx < _segments.length
+                    && !_segments[_segment_idx].hasRemaining()) {
+                    _segment_idx++;
+                }
+                if (_segment_idx < _segments.length) {
+                    read = curr.load(_segments[_segment_idx], start_pos, file_position);
+                }
+            }
+            else if (is_byte_data()) {
                 read = curr.load(_stream, start_pos, file_position);
             }
             else {
@@ -591,9 +628,21 @@ static class FromByteArray extends UnifiedInputStreamX
             make_page_current(curr, 0, offset, offset+length);
             super.init();
         }
+
+        /**
+         * Re-targets this stream at a new array, as if newly constructed
+         * over it, reusing its page and save points.
+         */
+        void reset(byte[] bytes, int offset, int length)
+        {
+            _buffer.reset(bytes, offset, length);
+            _save_points._open_save_points = 0;
+            UnifiedDataPageX curr = _buffer.getCurrentPage();
+            make_page_current(curr, 0, offset, offset+length);
+        }
     }
 
-    private static class FromByteStream extends UnifiedInputStreamX
+    static class FromByteStream extends UnifiedInputStreamX
     {
         FromByteStream(InputStream stream) throws IOException
         {
@@ -605,6 +654,21 @@ static class FromByteArray extends UnifiedInputStreamX
             _limit = refill();
         }
 
+        /**
+         * Re-targets this stream at the start of a new source, as if newly
+         * constructed over it, reusing its page and save points.
+         */
+        void reset(InputStream stream) throws IOException
+        {
+            _buffer.resetForStream();
+            _save_points._open_save_points = 0;
+            _stream = stream;
+            _pos = 0;
+            _limit = 0;
+            _eof = false;
+            _limit = refill();
+        }
+
         @Override
         public void close()
             throws IOException
@@ -613,4 +677,33 @@ static class FromByteArray extends UnifiedInputStreamX
             _stream.close();
         }
     }
+
+    private static class FromByteBuffers extends UnifiedInputStreamX
+    {
+        FromByteBuffers(ByteBuffer[] segments) throws IOException
+        {
+            _is_byte_data = true;
+            _is_stream = true;
+            // read through duplicates so the caller's positions are untouched
+            _segments = new ByteBuffer[segments.length];
+            for (int ii=0; ii<segments.length; ii++) {
+                _segments[ii] = segments[ii].duplicate();
+            }
+            _buffer = UnifiedInputBufferX.makePageBuffer(UnifiedInputBufferX.BufferType.BYTES, DEFAULT_PAGE_SIZE);
+            super.init();
+            _limit = refill();
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            super.close();
+            // release the buffers (which may pin a file mapping)
+            for (int ii=0; ii<_segments.length; ii++) {
+                _segments[ii] = null;
+            }
+            _segment_idx = _segments.length;
+        }
+    }
 }
@@ -65,6 +65,20 @@ final class UnifiedSavePointManagerX
         _active_stack = null;
     }
 
+    /**
+     * Forgets all save point activity, for a stream being re-targeted at new
+     * input. Save points remain allocated to their owners, who must clear
+     * them before the stream is re-targeted.
+     */
+    final void deactivateAll() {
+        while (_active_stack != null) {
+            SavePoint sp = _active_stack;
+            _active_stack = sp._next_active;
+            sp._next_active = null;
+            sp.set_inactive();
+        }
+    }
+
     public final boolean isSavePointOpen() {
         return (_open_save_points > 0);
     }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} that hands the byte ranges written to it to a {@link GatheringByteChannel} in a single
+ * gathering write on {@link #flush()}, rather than in one channel write per range.
+ * <p>
+ * This breaks the usual contract of {@link OutputStream#write(byte[], int, int)}: the written ranges are
+ * <b>retained</b> until the next flush, so the caller must not modify them in the meantime. Blocks from a shared pool
+ * must therefore not be released until then either; {@link #deferReleases(BlockAllocatorProvider)} wraps a provider
+ * so that the blocks it vends go back to the pool only once nothing written to this stream can refer to them.
+ * Single bytes are copied into a buffer of the stream's own.
+ * <p>
+ * The ranges are heap buffers, so the channel may still copy them (NIO does, into a temporary direct buffer); what
+ * this saves is the separate channel write, and so typically the system call, for every range.
+ * <p>
+ * The channel must be in blocking mode.
+ * <p>
+ * This class is <b>not</b> thread-safe.
+ */
+/*package*/ final class GatheringChannelOutputStream extends OutputStream
+{
+    private static final ByteBuffer[] EMPTY_BUFFERS = new ByteBuffer[0];
+
+    /** Size of the buffer that single-byte writes are collected in. */
+    private static final int BYTES_SIZE = 64;
+
+    private final GatheringByteChannel channel;
+    private final List<ByteBuffer> pending;
+    private final List<Block> retained;
+    private ByteBuffer[] gather;
+
+    /** Single bytes written since the last pending range; those before {@link #bytesStart} are pending already. */
+    private byte[] bytes;
+    private int bytesStart;
+    private int bytesLimit;
+
+    public GatheringChannelOutputStream(final GatheringByteChannel channel)
+    {
+        if (channel == null)
+        {
+            throw new NullPointerException("channel is null");
+        }
+        this.channel = channel;
+        this.pending = new ArrayList<ByteBuffer>();
+        this.retained = new ArrayList<Block>();
+        this.gather = EMPTY_BUFFERS;
+        this.bytes = new byte[BYTES_SIZE];
+    }
+
+    @Override
+    public void write(final int b) throws IOException
+    {
+        if (bytesLimit == bytes.length)
+        {
+            addBytes();
+            // the full buffer is pending, so carry on in a fresh one
+            bytes = new byte[BYTES_SIZE];
+            bytesStart = 0;
+            bytesLimit = 0;
+        }
+        bytes[bytesLimit++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException
+    {
+        if (len > 0)
+        {
+            addBytes();
+            pending.add(ByteBuffer.wrap(b, off, len));
+        }
+    }
+
+    /** Makes the single bytes written since the last pending range pending, preserving the order of writes. */
+    private void addBytes()
+    {
+        if (bytesLimit > bytesStart)
+        {
+            pending.add(ByteBuffer.wrap(bytes, bytesStart, bytesLimit - bytesStart));
+            bytesStart = bytesLimit;
+        }
+    }
+
+    /**
+     * Returns a provider whose blocks, once closed, are only released to the given provider when nothing written to
+     * this stream can still refer to them: immediately if no ranges are pending, otherwise after the next flush.
+     */
+    /*package*/ BlockAllocatorProvider deferReleases(final BlockAllocatorProvider provider)
+    {
+        return new BlockAllocatorProvider()
+        {
+            @Override
+            public BlockAllocator vendAllocator(final int blockSize)
+            {
+                final BlockAllocator allocator = provider.vendAllocator(blockSize);
+                return new BlockAllocator()
+                {
+                    @Override
+                    public Block allocateBlock()
+                    {
+                        final Block block = allocator.allocateBlock();
+                        return new Block(block.data)
+                        {
+                            @Override
+                            public void close()
+                            {
+                                release(block);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int getBlockSize()
+                    {
+                        return allocator.getBlockSize();
+                    }
+
+                    @Override
+                    public void close()
+                    {
+                        allocator.close();
+                    }
+                };
+            }
+        };
+    }
+
+    private void release(final Block block)
+    {
+        if (pending.isEmpty())
+        {
+            block.close();
+        }
+        else
+        {
+            retained.add(block);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        try
+        {
+            addBytes();
+            final int count = pending.size();
+            if (count == 0)
+            {
+                return;
+            }
+            gather = pending.toArray(gather);
+            pending.clear();
+
+            int offset = 0;
+            while (offset < count)
+            {
+                channel.write(gather, offset, count - offset);
+                while (offset < count && !gather[offset].hasRemaining())
+                {
+                    // don't retain the caller's data past this flush
+                    gather[offset++] = null;
+                }
+            }
+        }
+        finally
+        {
+            // nothing refers to the retained blocks any more--on failure the pending ranges are dropped as well
+            bytesStart = 0;
+            bytesLimit = 0;
+            for (final Block block : retained)
+            {
+                block.close();
+            }
+            retained.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.ion.impl.bin;
 import static java.util.Collections.unmodifiableList;
 import static software.amazon.ion.IonType.LIST;
 import static software.amazon.ion.IonType.STRUCT;
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
 import static software.amazon.ion.SystemSymbols.IMPORTS_SID;
 import static software.amazon.ion.SystemSymbols.ION_1_0_MAX_ID;
 import static software.amazon.ion.SystemSymbols.ION_1_0_SID;
@@ -54,7 +55,7 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
 
 /** Wraps {@link IonRawBinaryWriter} with symbol table management. */
-/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter
+/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter implements PrivateIonResettableWriter
 {
     private interface SymbolResolver
     {
@@ -160,10 +161,10 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
                             {
                                 for (final ImportTablePosition tableImport : imports)
                                 {
-                                    final SymbolToken token = tableImport.table.find(text);
-                                    if (token != null)
+                                    final int sid = tableImport.table.findSymbol(text);
+                                    if (sid != UNKNOWN_SYMBOL_ID)
                                     {
-                                        return symbol(text, token.getSid() + tableImport.startId - 1);
+                                        return symbol(text, sid + tableImport.startId - 1);
                                     }
                                 }
                                 return null;
@@ -1092,6 +1093,56 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         imports = bootstrapImports;
     }
 
+    public void reset(final OutputStream out) throws IOException
+    {
+        reset(out, false);
+    }
+
+    public void reset(final OutputStream out, final boolean retainLocalSymbols) throws IOException
+    {
+        if (out == null) { throw new NullPointerException(); }
+        if (closed)
+        {
+            throw new IllegalStateException("Cannot reset a closed writer");
+        }
+        if (getDepth() != 0)
+        {
+            throw new IllegalStateException("IonWriter.reset() can only be called at top-level.");
+        }
+        if (symbolState == SymbolState.LOCAL_SYMBOLS_WITH_IMPORTS_ONLY || symbolState == SymbolState.LOCAL_SYMBOLS)
+        {
+            // a table was started without any values following it (e.g. re-declared by a previous reset),
+            // so it has to be closed out before the buffers can be finished
+            forceSystemOutput = true;
+        }
+
+        if (retainLocalSymbols)
+        {
+            unsafeFlush();
+        }
+        else
+        {
+            finish();
+        }
+        symbols.reset(out);
+        user.reset(out);
+
+        symbolState = SymbolState.SYSTEM_SYMBOLS;
+        if (retainLocalSymbols && (!locals.isEmpty() || !imports.parents.isEmpty()))
+        {
+            // the new stream knows nothing of the old one's symbols, so declare them all again up front
+            startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+            if (!locals.isEmpty())
+            {
+                startLocalSymbolTableSymbolListIfNeeded();
+                for (final String text : locals.keySet())
+                {
+                    symbols.writeString(text);
+                }
+            }
+        }
+    }
+
     public void close() throws IOException
     {
         if (closed)
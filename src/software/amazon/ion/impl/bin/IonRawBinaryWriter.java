@@ -455,7 +455,7 @@ import software.amazon.ion.Timestamp;
     }
 
     private final BlockAllocator                allocator;
-    private final OutputStream                  out;
+    private OutputStream                        out;
     private final StreamCloseMode               streamCloseMode;
     private final StreamFlushMode               streamFlushMode;
     private final PreallocationMode             preallocationMode;
@@ -1476,6 +1476,25 @@ import software.amazon.ion.Timestamp;
         hasWrittenValuesSinceFinished = false;
     }
 
+    /**
+     * Finishes any pending data to the current stream and retargets this writer at another
+     * stream, retaining its allocated buffers.  The previous stream is neither flushed beyond
+     * what {@link #finish()} does nor closed.
+     */
+    /*package*/ void reset(final OutputStream out) throws IOException
+    {
+        if (out == null) { throw new NullPointerException(); }
+        if (closed)
+        {
+            throw new IllegalStateException("Cannot reset a closed writer");
+        }
+        finish();
+
+        this.out = out;
+        this.hasWrittenValuesSinceConstructed = false;
+        this.hasTopLevelSymbolTableAnnotation = false;
+    }
+
     public void close() throws IOException
     {
         if (closed)
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+/**
+ * Statistics and maintenance for a block pool shared by the writers of a
+ * {@link PrivateIonManagedBinaryWriterBuilder}.
+ *
+ * @see PrivateIonManagedBinaryWriterBuilder#getBlockPool()
+ *
+ * @deprecated This is an internal API that is subject to change without notice.
+ */
+@Deprecated
+public interface PrivateBlockPool
+{
+    /** Returns the number of blocks requested from this pool. */
+    public long getAllocationCount();
+
+    /** Returns the number of block requests satisfied with a free block. */
+    public long getPoolHitCount();
+
+    /** Returns the number of block requests that required a new block. */
+    public long getPoolMissCount();
+
+    /** Returns the total size of the free blocks currently retained for reuse. */
+    public long getRetainedBytes();
+
+    /**
+     * Releases every free block that has not been allocated since the previous trim, whether triggered by the
+     * pool's idle period or by this method.
+     */
+    public void trimIdleBlocks();
+}
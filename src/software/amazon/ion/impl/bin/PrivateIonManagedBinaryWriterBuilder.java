@@ -18,8 +18,10 @@ import static software.amazon.ion.impl.bin.IonManagedBinaryWriter.ONLY_SYSTEM_IM
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.GatheringByteChannel;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SubstituteSymbolTableException;
@@ -60,6 +62,20 @@ public final class PrivateIonManagedBinaryWriterBuilder
             {
                 return BlockAllocatorProviders.basicProvider();
             }
+        },
+        /**
+         * Pools blocks in per-thread stripes, with a cap on the blocks retained for each size and the release of
+         * blocks left idle; suited to many concurrent writers.
+         *
+         * @see PrivateIonManagedBinaryWriterBuilder#createStriped(int, long)
+         */
+        STRIPED
+        {
+            @Override
+            BlockAllocatorProvider createAllocatorProvider()
+            {
+                return new StripedBlockAllocatorProvider();
+            }
         };
 
         /*package*/ abstract BlockAllocatorProvider createAllocatorProvider();
@@ -91,7 +107,13 @@ public final class PrivateIonManagedBinaryWriterBuilder
 
     private PrivateIonManagedBinaryWriterBuilder(final PrivateIonManagedBinaryWriterBuilder other)
     {
-        this.provider           = other.provider;
+        this(other, other.provider);
+    }
+
+    private PrivateIonManagedBinaryWriterBuilder(final PrivateIonManagedBinaryWriterBuilder other,
+                                                 final BlockAllocatorProvider provider)
+    {
+        this.provider           = provider;
         this.symbolsBlockSize   = other.symbolsBlockSize;
         this.userBlockSize      = other.userBlockSize;
         this.preallocationMode  = other.preallocationMode;
@@ -236,6 +258,15 @@ public final class PrivateIonManagedBinaryWriterBuilder
         return this;
     }
 
+    /**
+     * Returns the statistics of the block pool shared by this builder and its copies, or null if its
+     * {@link AllocatorMode} does not keep any; only {@link AllocatorMode#STRIPED} pools do.
+     */
+    public PrivateBlockPool getBlockPool()
+    {
+        return provider instanceof PrivateBlockPool ? (PrivateBlockPool) provider : null;
+    }
+
     // Construction
 
     public IonWriter newWriter(final OutputStream out) throws IOException
@@ -243,6 +274,47 @@ public final class PrivateIonManagedBinaryWriterBuilder
         return new IonManagedBinaryWriter(this, out);
     }
 
+    /**
+     * Constructs a writer that can later be retargeted at other streams, reusing its buffers.
+     *
+     * @see PrivateIonResettableWriter
+     */
+    public PrivateIonResettableWriter newResettableWriter(final OutputStream out) throws IOException
+    {
+        return new IonManagedBinaryWriter(this, out);
+    }
+
+    /**
+     * Constructs a writer that hands its buffered blocks to the given channel in a single gathering write each time
+     * it is flushed, rather than writing them to a stream one at a time.
+     *
+     * @param channel must be in blocking mode; it is closed when the writer is closed.
+     */
+    public IonWriter newWriter(final GatheringByteChannel channel) throws IOException
+    {
+        final GatheringChannelOutputStream out = new GatheringChannelOutputStream(channel);
+        // the stream refers to the writer's blocks until it flushes, so they can't go back to the pool before then
+        return new IonManagedBinaryWriter(new PrivateIonManagedBinaryWriterBuilder(this, out.deferReleases(provider)),
+                                          out);
+    }
+
+    /**
+     * Constructs a writer that encodes segments of top-level values on the given executor, each with a writer built
+     * from a copy of this builder, and concatenates them to the stream in submission order.
+     *
+     * @param valuesPerSegment the number of values encoded by each task.
+     * @param maxPendingSegments the number of segments that may be in flight before submitting more values waits.
+     *
+     * @see PrivateIonParallelBinaryWriter
+     */
+    public PrivateIonParallelBinaryWriter newParallelWriter(final OutputStream out,
+                                                            final ExecutorService executor,
+                                                            final int valuesPerSegment,
+                                                            final int maxPendingSegments)
+    {
+        return new PrivateIonParallelBinaryWriter(this, out, executor, valuesPerSegment, maxPendingSegments);
+    }
+
     // Static Factories
 
     /**
@@ -255,4 +327,20 @@ public final class PrivateIonManagedBinaryWriterBuilder
     {
         return new PrivateIonManagedBinaryWriterBuilder(allocatorMode.createAllocatorProvider());
     }
+
+    /**
+     * Constructs a new builder with a {@link AllocatorMode#STRIPED} allocation pool.
+     *
+     * @param maxRetainedBlocks the maximum number of free blocks retained for each block size.
+     * @param idleTrimMillis how long a free block may go unused before it is released, or zero to never release
+     *  free blocks.
+     */
+    public static PrivateIonManagedBinaryWriterBuilder createStriped(final int maxRetainedBlocks,
+                                                                      final long idleTrimMillis)
+    {
+        return new PrivateIonManagedBinaryWriterBuilder(
+            new StripedBlockAllocatorProvider(Runtime.getRuntime().availableProcessors(),
+                                              maxRetainedBlocks,
+                                              idleTrimMillis));
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+
+/**
+ * Encodes top-level values to binary Ion on a number of threads.
+ * <p>
+ * Values are grouped into segments of a fixed number of values, in submission order. Each segment is encoded by
+ * a task on the given {@link ExecutorService}, with its own writer built by a
+ * {@link PrivateIonManagedBinaryWriterBuilder}. Each segment therefore starts with an Ion version marker and its own
+ * local symbol table, which makes it a valid stream on its own, so the segments are simply concatenated to the
+ * output in submission order. To keep the repeated symbol tables small, configure the builder with the imports
+ * or the initial symbol table that the producers agreed on in advance.
+ * <p>
+ * Submitted values are read by the encoding threads, so they must not be modified until {@link #flush()} returns.
+ * Making them read-only first ensures they are safe to read concurrently.
+ * <p>
+ * This class is <b>not</b> thread-safe: values must be submitted by a single thread.
+ *
+ * @deprecated This is an internal API that is subject to change without notice.
+ */
+@Deprecated
+public final class PrivateIonParallelBinaryWriter
+    implements Closeable, Flushable
+{
+    private final PrivateIonManagedBinaryWriterBuilder builder;
+    private final OutputStream out;
+    private final ExecutorService executor;
+    private final int valuesPerSegment;
+    private final int maxPendingSegments;
+
+    /** Segments being encoded, in submission order. */
+    private final ArrayDeque<Future<ByteArrayOutputStream>> pending;
+    private List<IonValue> current;
+    private boolean closed;
+
+    /**
+     * @param builder is copied, so later changes to it don't affect this writer.
+     * @param out receives the segments; it is closed when this writer is closed.
+     * @param executor runs the encoding tasks; it is not shut down by this writer.
+     * @param valuesPerSegment the number of values encoded by each task.
+     * @param maxPendingSegments the number of segments that may be encoding or waiting to be written before
+     *  submitting a value waits for the oldest of them.
+     */
+    /*package*/ PrivateIonParallelBinaryWriter(final PrivateIonManagedBinaryWriterBuilder builder,
+                                               final OutputStream out,
+                                               final ExecutorService executor,
+                                               final int valuesPerSegment,
+                                               final int maxPendingSegments)
+    {
+        if (valuesPerSegment < 1)
+        {
+            throw new IllegalArgumentException("Values per segment cannot be less than 1: " + valuesPerSegment);
+        }
+        if (maxPendingSegments < 1)
+        {
+            throw new IllegalArgumentException("Pending segments cannot be less than 1: " + maxPendingSegments);
+        }
+        this.builder = builder.copy();
+        this.out = out;
+        this.executor = executor;
+        this.valuesPerSegment = valuesPerSegment;
+        this.maxPendingSegments = maxPendingSegments;
+        this.pending = new ArrayDeque<Future<ByteArrayOutputStream>>();
+        this.current = new ArrayList<IonValue>(valuesPerSegment);
+    }
+
+    /**
+     * Adds a value to the current segment, submitting the segment for encoding once it is full. Completed segments
+     * are written out as they become available.
+     */
+    public void writeValue(final IonValue value) throws IOException
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Writer is closed");
+        }
+        current.add(value);
+        if (current.size() >= valuesPerSegment)
+        {
+            submitSegment();
+        }
+    }
+
+    private void submitSegment() throws IOException
+    {
+        if (current.isEmpty())
+        {
+            return;
+        }
+        final List<IonValue> values = current;
+        current = new ArrayList<IonValue>(valuesPerSegment);
+
+        pending.add(executor.submit(new Callable<ByteArrayOutputStream>()
+        {
+            public ByteArrayOutputStream call() throws IOException
+            {
+                return encode(values);
+            }
+        }));
+
+        // write out the segments that are done, in order, and bound the work in flight
+        while (!pending.isEmpty()
+               && (pending.peek().isDone() || pending.size() > maxPendingSegments))
+        {
+            writeSegment(pending.poll());
+        }
+    }
+
+    private ByteArrayOutputStream encode(final List<IonValue> values) throws IOException
+    {
+        final ByteArrayOutputStream segment = new ByteArrayOutputStream();
+        final IonWriter writer = builder.newWriter(segment);
+        for (final IonValue value : values)
+        {
+            value.writeTo(writer);
+        }
+        writer.close();
+        return segment;
+    }
+
+    private void writeSegment(final Future<ByteArrayOutputStream> segment) throws IOException
+    {
+        try
+        {
+            segment.get().writeTo(out);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a segment to be encoded");
+        }
+        catch (final ExecutionException e)
+        {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new IonException(cause);
+        }
+    }
+
+    /**
+     * Submits the current segment, even if it isn't full, and writes out all segments once they are encoded.
+     *
+     * @throws IllegalStateException if this writer is closed.
+     */
+    public void flush() throws IOException
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Writer is closed");
+        }
+        writeSegments();
+    }
+
+    private void writeSegments() throws IOException
+    {
+        submitSegment();
+        while (!pending.isEmpty())
+        {
+            writeSegment(pending.poll());
+        }
+        out.flush();
+    }
+
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            writeSegments();
+        }
+        finally
+        {
+            for (final Future<ByteArrayOutputStream> segment : pending)
+            {
+                segment.cancel(true);
+            }
+            pending.clear();
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import software.amazon.ion.IonWriter;
+
+/**
+ * A binary {@link IonWriter} that can be retargeted at another stream, so that a single writer and its buffers can
+ * be reused for many small outputs.
+ *
+ * @deprecated This is an internal API that is subject to change without notice.
+ */
+@Deprecated
+public interface PrivateIonResettableWriter
+    extends IonWriter
+{
+    /**
+     * Finishes the current stream and retargets this writer at the given stream, starting a fresh symbol context.
+     * Equivalent to {@code reset(out, false)}.
+     */
+    public void reset(OutputStream out) throws IOException;
+
+    /**
+     * Finishes the current stream, as {@link #finish()} does, and retargets this writer at the given stream.
+     * The previous stream is not closed.
+     *
+     * @param retainLocalSymbols if true, the local symbols accumulated so far are kept, and are declared again at
+     *  the start of the new stream so that values written to it may continue to use them; otherwise the new stream
+     *  starts with only the writer's configured imports.
+     *
+     * @throws IllegalStateException if this writer is closed or is not at top-level.
+     */
+    public void reset(OutputStream out, boolean retainLocalSymbols) throws IOException;
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A pooling implementation of {@link BlockAllocatorProvider} that spreads the free blocks of each size over a number
+ * of independently locked stripes, chosen by the calling thread, so that many writer threads don't contend on a
+ * single free list.
+ * <p>
+ * Unlike {@link PooledBlockAllocatorProvider}, the number of free blocks retained for each block size is capped;
+ * blocks closed beyond the cap are left to the garbage collector. Blocks that sit unused in a stripe for a whole
+ * idle period are also released, so that memory retained after a spike in load is eventually given back.
+ * <p>
+ * This implementation is thread-safe.
+ */
+/*package*/ final class StripedBlockAllocatorProvider
+    extends BlockAllocatorProvider
+    implements PrivateBlockPool
+{
+    /*package*/ static final int DEFAULT_MAX_RETAINED_BLOCKS = 64;
+    /*package*/ static final long DEFAULT_IDLE_TRIM_MILLIS = 60000;
+
+    private static final int ALLOCATIONS    = 0;
+    private static final int HITS           = 1;
+    private static final int MISSES         = 2;
+    private static final int RETAINED_BYTES = 3;
+    private static final int COUNTER_COUNT  = 4;
+
+    /**
+     * The free blocks of one size that are owned by a subset of threads.
+     * Fields are guarded by the lock itself.
+     */
+    private static final class Stripe extends ReentrantLock
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Block[] free;
+        private int size;
+        /** The lowest {@link #size} since the last trim; these blocks have been idle throughout. */
+        private int lowWater;
+        private long lastTrimNanos;
+
+        private long allocations;
+        private long hits;
+        private long misses;
+
+        Stripe(final int capacity, final long now)
+        {
+            this.free = new Block[capacity];
+            this.lastTrimNanos = now;
+        }
+
+        /** Must be called with the lock held. */
+        Block poll()
+        {
+            if (size == 0)
+            {
+                return null;
+            }
+            final Block block = free[--size];
+            free[size] = null;
+            if (size < lowWater)
+            {
+                lowWater = size;
+            }
+            return block;
+        }
+
+        /** Must be called with the lock held. */
+        void trim(final long now)
+        {
+            final int idle = lowWater;
+            for (int i = 0; i < idle; i++)
+            {
+                free[--size] = null;
+            }
+            lowWater = size;
+            lastTrimNanos = now;
+        }
+    }
+
+    /**
+     * A {@link BlockAllocator} for a particular size whose free blocks are striped.
+     * <p>
+     * This implementation is thread-safe.
+     */
+    private final class StripedBlockAllocator extends BlockAllocator
+    {
+        private final int blockSize;
+        private final Stripe[] stripes;
+
+        public StripedBlockAllocator(final int blockSize)
+        {
+            this.blockSize = blockSize;
+            this.stripes = new Stripe[stripeCount];
+
+            // split the cap exactly, so that the stripes together never retain more than it
+            final int capacity = maxRetainedBlocks / stripeCount;
+            final int remainder = maxRetainedBlocks % stripeCount;
+            final long now = System.nanoTime();
+            for (int i = 0; i < stripes.length; i++)
+            {
+                stripes[i] = new Stripe(i < remainder ? capacity + 1 : capacity, now);
+            }
+        }
+
+        private Stripe currentStripe()
+        {
+            return stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        }
+
+        @Override
+        public Block allocateBlock()
+        {
+            final Stripe stripe = currentStripe();
+            Block block;
+            stripe.lock();
+            try
+            {
+                stripe.allocations++;
+                block = stripe.poll();
+                if (block == null)
+                {
+                    block = steal(stripe);
+                }
+                if (block == null)
+                {
+                    stripe.misses++;
+                }
+                else
+                {
+                    stripe.hits++;
+                }
+            }
+            finally
+            {
+                stripe.unlock();
+            }
+
+            if (block == null)
+            {
+                block = new Block(new byte[blockSize])
+                {
+                    @Override
+                    public void close()
+                    {
+                        reset();
+                        release(this);
+                    }
+                };
+            }
+            return block;
+        }
+
+        /** Takes a free block from any other stripe that isn't busy. */
+        private Block steal(final Stripe home)
+        {
+            for (final Stripe stripe : stripes)
+            {
+                if (stripe != home && stripe.tryLock())
+                {
+                    try
+                    {
+                        final Block block = stripe.poll();
+                        if (block != null)
+                        {
+                            return block;
+                        }
+                    }
+                    finally
+                    {
+                        stripe.unlock();
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void release(final Block block)
+        {
+            final Stripe stripe = currentStripe();
+            stripe.lock();
+            try
+            {
+                if (idleTrimNanos > 0)
+                {
+                    final long now = System.nanoTime();
+                    if (now - stripe.lastTrimNanos >= idleTrimNanos)
+                    {
+                        stripe.trim(now);
+                    }
+                }
+                if (stripe.size < stripe.free.length)
+                {
+                    stripe.free[stripe.size++] = block;
+                    return;
+                }
+            }
+            finally
+            {
+                stripe.unlock();
+            }
+            donate(stripe, block);
+        }
+
+        /** Gives a free block to any other stripe that isn't busy and has room for it. */
+        private void donate(final Stripe home, final Block block)
+        {
+            for (final Stripe stripe : stripes)
+            {
+                if (stripe != home && stripe.tryLock())
+                {
+                    try
+                    {
+                        if (stripe.size < stripe.free.length)
+                        {
+                            stripe.free[stripe.size++] = block;
+                            return;
+                        }
+                    }
+                    finally
+                    {
+                        stripe.unlock();
+                    }
+                }
+            }
+        }
+
+        private void trim()
+        {
+            final long now = System.nanoTime();
+            for (final Stripe stripe : stripes)
+            {
+                stripe.lock();
+                try
+                {
+                    stripe.trim(now);
+                }
+                finally
+                {
+                    stripe.unlock();
+                }
+            }
+        }
+
+        /** Adds the counters of every stripe to the given counter indexes. */
+        private void addCounters(final long[] totals)
+        {
+            for (final Stripe stripe : stripes)
+            {
+                stripe.lock();
+                try
+                {
+                    totals[ALLOCATIONS]    += stripe.allocations;
+                    totals[HITS]           += stripe.hits;
+                    totals[MISSES]         += stripe.misses;
+                    totals[RETAINED_BYTES] += (long) stripe.size * blockSize;
+                }
+                finally
+                {
+                    stripe.unlock();
+                }
+            }
+        }
+
+        @Override
+        public int getBlockSize()
+        {
+            return blockSize;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private final ConcurrentMap<Integer, StripedBlockAllocator> allocators;
+    private final int stripeCount;
+    private final int maxRetainedBlocks;
+    private final long idleTrimNanos;
+
+    /**
+     * Constructs a provider with one stripe per available processor, retaining up to
+     * {@value #DEFAULT_MAX_RETAINED_BLOCKS} free blocks of each size and trimming blocks that are idle for
+     * {@value #DEFAULT_IDLE_TRIM_MILLIS} milliseconds.
+     */
+    public StripedBlockAllocatorProvider()
+    {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_RETAINED_BLOCKS, DEFAULT_IDLE_TRIM_MILLIS);
+    }
+
+    /**
+     * @param stripes the number of free lists per block size; rounded up to a power of two.
+     * @param maxRetainedBlocks the maximum number of free blocks retained for each block size, across all stripes,
+     *  or zero to retain none.
+     * @param idleTrimMillis how long a free block may go unused before it is released, or zero to never release
+     *  free blocks.
+     */
+    public StripedBlockAllocatorProvider(final int stripes, final int maxRetainedBlocks, final long idleTrimMillis)
+    {
+        if (stripes <= 0)
+        {
+            throw new IllegalArgumentException("Invalid stripe count: " + stripes);
+        }
+        if (maxRetainedBlocks < 0)
+        {
+            throw new IllegalArgumentException("Invalid retained block count: " + maxRetainedBlocks);
+        }
+        if (idleTrimMillis < 0)
+        {
+            throw new IllegalArgumentException("Invalid idle trim period: " + idleTrimMillis);
+        }
+
+        int count = 1;
+        while (count < stripes)
+        {
+            count <<= 1;
+        }
+        this.allocators = new ConcurrentHashMap<Integer, StripedBlockAllocator>();
+        this.stripeCount = count;
+        this.maxRetainedBlocks = maxRetainedBlocks;
+        this.idleTrimNanos = TimeUnit.MILLISECONDS.toNanos(idleTrimMillis);
+    }
+
+    @Override
+    public BlockAllocator vendAllocator(final int blockSize)
+    {
+        if (blockSize <= 0)
+        {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+
+        StripedBlockAllocator allocator = allocators.get(blockSize);
+        if (allocator == null)
+        {
+            allocator = new StripedBlockAllocator(blockSize);
+            final StripedBlockAllocator existingAllocator = allocators.putIfAbsent(blockSize, allocator);
+            if (existingAllocator != null)
+            {
+                allocator = existingAllocator;
+            }
+        }
+        return allocator;
+    }
+
+    @Override
+    public void trimIdleBlocks()
+    {
+        for (final StripedBlockAllocator allocator : allocators.values())
+        {
+            allocator.trim();
+        }
+    }
+
+    @Override
+    public long getAllocationCount()
+    {
+        return counters()[ALLOCATIONS];
+    }
+
+    @Override
+    public long getPoolHitCount()
+    {
+        return counters()[HITS];
+    }
+
+    @Override
+    public long getPoolMissCount()
+    {
+        return counters()[MISSES];
+    }
+
+    @Override
+    public long getRetainedBytes()
+    {
+        return counters()[RETAINED_BYTES];
+    }
+
+    private long[] counters()
+    {
+        final long[] totals = new long[COUNTER_COUNT];
+        for (final StripedBlockAllocator allocator : allocators.values())
+        {
+            allocator.addCounters(totals);
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * An open-addressed index from field name to position within the children
+ * of an {@link IonStructLite}. Small structs are scanned linearly instead;
+ * the struct builds its index once it grows past its initial capacity.
+ * <p>
+ * Every field with known text has its own slot, including duplicates, so
+ * adding or removing a field never requires scanning the struct. A lookup
+ * returns the highest matching position. Fields whose name has no known
+ * text can't be looked up by name, and aren't indexed.
+ * <p>
+ * The index uses linear probing over parallel arrays of names, hash codes
+ * and positions, and deletes by shifting later entries back rather than
+ * leaving tombstones.
+ */
+final class FieldIndex
+{
+    private static final int MIN_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private String[] myNames;
+    private int[]    myHashes;
+    /** The child position held in each slot, or {@link #EMPTY}. */
+    private int[]    myPositions;
+    private int      myCount;
+
+    FieldIndex(int expectedFields)
+    {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedFields * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    FieldIndex(FieldIndex existing)
+    {
+        myNames     = existing.myNames.clone();
+        myHashes    = existing.myHashes.clone();
+        myPositions = existing.myPositions.clone();
+        myCount     = existing.myCount;
+    }
+
+    private void allocate(int capacity)
+    {
+        myNames     = new String[capacity];
+        myHashes    = new int[capacity];
+        myPositions = new int[capacity];
+        Arrays.fill(myPositions, EMPTY);
+        myCount = 0;
+    }
+
+    private static int hash(String name)
+    {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param name may be null, in which case the field isn't indexed.
+     */
+    void add(String name, int position)
+    {
+        if (name == null) return;
+
+        if ((myCount + 1) * 2 > myPositions.length) {
+            grow();
+        }
+        insert(name, hash(name), position);
+    }
+
+    private void insert(String name, int hash, int position)
+    {
+        int mask = myPositions.length - 1;
+        int slot = hash & mask;
+        while (myPositions[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        myNames[slot]     = name;
+        myHashes[slot]    = hash;
+        myPositions[slot] = position;
+        myCount++;
+    }
+
+    private void grow()
+    {
+        String[] names     = myNames;
+        int[]    hashes    = myHashes;
+        int[]    positions = myPositions;
+
+        allocate(positions.length * 2);
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] != EMPTY) {
+                insert(names[i], hashes[i], positions[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the highest position of a field with the given name, or -1.
+     */
+    int find(String name)
+    {
+        int hash = hash(name);
+        int mask = myPositions.length - 1;
+        int found = -1;
+        for (int slot = hash & mask;
+             myPositions[slot] != EMPTY;
+             slot = (slot + 1) & mask)
+        {
+            if (myHashes[slot] == hash
+                && myPositions[slot] > found
+                && name.equals(myNames[slot]))
+            {
+                found = myPositions[slot];
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Removes the entry for the field at the given position. This doesn't
+     * adjust the positions of later fields; see {@link #shiftDown(int)}.
+     *
+     * @param name may be null, in which case the field isn't indexed.
+     */
+    void remove(String name, int position)
+    {
+        if (name == null) return;
+
+        int mask = myPositions.length - 1;
+        int slot = hash(name) & mask;
+        while (myPositions[slot] != position) {
+            assert myPositions[slot] != EMPTY : "field not indexed";
+            slot = (slot + 1) & mask;
+        }
+
+        // Move back any later entry in the probe sequence that could
+        // otherwise no longer be reached from its home slot.
+        int hole = slot;
+        for (int i = (hole + 1) & mask;
+             myPositions[i] != EMPTY;
+             i = (i + 1) & mask)
+        {
+            int home = myHashes[i] & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                myNames[hole]     = myNames[i];
+                myHashes[hole]    = myHashes[i];
+                myPositions[hole] = myPositions[i];
+                hole = i;
+            }
+        }
+        myNames[hole]     = null;
+        myPositions[hole] = EMPTY;
+        myCount--;
+    }
+
+    /**
+     * Accounts for the removal of the child at the given position by
+     * decrementing the positions of all fields after it.
+     */
+    void shiftDown(int removedPosition)
+    {
+        int[] positions = myPositions;
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] > removedPosition) {
+                positions[i]--;
+            }
+        }
+    }
+
+    void dump(PrintWriter out)
+    {
+        out.print("   index: [");
+        boolean first = true;
+        for (int i = 0; i < myPositions.length; i++) {
+            if (myPositions[i] != EMPTY) {
+                if (!first) {
+                    out.print(",");
+                }
+                out.print(myNames[i]+":"+myPositions[i]);
+                first = false;
+            }
+        }
+        out.println("]");
+    }
+
+    /**
+     * @return a description of any entries that don't match the children,
+     * or the empty string.
+     */
+    String validate(IonValueLite[] children, int childCount)
+    {
+        String error = "";
+        int named = 0;
+        for (int ii = 0; ii < childCount; ii++) {
+            if (children[ii].getFieldNameText() != null) {
+                named++;
+            }
+        }
+        if (named != myCount) {
+            error += "index has "+myCount+" entries for "+named+" named fields\n";
+        }
+        for (int i = 0; i < myPositions.length; i++) {
+            int idx = myPositions[i];
+            if (idx == EMPTY) continue;
+
+            IonValueLite v = (idx < childCount) ? children[idx] : null;
+            if (v == null || idx != v._elementid()
+                || !myNames[i].equals(v.getFieldNameText())
+                || find(myNames[i]) < 0)
+            {
+                error += "index entry ["+myNames[i]+":"+idx+"] doesn't match list value ["+v+"]\n";
+            }
+        }
+        return error;
+    }
+}
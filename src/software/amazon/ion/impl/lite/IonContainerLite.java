@@ -14,7 +14,7 @@
 
 package software.amazon.ion.impl.lite;
 
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
@@ -23,6 +23,7 @@ import software.amazon.ion.IonContainer;
 import software.amazon.ion.IonDatagram;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
 import software.amazon.ion.NullValueException;
 import software.amazon.ion.ReadOnlyValueException;
 import software.amazon.ion.SymbolTable;
@@ -39,6 +40,11 @@ abstract class IonContainerLite
     protected int            _child_count;
     protected IonValueLite[] _children;
     protected int            structuralModificationCount;
+    /**
+     * Non-null when this container was loaded lazily and its children have
+     * yet to be materialized; {@link #_children} is empty until then.
+     */
+    private LazyContent      _lazy;
 
     protected IonContainerLite(ContainerlessContext context, boolean isNull)
     {
@@ -49,6 +55,8 @@ abstract class IonContainerLite
 
     IonContainerLite(IonContainerLite existing, IonContext context, boolean isStruct) {
         super(existing, context);
+        // unmaterialized content is immutable, so the copy can share it
+        this._lazy = existing._lazy;
         int childCount = existing._child_count;
         this._child_count = childCount;
         // when cloning the children we establish 'this' the cloned outer container as the context
@@ -90,6 +98,7 @@ abstract class IonContainerLite
     public void clear()
     {
         checkForLock();
+        _lazy = null;
 
         if (_isNullValue())
         {
@@ -178,6 +187,7 @@ abstract class IonContainerLite
             if (_isLocked() && !readOnly) {
                 throw new IllegalStateException("you can't open an updatable iterator on a read only value");
             }
+            materialize();
             if (index < 0 || index > _child_count) {
                 throw new IndexOutOfBoundsException(Integer.toString(index));
             }
@@ -386,6 +396,8 @@ abstract class IonContainerLite
     {
         if (_isLocked()) return;
 
+        // read-only values must be safe for concurrent reads
+        materialize();
         if (_children != null) {
             for (int ii=0; ii<_child_count; ii++) {
                 IonValueLite child = _children[ii];
@@ -435,8 +447,9 @@ abstract class IonContainerLite
     void clearSymbolIDValues()
     {
         super.clearSymbolIDValues();
-        for (int ii=0; ii<get_child_count(); ii++) {
-            IonValueLite child = get_child(ii);
+        // unmaterialized children hold no symbol IDs, so don't load them
+        for (int ii=0; ii<_child_count; ii++) {
+            IonValueLite child = _children[ii];
             child.clearSymbolIDValues();
         }
     }
@@ -597,7 +610,7 @@ abstract class IonContainerLite
     }
 
     /**
-     * This is overriden in {@link IonStructLite} to add the {@link HashMap} of
+     * This is overriden in {@link IonStructLite} to add the {@link FieldIndex} of
      * field names when the struct becomes moderately large.
      *
      * @param size
@@ -607,11 +620,54 @@ abstract class IonContainerLite
         return;
     }
 
+    /**
+     * Associates this (empty) container with the children it will load
+     * lazily.
+     */
+    final void setLazyContent(LazyContent lazy)
+    {
+        assert _child_count == 0;
+        _lazy = lazy;
+    }
+
+    /**
+     * Loads the children of a lazily-loaded container. This must be called
+     * before touching {@link #_children} or {@link #_child_count}.
+     */
+    final void materialize()
+    {
+        LazyContent lazy = _lazy;
+        if (lazy != null) {
+            _lazy = null; // first, since adding the children checks it
+            lazy.materialize(this);
+        }
+    }
+
+    /**
+     * Writes this container from its source if it has not been materialized,
+     * which lets unmodified content be copied rather than re-encoded.
+     *
+     * @return false if this container has been materialized and must be
+     * written from its children.
+     */
+    final boolean writeLazyBodyTo(IonWriter writer)
+        throws IOException
+    {
+        LazyContent lazy = _lazy;
+        if (lazy == null) {
+            return false;
+        }
+        lazy.writeTo(writer, hasTypeAnnotations());
+        return true;
+    }
+
     public final int get_child_count() {
+        materialize();
         return _child_count;
     }
 
     public final IonValueLite get_child(int idx) {
+        materialize();
         if (idx < 0 || idx >= _child_count) {
             throw new IndexOutOfBoundsException(Integer.toString(idx));
         }
@@ -621,6 +677,7 @@ abstract class IonContainerLite
 
     final IonValueLite set_child(int idx, IonValueLite child)
     {
+        materialize();
         if (idx < 0 || idx >= _child_count) {
             throw new IndexOutOfBoundsException(Integer.toString(idx));
         }
@@ -640,6 +697,7 @@ abstract class IonContainerLite
      */
     protected int add_child(int idx, IonValueLite child)
     {
+        materialize();
         _isNullValue(false); // if we add children we're not null anymore
         child.setContext(this.getContextForIndex(child, idx));
         if (_children == null || _child_count >= _children.length) {
@@ -664,6 +722,38 @@ abstract class IonContainerLite
     }
 
 
+    /**
+     * Appends a child just loaded from this container's source. Loading
+     * doesn't change the content, so unlike {@link #add(IonValue)} this
+     * neither validates the child nor checks locks, and any cached datagram
+     * encoding stays valid.
+     */
+    void addLoadedChild(IonValueLite child)
+    {
+        if (_isInEncodedDatagram() && child instanceof IonContainerLite) {
+            child._isInEncodedDatagram(true);
+        }
+        add_child(get_child_count(), child);
+    }
+
+    /**
+     * Flags this container and every materialized container below it as
+     * part of a datagram that has cached its encoding.
+     *
+     * @see IonValueLite#invalidateEncoding()
+     */
+    final void markInEncodedDatagram()
+    {
+        _isInEncodedDatagram(true);
+        for (int ii=0; ii<_child_count; ii++) {
+            IonValueLite child = _children[ii];
+            if (child instanceof IonContainerLite) {
+                ((IonContainerLite) child).markInEncodedDatagram();
+            }
+        }
+    }
+
+
     IonContext getContextForIndex(IonValue element, int index){
         return this;
     }
@@ -93,6 +93,24 @@ final class IonDatagramLite
     // BlockedBuffer._defaultBlockSizeMin (4 kb)
     private static final int REVERSE_BINARY_ENCODER_INITIAL_SIZE = 4096 * 8;
 
+    // Encoder buffers that have grown past this are not kept for reuse.
+    private static final int REVERSE_BINARY_ENCODER_MAX_POOLED_SIZE =
+        REVERSE_BINARY_ENCODER_INITIAL_SIZE * 32;
+
+    /**
+     * Per-thread encoder buffer, so that encoding many datagrams doesn't
+     * allocate (and then grow) a fresh buffer each time.
+     */
+    private static final ThreadLocal<byte[]> ENCODER_BUFFER =
+        new ThreadLocal<byte[]>();
+
+    /**
+     * The binary encoding of this datagram, computed by the first call to
+     * {@link #byteSize()} or {@link #getBytes()} and dropped on mutation.
+     * Never exposed to callers directly.
+     */
+    private volatile byte[] _encoding;
+
     IonDatagramLite(IonSystemLite system, IonCatalog catalog) {
         super(ContainerlessContext.wrap(system), false);
         _system = system;
@@ -191,6 +209,7 @@ final class IonDatagramLite
 
         _pending_symbol_table = symtab;
         _pending_symbol_table_idx = get_child_count();
+        _encoding = null;
     }
 
     //////////////////////////////////////////////////////////////////////////////
@@ -446,27 +465,65 @@ final class IonDatagramLite
 
     public int byteSize() throws IonException
     {
-        // TODO this is horrible, users will end up encoding multiple times!
-        ReverseBinaryEncoder encoder =
-            new ReverseBinaryEncoder(REVERSE_BINARY_ENCODER_INITIAL_SIZE);
-        encoder.serialize(this);
-        return encoder.byteSize();
+        return encoding().length;
     }
 
     public byte[] getBytes() throws IonException
     {
-        ReverseBinaryEncoder encoder =
-            new ReverseBinaryEncoder(REVERSE_BINARY_ENCODER_INITIAL_SIZE);
-        encoder.serialize(this);
-        return encoder.toNewByteArray();
+        return encoding().clone();
     }
 
     public int getBytes(OutputStream out) throws IOException, IonException
     {
-        ReverseBinaryEncoder encoder =
-            new ReverseBinaryEncoder(REVERSE_BINARY_ENCODER_INITIAL_SIZE);
-        encoder.serialize(this);
-        return encoder.writeBytes(out);
+        byte[] bytes = encoding();
+        out.write(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Returns the cached binary encoding of this datagram, encoding it
+     * first if it has changed since the last call.
+     */
+    private byte[] encoding() throws IonException
+    {
+        byte[] bytes = _encoding;
+        if (bytes == null)
+        {
+            byte[] buffer = ENCODER_BUFFER.get();
+            if (buffer == null)
+            {
+                buffer = new byte[REVERSE_BINARY_ENCODER_INITIAL_SIZE];
+            }
+            else
+            {
+                // Don't let a reentrant call share the buffer.
+                ENCODER_BUFFER.set(null);
+            }
+
+            ReverseBinaryEncoder encoder = new ReverseBinaryEncoder(buffer);
+            encoder.serialize(this);
+            bytes = encoder.toNewByteArray();
+
+            buffer = encoder.getBuffer();
+            if (buffer.length <= REVERSE_BINARY_ENCODER_MAX_POOLED_SIZE)
+            {
+                ENCODER_BUFFER.set(buffer);
+            }
+            if (!_isLocked()) {
+                // read-only trees can't change, and may be shared by threads
+                markInEncodedDatagram();
+            }
+            _encoding = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Drops the cached encoding; see {@link IonValueLite#invalidateEncoding()}.
+     */
+    void clearEncoding()
+    {
+        _encoding = null;
     }
 
     // TODO: optimize this, if there's a real use case
@@ -28,6 +28,7 @@ import software.amazon.ion.IonLoader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateIonWriterFactory;
 import software.amazon.ion.impl.PrivateLocalSymbolTableFactory;
 
@@ -120,8 +121,36 @@ final class IonLoaderLite
         }
     }
 
+    /**
+     * Loads binary data into a datagram whose containers materialize their
+     * children on first access.
+     */
+    private IonDatagramLite load_lazy_helper(IonReader reader,
+                                             LazyContent.Source lazy)
+    {
+        IonDatagramLite datagram = new IonDatagramLite(_system, _catalog);
+        SymbolTable symtab = null;
+        while (reader.next() != null)
+        {
+            if (reader.getSymbolTable() != symtab)
+            {
+                symtab = reader.getSymbolTable();
+                datagram.appendTrailingSymbolTable(symtab);
+            }
+            datagram.add(_system.newValue(reader, lazy));
+        }
+        return datagram;
+    }
+
     public IonDatagram load(byte[] ionData) throws IonException
     {
+        LazyContent.Source lazy =
+            _system.lazySource(_catalog, ionData, 0, ionData.length);
+        if (lazy != null) {
+            IonReader reader = makeReader(_catalog, ionData, 0, ionData.length, _lstFactory);
+            return load_lazy_helper(reader, lazy);
+        }
+
         try {
             IonReader reader = makeReader(_catalog, ionData, 0, ionData.length, _lstFactory);
             IonDatagramLite datagram = load_helper(reader);
@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import software.amazon.ion.IntegerSize;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonContainer;
 import software.amazon.ion.IonDatagram;
@@ -44,6 +45,8 @@ import software.amazon.ion.IonTimestamp;
 import software.amazon.ion.IonType;
 import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.Span;
+import software.amazon.ion.SpanProvider;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.UnexpectedEofException;
@@ -54,6 +57,7 @@ import software.amazon.ion.impl.PrivateIonWriterFactory;
 import software.amazon.ion.impl.PrivateUtils;
 import software.amazon.ion.system.IonReaderBuilder;
 import software.amazon.ion.system.IonTextWriterBuilder;
+import software.amazon.ion.util.IonStreamUtils;
 
 final class IonSystemLite
     extends ValueFactoryLite
@@ -71,10 +75,12 @@ final class IonSystemLite
     private final PrivateIonBinaryWriterBuilder myBinaryWriterBuilder;
     /** Immutable. **/
     private final IonReaderBuilder myReaderBuilder;
+    private final boolean myLazyDom;
 
     public IonSystemLite(IonTextWriterBuilder twb,
                          PrivateIonBinaryWriterBuilder bwb,
-                         IonReaderBuilder rb)
+                         IonReaderBuilder rb,
+                         boolean lazyDom)
     {
         IonCatalog catalog = twb.getCatalog();
         assert catalog != null;
@@ -94,6 +100,7 @@ final class IonSystemLite
         myBinaryWriterBuilder = bwb.immutable();
 
         myReaderBuilder = rb.immutable();
+        myLazyDom = lazyDom;
     }
 
     //==========================================================================
@@ -105,6 +112,17 @@ final class IonSystemLite
         return myBinaryWriterBuilder.isStreamCopyOptimized();
     }
 
+    /**
+     * Indicates whether containers loaded from binary byte arrays materialize
+     * their children lazily.
+     *
+     * @see software.amazon.ion.system.IonSystemBuilder#isLazyDom()
+     */
+    public boolean isLazyDom()
+    {
+        return myLazyDom;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends IonValue> T clone(T value) throws IonException
     {
@@ -195,6 +213,7 @@ final class IonSystemLite
     {
         IonReader reader = makeReader(_catalog, ionData, _lstFactory);
         ReaderIterator iterator = new ReaderIterator(this, reader);
+        iterator._lazy = lazySource(_catalog, ionData, 0, ionData.length);
         return iterator;
     }
 
@@ -285,14 +304,38 @@ final class IonSystemLite
 
     public IonValueLite newValue(IonReader reader)
     {
-        IonValueLite value = load_value_helper(reader, /*isTopLevel*/ true);
+        return newValue(reader, null);
+    }
+
+    /**
+     * @param lazy if not null, the source of the reader's data, from which
+     * the children of containers are loaded on first access.
+     */
+    IonValueLite newValue(IonReader reader, LazyContent.Source lazy)
+    {
+        IonValueLite value = load_value_helper(reader, /*isTopLevel*/ true, lazy);
         if (value == null) {
             throw new IonException("No value available");
         }
         return value;
     }
 
-    private IonValueLite load_value_helper(IonReader reader, boolean isTopLevel)
+    /**
+     * Returns the source from which values read from the given binary data
+     * may be loaded lazily, or null if this system doesn't load lazily.
+     */
+    LazyContent.Source lazySource(IonCatalog catalog,
+                                  byte[] ionData, int offset, int length)
+    {
+        if (myLazyDom && IonStreamUtils.isIonBinary(ionData, offset, length)) {
+            return new LazyContent.Source(this, catalog, ionData, offset, length);
+        }
+        return null;
+    }
+
+    private IonValueLite load_value_helper(IonReader reader,
+                                           boolean isTopLevel,
+                                           LazyContent.Source lazy)
     {
         boolean symbol_is_present = false;
 
@@ -310,9 +353,17 @@ final class IonSystemLite
                 v = newBool(reader.booleanValue());
                 break;
             case INT:
-                // TODO amzn/ion-java#9  Inefficient since we can't determine the size
-                // of the integer in order to avoid making BigIntegers.
-                v = newInt(reader.bigIntegerValue());
+                // Only go through BigInteger when the value needs one.
+                IntegerSize size = reader.getIntegerSize();
+                if (size == IntegerSize.INT) {
+                    v = newInt(reader.intValue());
+                }
+                else if (size == IntegerSize.LONG) {
+                    v = newInt(reader.longValue());
+                }
+                else {
+                    v = newInt(reader.bigIntegerValue());
+                }
                 break;
             case FLOAT:
                 v = newFloat(reader.doubleValue());
@@ -394,9 +445,15 @@ final class IonSystemLite
             case LIST:
             case SEXP:
             case STRUCT:
+                if (lazy != null) {
+                    Span span = reader.asFacet(SpanProvider.class).currentSpan();
+                    ((IonContainerLite)v).setLazyContent(new LazyContent(lazy, span));
+                    // we can't know without looking
+                    symbol_is_present = true;
+                }
                 // we have to load the children after we grabbed the
                 // fieldname and annotations off of the parent container
-                if (load_children((IonContainerLite)v, reader)) {
+                else if (load_children((IonContainerLite)v, reader, null)) {
                     symbol_is_present = true;
                 }
                 break;
@@ -414,7 +471,8 @@ final class IonSystemLite
      * @return true iff any child contains a symbol
      * (including field names and annotations)
      */
-    private boolean load_children(IonContainerLite container, IonReader reader)
+    boolean load_children(IonContainerLite container, IonReader reader,
+                          LazyContent.Source lazy)
     {
         boolean symbol_is_present = false;
 
@@ -424,9 +482,9 @@ final class IonSystemLite
             if (t == null) {
                 break;
             }
-            IonValueLite child = load_value_helper(reader, /*isTopLevel*/ false);
+            IonValueLite child = load_value_helper(reader, /*isTopLevel*/ false, lazy);
 
-            container.add(child);
+            container.addLoadedChild(child);
 
             if (child._isSymbolPresent()) {
                 symbol_is_present = true;
@@ -515,6 +573,8 @@ final class IonSystemLite
         private final IonReader        _reader;
         private final IonSystemLite    _system;
         private       IonType          _next;
+        /** Non-null when values should be loaded lazily. */
+        private       LazyContent.Source _lazy;
 
 
         // TODO: do we need catalog, import support for this?
@@ -549,7 +609,7 @@ final class IonSystemLite
 
             // make an ion value from our reader
             // We called _reader.next() inside hasNext() above
-            IonValueLite value = _system.newValue(_reader);
+            IonValueLite value = _system.newValue(_reader, _lazy);
 
             // we've used up the value now, force a _reader._next() the next time through
             _next = null;
@@ -71,6 +71,7 @@ abstract class IonValueLite
     protected static final int IS_IVM             = 0x10;
     protected static final int IS_AUTO_CREATED    = 0x20;
     protected static final int IS_SYMBOL_PRESENT  = 0x40;
+    protected static final int IS_IN_ENCODED_DATAGRAM = 0x80;
     private   static final int ELEMENT_MASK       = 0xff;
     protected static final int ELEMENT_SHIFT      = 8; // low 8 bits is flag, upper 24 (or 48 is element id)
 
@@ -200,6 +201,17 @@ abstract class IonValueLite
         return flag;
     }
 
+    protected final boolean _isInEncodedDatagram() { return is_true(IS_IN_ENCODED_DATAGRAM); }
+    protected final boolean _isInEncodedDatagram(boolean flag) {
+        if (flag) {
+            set_flag(IS_IN_ENCODED_DATAGRAM);
+        }
+        else {
+            clear_flag(IS_IN_ENCODED_DATAGRAM);
+        }
+        return flag;
+    }
+
     /**
      * Lazy memoized symtab provider. Should be used when a call path
      * conditionally needs access to a value's symbol table. This provider
@@ -310,6 +322,8 @@ abstract class IonValueLite
         // as IonValue.clone() mandates that the returned value is mutable, regardless of the
         // existing 'read only' flag - we force the deep-copy back to being mutable
         clear_flag(IS_LOCKED);
+        // nor is the copy part of any datagram
+        clear_flag(IS_IN_ENCODED_DATAGRAM);
     }
 
     public abstract void accept(ValueVisitor visitor) throws Exception;
@@ -346,6 +360,19 @@ abstract class IonValueLite
         _annotations[old_len] = sym;
     }
 
+    /**
+     * @return true iff this value has at least one annotation.
+     */
+    final boolean hasTypeAnnotations()
+    {
+        if (_annotations != null) {
+            for (SymbolToken annotation : _annotations) {
+                if (annotation != null) return true;
+            }
+        }
+        return false;
+    }
+
     public final /* synchronized */ void clearTypeAnnotations()
     {
         checkForLock();
@@ -536,6 +563,15 @@ abstract class IonValueLite
         throw new UnknownSymbolException(_fieldId);
     }
 
+    /**
+     * @return the text of this value's field name, without consulting any
+     * symbol table; null if it is unknown or this isn't a struct field.
+     */
+    final String getFieldNameText()
+    {
+        return _fieldName;
+    }
+
     /**
      * @return not null, <b>in conflict with the public documentation</b>.
      */
@@ -784,6 +820,38 @@ abstract class IonValueLite
         if (_isLocked()) {
             throw new ReadOnlyValueException();
         }
+        invalidateEncoding();
+    }
+
+    /**
+     * Drops the binary encoding cached by the datagram at the root of this
+     * value's tree, if there is one. Called on every mutation via
+     * {@link #checkForLock()}.
+     * <p>
+     * Only containers that were in a datagram when it cached its encoding
+     * are flagged {@link #IS_IN_ENCODED_DATAGRAM}, so values anywhere else
+     * don't need to walk up to their root.
+     */
+    final void invalidateEncoding()
+    {
+        IonContainerLite parent = _context.getContextContainer();
+        if (parent == null) {
+            if (this instanceof IonDatagramLite) {
+                ((IonDatagramLite) this).clearEncoding();
+            }
+            return;
+        }
+        if (!parent._isInEncodedDatagram()) {
+            return;
+        }
+
+        IonValueLite root = parent;
+        while ((parent = root._context.getContextContainer()) != null) {
+            root = parent;
+        }
+        if (root instanceof IonDatagramLite) {
+            ((IonDatagramLite) root).clearEncoding();
+        }
     }
 
 
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeReader;
+
+import java.io.IOException;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.SeekableReader;
+import software.amazon.ion.Span;
+
+/**
+ * The not-yet-materialized children of a container that was loaded lazily:
+ * the container's {@link Span} within the binary Ion it was loaded from.
+ * <p>
+ * Instances are immutable, so clones of an unmaterialized container can
+ * share them.
+ */
+final class LazyContent
+{
+    /**
+     * Binary Ion retained by lazily-loaded values. The bytes are not copied,
+     * so the caller must not modify them while such values remain in use.
+     */
+    static final class Source
+    {
+        private final IonSystemLite mySystem;
+        private final IonCatalog    myCatalog;
+        private final byte[]        myBytes;
+        private final int           myOffset;
+        private final int           myLength;
+
+        Source(IonSystemLite system, IonCatalog catalog,
+               byte[] bytes, int offset, int length)
+        {
+            mySystem  = system;
+            myCatalog = catalog;
+            myBytes  = bytes;
+            myOffset = offset;
+            myLength = length;
+        }
+
+        /**
+         * Creates a reader positioned on the value covered by the given span,
+         * as if it were at top-level.
+         */
+        IonReader newReader(Span span)
+        {
+            IonReader reader = makeReader(myCatalog,
+                                          myBytes, myOffset, myLength,
+                                          mySystem.getLstFactory());
+            reader.asFacet(SeekableReader.class).hoist(span);
+            reader.next();
+            return reader;
+        }
+    }
+
+
+    private final Source mySource;
+    private final Span   mySpan;
+
+    LazyContent(Source source, Span span)
+    {
+        mySource = source;
+        mySpan   = span;
+    }
+
+    /**
+     * Adds the children of the source container to the given (empty)
+     * container, which receives lazy content of its own for any nested
+     * containers.
+     */
+    void materialize(IonContainerLite container)
+    {
+        IonReader reader = mySource.newReader(mySpan);
+        mySource.mySystem.load_children(container, reader, mySource);
+    }
+
+    /**
+     * Writes the source container by streaming from the source, which lets
+     * writers that support it copy the encoded bytes directly. The
+     * container's field name and annotations have already been given to the
+     * writer, and take precedence over those in the source.
+     *
+     * @param annotated whether the container has annotations.
+     */
+    void writeTo(IonWriter writer, boolean annotated)
+        throws IOException
+    {
+        IonReader reader = mySource.newReader(mySpan);
+        if (!annotated && reader.getTypeAnnotationSymbols().length == 0)
+        {
+            writer.writeValue(reader);
+        }
+        else
+        {
+            // Copying the whole value would take the source's annotations.
+            writer.stepIn(reader.getType());
+            reader.stepIn();
+            writer.writeValues(reader);
+            writer.stepOut();
+        }
+    }
+}
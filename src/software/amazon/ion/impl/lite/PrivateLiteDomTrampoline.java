@@ -31,9 +31,10 @@ public final class PrivateLiteDomTrampoline
 
     public static IonSystem newLiteSystem(IonTextWriterBuilder twb,
                                           PrivateIonBinaryWriterBuilder bwb,
-                                          IonReaderBuilder rb)
+                                          IonReaderBuilder rb,
+                                          boolean lazyDom)
     {
-        return new IonSystemLite(twb, bwb, rb);
+        return new IonSystemLite(twb, bwb, rb, lazyDom);
     }
 
     public static boolean isLiteSystem(IonSystem system)
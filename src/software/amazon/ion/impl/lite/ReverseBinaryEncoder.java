@@ -132,8 +132,29 @@ class ReverseBinaryEncoder
 
     ReverseBinaryEncoder(int initialSize)
     {
-        myBuffer = new byte[initialSize];
-        myOffset = initialSize;
+        this(new byte[initialSize]);
+    }
+
+    /**
+     * Creates an encoder that writes into the given buffer, which is grown
+     * as needed. Its prior contents are ignored.
+     *
+     * @see #getBuffer()
+     */
+    ReverseBinaryEncoder(byte[] buffer)
+    {
+        myBuffer = buffer;
+        myOffset = buffer.length;
+    }
+
+    /**
+     * Returns the buffer currently in use, which may be larger than the one
+     * this encoder was created with. Callers may reuse it for another encoder
+     * once they are done with this one.
+     */
+    byte[] getBuffer()
+    {
+        return myBuffer;
     }
 
     /**
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.system;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonMutableCatalog;
+import software.amazon.ion.SymbolTable;
+
+
+/**
+ * An implementation of {@link IonCatalog} intended for heavily concurrent
+ * use, such as pools of readers resolving imports.  There is no automatic
+ * removal of entries.
+ * <p>
+ * Lookups never block: each table name maps to an immutable, sorted array of
+ * versions that is replaced wholesale (copy-on-write) by
+ * {@link #putTable(SymbolTable)} and {@link #removeTable(String, int)}.
+ * The best match for each requested version is resolved when that array is
+ * built, so {@link #getTable(String, int)} is a hash lookup and an array
+ * index, even when the exact version is absent.
+ * <p>
+ * Matching follows the same rules as {@link SimpleCatalog}. Updates are
+ * expected to be rare relative to lookups.
+ */
+public class ConcurrentCatalog
+    implements IonMutableCatalog, Iterable<SymbolTable>
+{
+    /**
+     * Requested versions up to this bound have their best match resolved
+     * ahead of time; larger ones fall back to a binary search.
+     */
+    private static final int MAX_RESOLVED_VERSIONS = 256;
+
+    /**
+     * An immutable snapshot of all versions of one table name.
+     */
+    private static final class Versions
+    {
+        /** Available versions, ascending. */
+        final int[]         versions;
+
+        /** The tables corresponding to {@link #versions}. */
+        final SymbolTable[] tables;
+
+        /**
+         * The best match for each requested version {@code v}, at index
+         * {@code v - 1}, up to the highest available version.
+         */
+        final SymbolTable[] resolved;
+
+        Versions(int[] versions, SymbolTable[] tables)
+        {
+            assert versions.length > 0;
+            this.versions = versions;
+            this.tables   = tables;
+
+            int highest = versions[versions.length - 1];
+            resolved = new SymbolTable[Math.min(highest, MAX_RESOLVED_VERSIONS)];
+            int i = 0;
+            for (int v = 1; v <= resolved.length; v++)
+            {
+                while (versions[i] < v) i++;
+                resolved[v - 1] = tables[i];
+            }
+        }
+
+        SymbolTable latest()
+        {
+            return tables[tables.length - 1];
+        }
+
+        SymbolTable get(int version)
+        {
+            if (version <= resolved.length)
+            {
+                return resolved[version - 1];
+            }
+
+            // Exact match, else the lowest newer version, else the latest.
+            int i = Arrays.binarySearch(versions, version);
+            if (i < 0)
+            {
+                i = -(i + 1);
+                if (i == versions.length)
+                {
+                    i--;
+                }
+            }
+            return tables[i];
+        }
+
+        Versions with(SymbolTable table)
+        {
+            int version = table.getVersion();
+            int i = Arrays.binarySearch(versions, version);
+            if (i >= 0)
+            {
+                SymbolTable[] newTables = tables.clone();
+                newTables[i] = table;
+                return new Versions(versions, newTables);
+            }
+
+            i = -(i + 1);
+            int[] newVersions = new int[versions.length + 1];
+            SymbolTable[] newTables = new SymbolTable[tables.length + 1];
+            System.arraycopy(versions, 0, newVersions, 0, i);
+            System.arraycopy(tables, 0, newTables, 0, i);
+            newVersions[i] = version;
+            newTables[i] = table;
+            System.arraycopy(versions, i, newVersions, i + 1, versions.length - i);
+            System.arraycopy(tables, i, newTables, i + 1, tables.length - i);
+            return new Versions(newVersions, newTables);
+        }
+
+        /**
+         * @return null when the last version is removed.
+         */
+        Versions without(int index)
+        {
+            if (versions.length == 1)
+            {
+                return null;
+            }
+
+            int[] newVersions = new int[versions.length - 1];
+            SymbolTable[] newTables = new SymbolTable[tables.length - 1];
+            System.arraycopy(versions, 0, newVersions, 0, index);
+            System.arraycopy(tables, 0, newTables, 0, index);
+            System.arraycopy(versions, index + 1, newVersions, index,
+                             newVersions.length - index);
+            System.arraycopy(tables, index + 1, newTables, index,
+                             newTables.length - index);
+            return new Versions(newVersions, newTables);
+        }
+    }
+
+    private final ConcurrentMap<String, Versions> myTablesByName =
+        new ConcurrentHashMap<String, Versions>();
+
+
+    public SymbolTable getTable(String name)
+    {
+        if (name == null)
+        {
+            throw new IllegalArgumentException("name is null");
+        }
+        if (name.length() == 0)
+        {
+            throw new IllegalArgumentException("name is empty");
+        }
+
+        Versions versions = myTablesByName.get(name);
+        if (versions == null) return null;
+
+        return versions.latest();
+    }
+
+    public SymbolTable getTable(String name, int version)
+    {
+        if (name == null)
+        {
+            throw new IllegalArgumentException("name is null");
+        }
+        if (name.length() == 0)
+        {
+            throw new IllegalArgumentException("name is empty");
+        }
+        if (version < 1)
+        {
+            throw new IllegalArgumentException("version is < 1");
+        }
+
+        Versions versions = myTablesByName.get(name);
+        if (versions == null) return null;
+
+        // if we don't have the one you want, we'll give you the "best" one
+        // we have, even if it's newer than what you asked for
+        return versions.get(version);
+    }
+
+    public void putTable(SymbolTable table)
+    {
+        if (table.isLocalTable() || table.isSystemTable() || table.isSubstitute())
+        {
+            throw new IllegalArgumentException("table cannot be local or system or substitute table");
+        }
+
+        String name = table.getName();
+        assert table.getVersion() >= 0;
+
+        while (true)
+        {
+            Versions versions = myTablesByName.get(name);
+            if (versions == null)
+            {
+                versions = new Versions(new int[] { table.getVersion() },
+                                        new SymbolTable[] { table });
+                if (myTablesByName.putIfAbsent(name, versions) == null)
+                {
+                    return;
+                }
+            }
+            else if (myTablesByName.replace(name, versions,
+                                            versions.with(table)))
+            {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Removes a symbol table from this catalog.
+     *
+     * @return the removed table, or <code>null</code> if this catalog has
+     * no matching table.
+     */
+    public SymbolTable removeTable(String name, int version)
+    {
+        while (true)
+        {
+            Versions versions = myTablesByName.get(name);
+            if (versions == null)
+            {
+                return null;
+            }
+
+            int i = Arrays.binarySearch(versions.versions, version);
+            if (i < 0)
+            {
+                return null;
+            }
+
+            Versions remaining = versions.without(i);
+            boolean replaced = (remaining == null
+                                ? myTablesByName.remove(name, versions)
+                                : myTablesByName.replace(name, versions,
+                                                         remaining));
+            if (replaced)
+            {
+                return versions.tables[i];
+            }
+        }
+    }
+
+
+    /**
+     * Constructs an iterator that enumerates all of the shared symbol tables
+     * in this catalog, at the time of method invocation. The result represents
+     * a snapshot of the state of this catalog.
+     *
+     * @return a non-null, but potentially empty, iterator.
+     */
+    public Iterator<SymbolTable> iterator()
+    {
+        ArrayList<SymbolTable> tables = new ArrayList<SymbolTable>();
+        for (Versions versions : myTablesByName.values())
+        {
+            tables.addAll(Arrays.asList(versions.tables));
+        }
+        return tables.iterator();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.system;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.SymbolTable;
+
+
+/**
+ * A {@link LoadingCatalog} over a local directory of serialized shared
+ * symbol tables, each loaded via
+ * {@link IonSystem#newSharedSymbolTable(IonReader)} on first use.
+ * <p>
+ * Each file holds one table (text or binary) and is named
+ * <code><i>name</i>.<i>version</i>.ion</code>, for example
+ * {@code com.example.Catalog.12.ion}. Other files are ignored.
+ * The directory is listed once, at construction; files added later are not
+ * seen, while the contents of listed files are only read when needed.
+ * <p>
+ * This catalog is read-only and can be given to
+ * {@link IonSystemBuilder#withCatalog(IonCatalog)} or
+ * {@link IonReaderBuilder#withCatalog(IonCatalog)}. The table files are
+ * read with this catalog too, so a file whose local symbol table imports
+ * another table from the directory gets that table rather than a
+ * substitute.
+ */
+public class DirectoryCatalog
+    extends LoadingCatalog
+{
+    private static final String SUFFIX = ".ion";
+
+    private final IonSystem          mySystem;
+    private final IonReaderBuilder   myReaderBuilder;
+    private final File               myDirectory;
+    private final Map<String, int[]> myVersionsByName;
+
+
+    /**
+     * @param directory the directory containing the table files.
+     * @param maxTables the maximum number of tables retained in memory.
+     *
+     * @throws IonException if the directory cannot be listed.
+     */
+    public DirectoryCatalog(File directory, int maxTables)
+    {
+        this(IonSystemBuilder.standard().build(), directory, maxTables);
+    }
+
+    /**
+     * @param system used to build the tables read from the files.
+     * @param directory the directory containing the table files.
+     * @param maxTables the maximum number of tables retained in memory.
+     *
+     * @throws IonException if the directory cannot be listed.
+     */
+    public DirectoryCatalog(IonSystem system, File directory, int maxTables)
+    {
+        super(maxTables);
+        system.getClass(); // fast null check
+
+        mySystem = system;
+        myReaderBuilder =
+            IonReaderBuilder.standard().withCatalog(this).immutable();
+        myDirectory = directory;
+        myVersionsByName = listVersions(directory);
+    }
+
+    private static Map<String, int[]> listVersions(File directory)
+    {
+        String[] files = directory.list();
+        if (files == null)
+        {
+            throw new IonException("Unable to list symbol table directory "
+                                   + directory);
+        }
+
+        Map<String, int[]> versionsByName = new HashMap<String, int[]>();
+        for (String file : files)
+        {
+            if (! file.endsWith(SUFFIX)) continue;
+
+            String stem = file.substring(0, file.length() - SUFFIX.length());
+            int dot = stem.lastIndexOf('.');
+            if (dot < 1) continue;
+
+            int version;
+            try
+            {
+                version = Integer.parseInt(stem.substring(dot + 1));
+            }
+            catch (NumberFormatException e)
+            {
+                continue;
+            }
+            if (version < 1) continue;
+
+            String name = stem.substring(0, dot);
+            int[] prior = versionsByName.get(name);
+            int[] versions;
+            if (prior == null)
+            {
+                versions = new int[] { version };
+            }
+            else
+            {
+                versions = new int[prior.length + 1];
+                System.arraycopy(prior, 0, versions, 0, prior.length);
+                versions[prior.length] = version;
+            }
+            versionsByName.put(name, versions);
+        }
+        return versionsByName;
+    }
+
+
+    /**
+     * Gets the directory this catalog loads from.
+     */
+    public File getDirectory()
+    {
+        return myDirectory;
+    }
+
+    @Override
+    protected int[] getAvailableVersions(String name)
+    {
+        return myVersionsByName.get(name);
+    }
+
+    /**
+     * @throws IonException if the file cannot be read, or does not hold the
+     *  expected table.
+     */
+    @Override
+    protected SymbolTable loadTable(String name, int version)
+    {
+        File file = new File(myDirectory, name + '.' + version + SUFFIX);
+        SymbolTable table;
+        try
+        {
+            InputStream in = new FileInputStream(file);
+            try
+            {
+                IonReader reader = myReaderBuilder.build(in);
+                try
+                {
+                    table = mySystem.newSharedSymbolTable(reader);
+                }
+                finally
+                {
+                    reader.close();
+                }
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new IonException("Error loading symbol table from " + file,
+                                   e);
+        }
+
+        if (! name.equals(table.getName()) || version != table.getVersion())
+        {
+            throw new IonException("Symbol table file " + file
+                                   + " declares " + table.getName()
+                                   + " version " + table.getVersion());
+        }
+        return table;
+    }
+}
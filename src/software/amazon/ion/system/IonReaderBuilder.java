@@ -15,12 +15,17 @@
 package software.amazon.ion.system;
 
 import static software.amazon.ion.impl.PrivateIonReaderFactory.makeReader;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.enableStringCache;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeIncrementalReader;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
+import software.amazon.ion.IonIncrementalReader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonStruct;
 import software.amazon.ion.IonSystem;
@@ -40,6 +45,7 @@ public class IonReaderBuilder
 {
 
     private IonCatalog catalog = null;
+    private boolean stringCacheEnabled = false;
 
     private IonReaderBuilder()
     {
@@ -48,6 +54,7 @@ public class IonReaderBuilder
     private IonReaderBuilder(IonReaderBuilder that)
     {
         this.catalog = that.catalog;
+        this.stringCacheEnabled = that.stringCacheEnabled;
     }
 
     /**
@@ -149,6 +156,65 @@ public class IonReaderBuilder
         return catalog;
     }
 
+    /**
+     * Declares whether built readers cache recently decoded short strings,
+     * returning a new mutable builder if this is immutable.
+     *
+     * @param enabled whether to enable the cache.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setStringCacheEnabled(boolean)
+     */
+    public IonReaderBuilder withStringCacheEnabled(boolean enabled)
+    {
+        IonReaderBuilder b = mutable();
+        b.setStringCacheEnabled(enabled);
+        return b;
+    }
+
+    /**
+     * Sets whether built readers cache recently decoded short strings.
+     * When enabled, repeated occurrences of a short string value in binary
+     * Ion data usually produce the same {@link String} instance, rather than
+     * an equal copy. This reduces allocation when values repeat, as is
+     * typical of enumerations, host names and the like, at the cost of some
+     * hashing on every short string. By default, the cache is disabled.
+     * <p>
+     * This currently has no effect on readers of Ion text.
+     *
+     * @param enabled whether to enable the cache.
+     *
+     * @see #withStringCacheEnabled(boolean)
+     *
+     * @throws UnsupportedOperationException if this builder is immutable.
+     */
+    public void setStringCacheEnabled(boolean enabled)
+    {
+        mutationCheck();
+        this.stringCacheEnabled = enabled;
+    }
+
+    /**
+     * Determines whether built readers cache recently decoded short strings.
+     *
+     * @see #setStringCacheEnabled(boolean)
+     */
+    public boolean isStringCacheEnabled()
+    {
+        return stringCacheEnabled;
+    }
+
+    private IonReader configure(IonReader reader)
+    {
+        if (stringCacheEnabled)
+        {
+            enableStringCache(reader);
+        }
+        return reader;
+    }
+
     private IonCatalog validateCatalog()
     {
         // matches behavior in IonSystemBuilder when no catalog provided
@@ -173,7 +239,7 @@ public class IonReaderBuilder
      */
     public IonReader build(byte[] ionData)
     {
-        return makeReader(validateCatalog(), ionData);
+        return configure(makeReader(validateCatalog(), ionData));
     }
 
     /**
@@ -196,7 +262,7 @@ public class IonReaderBuilder
      */
     public IonReader build(byte[] ionData, int offset, int length)
     {
-        return makeReader(validateCatalog(), ionData, offset, length);
+        return configure(makeReader(validateCatalog(), ionData, offset, length));
     }
 
     /**
@@ -221,7 +287,56 @@ public class IonReaderBuilder
      */
     public IonReader build(InputStream ionData)
     {
-        return makeReader(validateCatalog(), ionData);
+        return configure(makeReader(validateCatalog(), ionData));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the remaining bytes of the given buffer, detecting whether
+     * it's text or binary data.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * Buffers backed by an accessible array are read in place, exactly as by
+     * {@link #build(byte[], int, int)}. Direct and memory-mapped buffers are
+     * read with bulk transfers and no intermediate {@link InputStream}.
+     *
+     * @param ionData the source of the Ion data, used from its position to its
+     * limit. The reader retains a reference to the buffer, so its data must
+     * not be modified while the reader is active. Neither the buffer's
+     * position nor its limit is modified. Must not be null.
+     *
+     * @return a new {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader build(ByteBuffer ionData)
+    {
+        return configure(makeReader(validateCatalog(), ionData));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the entire content of the given file, which is mapped
+     * into memory rather than read through a stream. This is generally the
+     * fastest way to scan large binary Ion files.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     *
+     * @param ionData an open channel over the source of the Ion data, which
+     * may be either Ion binary data or UTF-8 Ion text. The file must not be
+     * modified or truncated while the reader is active. The reader doesn't
+     * take ownership of the channel: the channel may be closed as soon as this
+     * method returns, and {@link IonReader#close()} doesn't close it.
+     * Must not be null.
+     *
+     * @return a new {@link IonReader} instance; not {@code null}.
+     *
+     * @throws IonException if the channel can't be mapped.
+     *
+     * @see FileChannel#map
+     */
+    public IonReader build(FileChannel ionData)
+    {
+        return configure(makeReader(validateCatalog(), ionData));
     }
 
     /**
@@ -243,7 +358,7 @@ public class IonReaderBuilder
      */
     public IonReader build(Reader ionText)
     {
-        return makeReader(validateCatalog(), ionText);
+        return configure(makeReader(validateCatalog(), ionText));
     }
 
     /**
@@ -257,7 +372,7 @@ public class IonReaderBuilder
      */
     public IonReader build(IonValue value)
     {
-        return makeReader(validateCatalog(), value);
+        return configure(makeReader(validateCatalog(), value));
     }
 
     /**
@@ -270,7 +385,25 @@ public class IonReaderBuilder
      */
     public IonReader build(String ionText)
     {
-        return makeReader(validateCatalog(), ionText);
+        return configure(makeReader(validateCatalog(), ionText));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new
+     * {@link IonIncrementalReader} instance, which reads Ion binary data as
+     * it's fed in chunks rather than pulling it from a source.
+     * <p>
+     * Unlike the other readers built here, it doesn't detect Ion text or
+     * GZIPped data.
+     *
+     * @return a new {@link IonIncrementalReader} instance with no input yet;
+     * not {@code null}.
+     */
+    public IonIncrementalReader buildIncremental()
+    {
+        IonIncrementalReader reader = makeIncrementalReader(validateCatalog());
+        configure(reader);
+        return reader;
     }
 
     private static class Mutable extends IonReaderBuilder
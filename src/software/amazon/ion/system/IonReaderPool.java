@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.system;
+
+import static software.amazon.ion.impl.PrivateIonReaderFactory.resetReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.ResettableReader;
+
+/**
+ * A pool of {@link IonReader}s that are reused across sources of Ion data,
+ * for services that decode many small messages.
+ * <p>
+ * Readers are {@linkplain #acquire acquired} over a source and
+ * {@linkplain #release released} when finished with. Released binary
+ * readers are kept and later {@linkplain ResettableReader reset} over the
+ * next source, so a steady stream of binary messages is decoded with no
+ * per-message allocation beyond the values read. Other readers are built
+ * as needed and simply closed on release.
+ * <p>
+ * Instances of this class are safe for use by multiple threads, but each
+ * acquired reader must be used by one thread at a time, as usual.
+ */
+@SuppressWarnings("deprecation")
+public final class IonReaderPool
+{
+    private final IonReaderBuilder myBuilder;
+    private final IonReader[]      myIdleReaders;
+    private int                    myIdleCount;
+
+
+    /**
+     * @param builder configures the readers in this pool.
+     * @param maxIdleReaders the most released readers kept for reuse;
+     * typically the number of threads decoding concurrently.
+     */
+    public IonReaderPool(IonReaderBuilder builder, int maxIdleReaders)
+    {
+        if (maxIdleReaders < 1)
+        {
+            throw new IllegalArgumentException("maxIdleReaders must be positive");
+        }
+        myBuilder = builder.immutable();
+        myIdleReaders = new IonReader[maxIdleReaders];
+    }
+
+
+    /**
+     * Acquires a reader over the given block of Ion data, which may be
+     * either Ion binary data or UTF-8 Ion text.
+     *
+     * @see IonReaderBuilder#build(byte[])
+     */
+    public IonReader acquire(byte[] ionData)
+    {
+        return acquire(ionData, 0, ionData.length);
+    }
+
+    /**
+     * Acquires a reader over the given range of Ion data, which may be
+     * either Ion binary data or UTF-8 Ion text.
+     *
+     * @see IonReaderBuilder#build(byte[], int, int)
+     */
+    public IonReader acquire(byte[] ionData, int offset, int length)
+    {
+        IonReader idle = takeIdleReader();
+        if (idle != null)
+        {
+            IonReader reader = resetReader(idle, ionData, offset, length);
+            if (reader != null) return reader;
+        }
+        return myBuilder.build(ionData, offset, length);
+    }
+
+    /**
+     * Acquires a reader over the given stream of Ion data, which may be
+     * either Ion binary data or UTF-8 Ion text. Releasing the reader
+     * closes the stream.
+     *
+     * @throws IonException if the source throws {@link IOException}.
+     *
+     * @see IonReaderBuilder#build(InputStream)
+     */
+    public IonReader acquire(InputStream ionData)
+    {
+        IonReader idle = takeIdleReader();
+        if (idle != null)
+        {
+            IonReader reader = resetReader(idle, ionData);
+            if (reader != null) return reader;
+        }
+        return myBuilder.build(ionData);
+    }
+
+
+    /**
+     * Closes a reader acquired from this pool and, if it can be reset,
+     * keeps it for reuse. The reader must not be used after this call.
+     *
+     * @throws IonException if closing the reader throws {@link IOException}.
+     */
+    public void release(IonReader reader)
+    {
+        try
+        {
+            reader.close();
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+
+        if (reader.asFacet(ResettableReader.class) != null)
+        {
+            synchronized (myIdleReaders)
+            {
+                if (myIdleCount < myIdleReaders.length)
+                {
+                    myIdleReaders[myIdleCount++] = reader;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of released readers currently kept for reuse.
+     */
+    public int getIdleCount()
+    {
+        synchronized (myIdleReaders)
+        {
+            return myIdleCount;
+        }
+    }
+
+    private IonReader takeIdleReader()
+    {
+        synchronized (myIdleReaders)
+        {
+            if (myIdleCount == 0) return null;
+
+            IonReader reader = myIdleReaders[--myIdleCount];
+            myIdleReaders[myIdleCount] = null;
+            return reader;
+        }
+    }
+}
@@ -17,8 +17,10 @@ package software.amazon.ion.system;
 import static software.amazon.ion.impl.lite.PrivateLiteDomTrampoline.newLiteSystem;
 
 import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonLoader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateIonBinaryWriterBuilder;
@@ -78,6 +80,14 @@ import software.amazon.ion.impl.PrivateUtils;
  *     conditions are met. <b>This feature is experimental! Please test
  *     thoroughly and report any issues.</b>
  *   </li>
+ *   <li>
+ *     <b>lazyDom</b>: When true, containers loaded from binary Ion byte
+ *     arrays are backed by that data, and only materialize their children
+ *     on first access. Unmaterialized containers are written by streaming
+ *     from the data, so they can be copied without re-encoding.
+ *     <b>This feature is experimental! Please test thoroughly and report any
+ *     issues.</b>
+ *   </li>
  * </ul>
  */
 public class IonSystemBuilder
@@ -100,6 +110,7 @@ public class IonSystemBuilder
 
     IonCatalog myCatalog;
     boolean myStreamCopyOptimized = false;
+    boolean myLazyDom = false;
 
 
     /** You no touchy. */
@@ -109,6 +120,7 @@ public class IonSystemBuilder
     {
         this.myCatalog      = that.myCatalog;
         this.myStreamCopyOptimized = that.myStreamCopyOptimized;
+        this.myLazyDom = that.myLazyDom;
     }
 
     //=========================================================================
@@ -258,6 +270,68 @@ public class IonSystemBuilder
 
 
 
+    //=========================================================================
+
+
+    /**
+     * Indicates whether built systems load containers from binary byte arrays
+     * lazily, materializing their children on first access.
+     * By default, this property is false.
+     *
+     * @see #setLazyDom(boolean)
+     * @see #withLazyDom(boolean)
+     */
+    public final boolean isLazyDom()
+    {
+        return myLazyDom;
+    }
+
+    /**
+     * Declares whether built systems load containers from binary byte arrays
+     * lazily, materializing their children on first access.
+     * By default, this property is false.
+     * <p>
+     * This applies to {@link IonLoader#load(byte[])},
+     * {@link IonSystem#iterate(byte[])} and
+     * {@link IonSystem#singleValue(byte[])}. The loaded values retain the
+     * byte array, which must not be modified while they are in use. Making a
+     * value {@linkplain IonValue#makeReadOnly() read-only} materializes it
+     * fully.
+     * <p>
+     * <b>This feature is experimental! Please test thoroughly and report any
+     * issues.</b>
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #isLazyDom()
+     * @see #withLazyDom(boolean)
+     */
+    public final void setLazyDom(boolean lazy)
+    {
+        mutationCheck();
+        myLazyDom = lazy;
+    }
+
+    /**
+     * Declares whether built systems load containers from binary byte arrays
+     * lazily, materializing their children on first access, returning a new
+     * mutable builder if this is immutable.
+     * <p>
+     * <b>This feature is experimental! Please test thoroughly and report any
+     * issues.</b>
+     *
+     * @see #isLazyDom()
+     * @see #setLazyDom(boolean)
+     */
+    public final IonSystemBuilder withLazyDom(boolean lazy)
+    {
+        IonSystemBuilder b = mutable();
+        b.setLazyDom(lazy);
+        return b;
+    }
+
+
+
     //=========================================================================
 
     /**
@@ -287,7 +361,7 @@ public class IonSystemBuilder
 //        bwb = bwb.fillDefaults();
 
         IonReaderBuilder rb = IonReaderBuilder.standard().withCatalog(catalog);
-        return newLiteSystem(twb, bwb, rb);
+        return newLiteSystem(twb, bwb, rb, myLazyDom);
     }
 
     //=========================================================================
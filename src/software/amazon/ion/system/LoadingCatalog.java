@@ -0,0 +1,314 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.system;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.SymbolTable;
+
+
+/**
+ * An {@link IonCatalog} that loads shared symbol tables on demand from some
+ * backing store and retains a bounded number of them in memory, evicting the
+ * least recently used.
+ * <p>
+ * Subclasses declare which versions exist for a name via
+ * {@link #getAvailableVersions(String)} and materialize a single table via
+ * {@link #loadTable(String, int)}. Version matching follows the rules
+ * described on {@link IonCatalog}, and is performed against the available
+ * versions so that only the selected table is ever loaded.
+ * <p>
+ * Instances of this class are safe for use by multiple threads. Lookups of
+ * retained tables take no lock and allocate nothing. Loading happens outside
+ * the lock guarding changes, so concurrent misses on the same table may load
+ * it more than once; only one result is retained.
+ */
+public abstract class LoadingCatalog
+    implements IonCatalog
+{
+    private final int myMaxTables;
+
+    /**
+     * The retained tables of each name. The arrays are never modified once
+     * published; changes replace them while holding {@link #myLock}.
+     */
+    private final ConcurrentMap<String, Retained[]> myTables;
+    private final Object myLock = new Object();
+    /** Guarded by {@link #myLock}. */
+    private int myRetainedCount;
+
+    /** Stamps each use of a retained table, to find the least recent. */
+    private final AtomicLong myClock = new AtomicLong();
+    private final AtomicLong myHitCount = new AtomicLong();
+    private final AtomicLong myMissCount = new AtomicLong();
+    private final AtomicLong myEvictionCount = new AtomicLong();
+
+
+    private static final class Retained
+    {
+        final SymbolTable table;
+        final int         version;
+        volatile long     lastUsed;
+
+        Retained(SymbolTable table, int version, long lastUsed)
+        {
+            this.table    = table;
+            this.version  = version;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private static final Retained[] NONE = new Retained[0];
+
+
+    /**
+     * @param maxTables the maximum number of tables retained in memory;
+     *  must be positive.
+     */
+    protected LoadingCatalog(int maxTables)
+    {
+        if (maxTables < 1)
+        {
+            throw new IllegalArgumentException("maxTables must be positive");
+        }
+
+        myMaxTables = maxTables;
+        myTables = new ConcurrentHashMap<String, Retained[]>();
+    }
+
+
+    /**
+     * Gets the versions of the named table that can be loaded.
+     *
+     * @return the available versions, in any order; null or empty if there
+     *  are none.
+     */
+    protected abstract int[] getAvailableVersions(String name);
+
+    /**
+     * Loads a table that {@link #getAvailableVersions(String)} reported as
+     * available.
+     *
+     * @return the shared symbol table with exactly the given name and
+     *  version; not null.
+     */
+    protected abstract SymbolTable loadTable(String name, int version);
+
+
+    public SymbolTable getTable(String name)
+    {
+        if (name == null)
+        {
+            throw new IllegalArgumentException("name is null");
+        }
+        if (name.length() == 0)
+        {
+            throw new IllegalArgumentException("name is empty");
+        }
+
+        int[] versions = getAvailableVersions(name);
+        if (versions == null || versions.length == 0) return null;
+
+        int highest = versions[0];
+        for (int v : versions)
+        {
+            highest = Math.max(highest, v);
+        }
+        return getOrLoad(name, highest);
+    }
+
+    public SymbolTable getTable(String name, int version)
+    {
+        if (name == null)
+        {
+            throw new IllegalArgumentException("name is null");
+        }
+        if (name.length() == 0)
+        {
+            throw new IllegalArgumentException("name is empty");
+        }
+        if (version < 1)
+        {
+            throw new IllegalArgumentException("version is < 1");
+        }
+
+        int[] versions = getAvailableVersions(name);
+        if (versions == null || versions.length == 0) return null;
+
+        return getOrLoad(name, bestMatch(version, versions));
+    }
+
+    /**
+     * @return the requested version if available, else the lowest newer
+     *  version, else the highest; as {@link SimpleCatalog#bestMatch} does.
+     */
+    private static int bestMatch(int version, int[] versions)
+    {
+        int newer = 0;
+        int highest = 0;
+        for (int v : versions)
+        {
+            if (v == version) return v;
+            if (v > version && (newer == 0 || v < newer)) newer = v;
+            if (v > highest) highest = v;
+        }
+        return (newer != 0 ? newer : highest);
+    }
+
+    private static Retained find(Retained[] retained, int version)
+    {
+        if (retained != null)
+        {
+            for (Retained r : retained)
+            {
+                if (r.version == version) return r;
+            }
+        }
+        return null;
+    }
+
+    private SymbolTable getOrLoad(String name, int version)
+    {
+        Retained hit = find(myTables.get(name), version);
+        if (hit != null)
+        {
+            hit.lastUsed = myClock.incrementAndGet();
+            myHitCount.incrementAndGet();
+            return hit.table;
+        }
+        myMissCount.incrementAndGet();
+
+        SymbolTable loaded = loadTable(name, version);
+
+        synchronized (myLock)
+        {
+            Retained[] retained = myTables.get(name);
+            Retained raced = find(retained, version);
+            if (raced != null)
+            {
+                return raced.table;
+            }
+            if (retained == null) retained = NONE;
+
+            Retained[] added = new Retained[retained.length + 1];
+            System.arraycopy(retained, 0, added, 0, retained.length);
+            added[retained.length] =
+                new Retained(loaded, version, myClock.incrementAndGet());
+            myTables.put(name, added);
+            myRetainedCount++;
+
+            while (myRetainedCount > myMaxTables)
+            {
+                evictEldest();
+            }
+        }
+        return loaded;
+    }
+
+    /** Must be called while holding {@link #myLock}. */
+    private void evictEldest()
+    {
+        String eldestName = null;
+        Retained eldest = null;
+        for (Map.Entry<String, Retained[]> entry : myTables.entrySet())
+        {
+            for (Retained r : entry.getValue())
+            {
+                if (eldest == null || r.lastUsed < eldest.lastUsed)
+                {
+                    eldestName = entry.getKey();
+                    eldest = r;
+                }
+            }
+        }
+
+        Retained[] retained = myTables.get(eldestName);
+        if (retained.length == 1)
+        {
+            myTables.remove(eldestName);
+        }
+        else
+        {
+            Retained[] removed = new Retained[retained.length - 1];
+            int i = 0;
+            for (Retained r : retained)
+            {
+                if (r != eldest) removed[i++] = r;
+            }
+            myTables.put(eldestName, removed);
+        }
+        myRetainedCount--;
+        myEvictionCount.incrementAndGet();
+    }
+
+
+    /**
+     * Discards all retained tables. Statistics are not reset.
+     */
+    public void clear()
+    {
+        synchronized (myLock)
+        {
+            myTables.clear();
+            myRetainedCount = 0;
+        }
+    }
+
+    /**
+     * Gets the number of tables currently retained in memory.
+     */
+    public int getRetainedTableCount()
+    {
+        synchronized (myLock)
+        {
+            return myRetainedCount;
+        }
+    }
+
+    /**
+     * Gets the maximum number of tables retained in memory.
+     */
+    public int getMaxTables()
+    {
+        return myMaxTables;
+    }
+
+    /**
+     * Gets the number of lookups satisfied by a retained table.
+     */
+    public long getHitCount()
+    {
+        return myHitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that required loading a table.
+     */
+    public long getMissCount()
+    {
+        return myMissCount.get();
+    }
+
+    /**
+     * Gets the number of tables discarded to stay within
+     * {@link #getMaxTables()}.
+     */
+    public long getEvictionCount()
+    {
+        return myEvictionCount.get();
+    }
+}
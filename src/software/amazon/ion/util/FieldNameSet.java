@@ -0,0 +1,200 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.ion.FieldIdProvider;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.SymbolToken;
+
+/**
+ * A set of field names to find while scanning structs.
+ * <p>
+ * With readers supporting the {@link FieldIdProvider} facet, each distinct
+ * field symbol ID is looked up in the symbol table once, and from then on
+ * it is matched by the ID alone, until the symbol table changes: repeated
+ * fields cost no symbol table lookup and no {@link String}. Since every ID
+ * is resolved by its text, a name declared more than once in a symbol
+ * table matches through any of its IDs. Other readers are matched by the
+ * text of the field name.
+ * <p>
+ * Instances remember the reader and symbol table last matched against, so
+ * they are <b>not</b> thread-safe; use one per reader.
+ */
+public final class FieldNameSet
+{
+    private final String[] myNames;
+    private final Map<String, Integer> myIndexes;
+
+    private IonReader       myReader;
+    private FieldIdProvider myProvider;
+    private SymbolTable     mySymbolTable;
+
+    /**
+     * Open-addressed map from the field symbol IDs seen in the current
+     * symbol table to their indexes, or -1 for names not in the set; empty
+     * slots hold {@link SymbolTable#UNKNOWN_SYMBOL_ID}.
+     */
+    private final int   myInitialCapacity;
+    private int[]       mySids;
+    private int[]       mySidIndexes;
+    private int         mySidCount;
+
+    /**
+     * @param names the field names to find; duplicates are ignored.
+     */
+    public FieldNameSet(String... names)
+    {
+        myNames = names.clone();
+        myIndexes = new HashMap<String, Integer>();
+        for (int i = 0; i < names.length; i++)
+        {
+            if (names[i] == null) throw new NullPointerException();
+            if (! myIndexes.containsKey(names[i]))
+            {
+                myIndexes.put(names[i], i);
+            }
+        }
+        myInitialCapacity =
+            Integer.highestOneBit(Math.max(names.length, 4) * 4);
+        allocate(myInitialCapacity);
+    }
+
+    /** @return the number of names given to the constructor. */
+    public int size()
+    {
+        return myNames.length;
+    }
+
+    /** @return the name at the given index. */
+    public String get(int index)
+    {
+        return myNames[index];
+    }
+
+    /**
+     * Finds the field name of the reader's current value in this set.
+     *
+     * @return the index of the field name, as given to the constructor; or
+     * -1 if the field name isn't in the set, has unknown text, or the
+     * current value isn't a struct field.
+     */
+    public int indexOf(IonReader reader)
+    {
+        if (reader != myReader)
+        {
+            myReader = reader;
+            myProvider = reader.asFacet(FieldIdProvider.class);
+            mySymbolTable = null;
+        }
+
+        if (myProvider == null)
+        {
+            SymbolToken name = reader.getFieldNameSymbol();
+            String text = (name == null ? null : name.getText());
+            if (text == null) return -1;
+            Integer index = myIndexes.get(text);
+            return (index == null ? -1 : index);
+        }
+
+        int sid = myProvider.getFieldId();
+        if (sid == UNKNOWN_SYMBOL_ID) return -1;
+
+        SymbolTable symtab = reader.getSymbolTable();
+        if (symtab != mySymbolTable)
+        {
+            reset(symtab);
+        }
+
+        int mask = mySids.length - 1;
+        int slot = hash(sid) & mask;
+        for (;;)
+        {
+            int found = mySids[slot];
+            if (found == sid) return mySidIndexes[slot];
+            if (found == UNKNOWN_SYMBOL_ID) break;
+            slot = (slot + 1) & mask;
+        }
+
+        String text = symtab.findKnownSymbol(sid);
+        Integer index = (text == null ? null : myIndexes.get(text));
+        int result = (index == null ? -1 : index);
+        remember(sid, result);
+        return result;
+    }
+
+    private void reset(SymbolTable symtab)
+    {
+        if (mySids.length > myInitialCapacity)
+        {
+            allocate(myInitialCapacity);
+        }
+        else
+        {
+            Arrays.fill(mySids, UNKNOWN_SYMBOL_ID);
+        }
+        mySidCount = 0;
+        mySymbolTable = symtab;
+    }
+
+    private void allocate(int capacity)
+    {
+        mySids = new int[capacity];
+        mySidIndexes = new int[capacity];
+        Arrays.fill(mySids, UNKNOWN_SYMBOL_ID);
+    }
+
+    private void remember(int sid, int index)
+    {
+        if ((mySidCount + 1) * 2 > mySids.length)
+        {
+            int[] sids = mySids;
+            int[] indexes = mySidIndexes;
+            allocate(sids.length * 2);
+            for (int i = 0; i < sids.length; i++)
+            {
+                if (sids[i] != UNKNOWN_SYMBOL_ID)
+                {
+                    insert(sids[i], indexes[i]);
+                }
+            }
+        }
+        insert(sid, index);
+        mySidCount++;
+    }
+
+    private void insert(int sid, int index)
+    {
+        int mask = mySids.length - 1;
+        int slot = hash(sid) & mask;
+        while (mySids[slot] != UNKNOWN_SYMBOL_ID)
+        {
+            slot = (slot + 1) & mask;
+        }
+        mySids[slot] = sid;
+        mySidIndexes[slot] = index;
+    }
+
+    private static int hash(int sid)
+    {
+        int h = sid * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
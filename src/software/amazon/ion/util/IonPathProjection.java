@@ -0,0 +1,245 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.ion.IonReader;
+
+/**
+ * A set of paths into Ion data, which selects the values that a
+ * {@link ProjectingIonReader} exposes.
+ * <p>
+ * A path is a sequence of steps from a top-level value, such as
+ * {@code a.b[*].c}:
+ * <ul>
+ *   <li>{@code name} selects the struct field with that name, and {@code *}
+ *   selects every field; a step after the first is preceded by a dot;</li>
+ *   <li>{@code [n]} selects the element at index n of a list or sexp, and
+ *   {@code [*]} selects every element.</li>
+ * </ul>
+ * Field names can't contain dots, brackets, or whitespace, and can't be
+ * {@code *}.
+ * <p>
+ * Instances are immutable and safe for use by multiple threads.
+ */
+public final class IonPathProjection
+{
+    /** One step along the paths; the root stands for a top-level value. */
+    static final class Step
+    {
+        final Map<String, Step> fields = new HashMap<String, Step>();
+        /** The indexes selected by {@code [n]}, ascending, and their steps. */
+        int[] elementIndexes = NO_INDEXES;
+        Step[] elementSteps = NO_STEPS;
+        Step anyField;
+        Step anyElement;
+        /** The path that ends at this step, or null. */
+        String path;
+
+        /** @return the step for the element at the given index, or null. */
+        Step element(int index)
+        {
+            int i = Arrays.binarySearch(elementIndexes, index);
+            return (i < 0 ? null : elementSteps[i]);
+        }
+
+        /** @return the step for the element at the given index, added if need be. */
+        private Step addElement(int index)
+        {
+            int i = Arrays.binarySearch(elementIndexes, index);
+            if (i >= 0)
+            {
+                return elementSteps[i];
+            }
+            i = -(i + 1);
+            int count = elementIndexes.length;
+            int[] indexes = new int[count + 1];
+            Step[] steps = new Step[count + 1];
+            System.arraycopy(elementIndexes, 0, indexes, 0, i);
+            System.arraycopy(elementSteps, 0, steps, 0, i);
+            System.arraycopy(elementIndexes, i, indexes, i + 1, count - i);
+            System.arraycopy(elementSteps, i, steps, i + 1, count - i);
+            indexes[i] = index;
+            steps[i] = new Step();
+            elementIndexes = indexes;
+            elementSteps = steps;
+            return steps[i];
+        }
+    }
+
+    private static final int[] NO_INDEXES = new int[0];
+    private static final Step[] NO_STEPS = new Step[0];
+
+    private final Step myRoot;
+    private final List<String> myPaths;
+
+    private IonPathProjection(List<String> paths)
+    {
+        myRoot = new Step();
+        for (String path : paths)
+        {
+            add(myRoot, path);
+        }
+        myPaths = Collections.unmodifiableList(new ArrayList<String>(paths));
+    }
+
+    /**
+     * Compiles a set of paths.
+     *
+     * @throws IllegalArgumentException if a path is malformed, or if no
+     * paths are given.
+     */
+    public static IonPathProjection compile(String... paths)
+    {
+        List<String> list = new ArrayList<String>(paths.length);
+        Collections.addAll(list, paths);
+        return compile(list);
+    }
+
+    /**
+     * Compiles a set of paths.
+     *
+     * @throws IllegalArgumentException if a path is malformed, or if no
+     * paths are given.
+     */
+    public static IonPathProjection compile(List<String> paths)
+    {
+        if (paths.isEmpty())
+        {
+            throw new IllegalArgumentException("No paths given");
+        }
+        return new IonPathProjection(paths);
+    }
+
+    /** @return the paths of this projection, in the order given. */
+    public List<String> getPaths()
+    {
+        return myPaths;
+    }
+
+    /**
+     * Creates a reader exposing only the values of the given reader's data
+     * that are selected by this projection.
+     *
+     * @param source is positioned before the top-level values to project.
+     * It's closed when the returned reader is closed.
+     */
+    public ProjectingIonReader newReader(IonReader source)
+    {
+        return new ProjectingIonReader(myRoot, source);
+    }
+
+
+    private static void add(Step root, String path)
+    {
+        Step step = root;
+        int length = path.length();
+        int i = 0;
+        boolean first = true;
+        while (i < length || first)
+        {
+            char c = (i < length ? path.charAt(i) : 0);
+            if (c == '[')
+            {
+                int close = path.indexOf(']', i);
+                if (close < 0)
+                {
+                    throw badPath(path, "unclosed bracket");
+                }
+                String index = path.substring(i + 1, close);
+                if (index.equals("*"))
+                {
+                    if (step.anyElement == null) step.anyElement = new Step();
+                    step = step.anyElement;
+                }
+                else
+                {
+                    int key;
+                    try
+                    {
+                        key = Integer.parseInt(index);
+                    }
+                    catch (NumberFormatException e)
+                    {
+                        throw badPath(path, "bad index " + index);
+                    }
+                    if (key < 0)
+                    {
+                        throw badPath(path, "bad index " + index);
+                    }
+                    step = step.addElement(key);
+                }
+                i = close + 1;
+            }
+            else
+            {
+                if (! first)
+                {
+                    if (c != '.')
+                    {
+                        throw badPath(path, "expected '.' or '[' at " + i);
+                    }
+                    i++;
+                }
+                int end = i;
+                while (end < length && "[].".indexOf(path.charAt(end)) < 0)
+                {
+                    if (Character.isWhitespace(path.charAt(end)))
+                    {
+                        throw badPath(path, "whitespace at " + end);
+                    }
+                    end++;
+                }
+                if (end == i)
+                {
+                    throw badPath(path, "empty field name at " + i);
+                }
+                String name = path.substring(i, end);
+                if (name.equals("*"))
+                {
+                    if (step.anyField == null) step.anyField = new Step();
+                    step = step.anyField;
+                }
+                else
+                {
+                    Step next = step.fields.get(name);
+                    if (next == null)
+                    {
+                        next = new Step();
+                        step.fields.put(name, next);
+                    }
+                    step = next;
+                }
+                i = end;
+            }
+            first = false;
+        }
+        if (step.path == null)
+        {
+            step.path = path;
+        }
+    }
+
+    private static IllegalArgumentException badPath(String path, String why)
+    {
+        return new IllegalArgumentException("Malformed path \"" + path
+                                            + "\": " + why);
+    }
+}
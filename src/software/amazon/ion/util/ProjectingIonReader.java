@@ -0,0 +1,365 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IntegerSize;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.SpanProvider;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.SymbolToken;
+import software.amazon.ion.Timestamp;
+import software.amazon.ion.ValueBytesProvider;
+import software.amazon.ion.util.IonPathProjection.Step;
+
+/**
+ * An {@link IonReader} exposing only the values selected by an
+ * {@link IonPathProjection}, as if they were a sequence of top-level values.
+ * <p>
+ * The reader steps into a container of its source only when some path
+ * continues inside it. Every other value is passed over without being
+ * decoded, which binary readers do by skipping its length and text readers
+ * do by scanning to its end. A value selected by a path is exposed whole,
+ * so paths continuing below it select nothing more within it.
+ * <p>
+ * At depth zero, {@link #getFieldName()} and the other field name methods
+ * return the field name of the selected value, if it has one, while
+ * {@link #isInStruct()} returns false. Below depth zero the reader behaves
+ * exactly as its source.
+ * <p>
+ * Instances are <b>not</b> thread-safe.
+ */
+public final class ProjectingIonReader
+    implements IonReader
+{
+    /** The state of the search within a container of the source. */
+    private static final class Frame
+    {
+        final List<Step> steps = new ArrayList<Step>();
+        boolean isStruct;
+        int index;
+    }
+
+    private final IonReader mySource;
+    private final List<Frame> myFrames = new ArrayList<Frame>();
+    /** The number of containers the search has stepped into. */
+    private int myTop;
+    /** The depth of the user within a selected value. */
+    private int myDepth;
+    private String myMatchedPath;
+
+    ProjectingIonReader(Step root, IonReader source)
+    {
+        mySource = source;
+        Frame frame = new Frame();
+        frame.steps.add(root);
+        myFrames.add(frame);
+    }
+
+    /**
+     * @return the path that selected the current top-level value, as given
+     * to {@link IonPathProjection#compile}; or null if the reader isn't
+     * positioned on one.
+     */
+    public String getMatchedPath()
+    {
+        return myMatchedPath;
+    }
+
+    public IonType next()
+    {
+        if (myDepth > 0)
+        {
+            return mySource.next();
+        }
+
+        myMatchedPath = null;
+        for (;;)
+        {
+            IonType type = mySource.next();
+            if (type == null)
+            {
+                if (myTop == 0)
+                {
+                    return null;
+                }
+                mySource.stepOut();
+                myTop--;
+                continue;
+            }
+
+            Frame frame = myFrames.get(myTop);
+            Frame inner = push_frame();
+            List<Step> candidates = inner.steps;
+            if (myTop == 0)
+            {
+                // the root step stands for every top-level value
+                candidates.addAll(frame.steps);
+            }
+            else if (frame.isStruct)
+            {
+                String name = mySource.getFieldNameSymbol().getText();
+                for (Step step : frame.steps)
+                {
+                    if (name != null)
+                    {
+                        add(candidates, step.fields.get(name));
+                    }
+                    add(candidates, step.anyField);
+                }
+            }
+            else
+            {
+                int index = frame.index++;
+                for (Step step : frame.steps)
+                {
+                    if (step.elementIndexes.length != 0)
+                    {
+                        add(candidates, step.element(index));
+                    }
+                    add(candidates, step.anyElement);
+                }
+            }
+
+            for (Step step : candidates)
+            {
+                if (step.path != null)
+                {
+                    myMatchedPath = step.path;
+                    return type;
+                }
+            }
+
+            if (IonType.isContainer(type)
+                && continues_into(candidates, type == IonType.STRUCT)
+                && ! mySource.isNullValue())
+            {
+                mySource.stepIn();
+                inner.isStruct = (type == IonType.STRUCT);
+                inner.index = 0;
+                myTop++;
+            }
+        }
+    }
+
+    /** @return the cleared frame above the top of the search. */
+    private Frame push_frame()
+    {
+        int next = myTop + 1;
+        if (next == myFrames.size())
+        {
+            myFrames.add(new Frame());
+        }
+        Frame frame = myFrames.get(next);
+        frame.steps.clear();
+        return frame;
+    }
+
+    /**
+     * @return true if any of the steps continues with a field, for a struct,
+     * or with an element, for a list or sexp.
+     */
+    private static boolean continues_into(List<Step> steps, boolean isStruct)
+    {
+        for (Step step : steps)
+        {
+            if (isStruct
+                ? step.anyField != null || ! step.fields.isEmpty()
+                : step.anyElement != null || step.elementIndexes.length != 0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void add(List<Step> candidates, Step step)
+    {
+        if (step != null)
+        {
+            candidates.add(step);
+        }
+    }
+
+    public void stepIn()
+    {
+        mySource.stepIn();
+        myDepth++;
+    }
+
+    public void stepOut()
+    {
+        if (myDepth == 0)
+        {
+            throw new IllegalStateException("Cannot stepOut any further, already at top level");
+        }
+        mySource.stepOut();
+        myDepth--;
+    }
+
+    public int getDepth()
+    {
+        return myDepth;
+    }
+
+    public boolean isInStruct()
+    {
+        return myDepth > 0 && mySource.isInStruct();
+    }
+
+    public <T> T asFacet(Class<T> facetType)
+    {
+        // other facets would let the source be moved behind our back
+        if (facetType == SpanProvider.class
+            || facetType == ValueBytesProvider.class)
+        {
+            return mySource.asFacet(facetType);
+        }
+        return null;
+    }
+
+    public void close()
+        throws IOException
+    {
+        mySource.close();
+    }
+
+
+    //========================================================================
+    // Delegation to the source
+
+    public SymbolTable getSymbolTable()
+    {
+        return mySource.getSymbolTable();
+    }
+
+    public IonType getType()
+    {
+        return mySource.getType();
+    }
+
+    public IntegerSize getIntegerSize()
+    {
+        return mySource.getIntegerSize();
+    }
+
+    public String[] getTypeAnnotations()
+    {
+        return mySource.getTypeAnnotations();
+    }
+
+    public SymbolToken[] getTypeAnnotationSymbols()
+    {
+        return mySource.getTypeAnnotationSymbols();
+    }
+
+    public Iterator<String> iterateTypeAnnotations()
+    {
+        return mySource.iterateTypeAnnotations();
+    }
+
+    public String getFieldName()
+    {
+        return mySource.getFieldName();
+    }
+
+    public SymbolToken getFieldNameSymbol()
+    {
+        return mySource.getFieldNameSymbol();
+    }
+
+    public boolean isNullValue()
+    {
+        return mySource.isNullValue();
+    }
+
+    public boolean booleanValue()
+    {
+        return mySource.booleanValue();
+    }
+
+    public int intValue()
+    {
+        return mySource.intValue();
+    }
+
+    public long longValue()
+    {
+        return mySource.longValue();
+    }
+
+    public BigInteger bigIntegerValue()
+    {
+        return mySource.bigIntegerValue();
+    }
+
+    public double doubleValue()
+    {
+        return mySource.doubleValue();
+    }
+
+    public BigDecimal bigDecimalValue()
+    {
+        return mySource.bigDecimalValue();
+    }
+
+    public Decimal decimalValue()
+    {
+        return mySource.decimalValue();
+    }
+
+    public Date dateValue()
+    {
+        return mySource.dateValue();
+    }
+
+    public Timestamp timestampValue()
+    {
+        return mySource.timestampValue();
+    }
+
+    public String stringValue()
+    {
+        return mySource.stringValue();
+    }
+
+    public SymbolToken symbolValue()
+    {
+        return mySource.symbolValue();
+    }
+
+    public int byteSize()
+    {
+        return mySource.byteSize();
+    }
+
+    public byte[] newBytes()
+    {
+        return mySource.newBytes();
+    }
+
+    public int getBytes(byte[] buffer, int offset, int len)
+    {
+        return mySource.getBytes(buffer, offset, len);
+    }
+}
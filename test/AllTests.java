@@ -63,14 +63,19 @@ import software.amazon.ion.impl.IonImplUtilsTest;
 import software.amazon.ion.impl.IonWriterTests;
 import software.amazon.ion.impl.IterationTest;
 import software.amazon.ion.impl.LocalSymbolTableTest;
+import software.amazon.ion.impl.PrivateIonBinaryIndexTest;
 import software.amazon.ion.impl.SharedSymbolTableTest;
 import software.amazon.ion.impl.SymbolTableTest;
 import software.amazon.ion.impl.TreeReaderTest;
 import software.amazon.ion.impl.bin.IonManagedBinaryWriterTest;
 import software.amazon.ion.impl.bin.IonRawBinaryWriterTest;
 import software.amazon.ion.impl.bin.PooledBlockAllocatorProviderTest;
+import software.amazon.ion.impl.bin.StripedBlockAllocatorProviderTest;
+import software.amazon.ion.impl.bin.GatheringChannelOutputStreamTest;
+import software.amazon.ion.impl.bin.PrivateIonParallelBinaryWriterTest;
 import software.amazon.ion.impl.bin.WriteBufferTest;
 import software.amazon.ion.impl.lite.IonContextTest;
+import software.amazon.ion.impl.lite.LazyDomTest;
 import software.amazon.ion.streaming.BadIonStreamingTest;
 import software.amazon.ion.streaming.BinaryStreamingTest;
 import software.amazon.ion.streaming.GoodIonStreamingTest;
@@ -82,12 +87,19 @@ import software.amazon.ion.streaming.ReaderSkippingTest;
 import software.amazon.ion.streaming.ReaderTest;
 import software.amazon.ion.streaming.RoundTripStreamingTest;
 import software.amazon.ion.streaming.SpanTests;
+import software.amazon.ion.streaming.ValueBytesProviderTest;
+import software.amazon.ion.system.ConcurrentCatalogTest;
+import software.amazon.ion.system.DirectoryCatalogTest;
 import software.amazon.ion.system.IonBinaryWriterBuilderTest;
 import software.amazon.ion.system.IonReaderBuilderTest;
+import software.amazon.ion.system.IonIncrementalReaderTest;
+import software.amazon.ion.system.IonReaderPoolTest;
 import software.amazon.ion.system.IonSystemBuilderTest;
 import software.amazon.ion.system.IonTextWriterBuilderTest;
 import software.amazon.ion.system.SimpleCatalogTest;
 import software.amazon.ion.util.EquivalenceTest;
+import software.amazon.ion.util.FieldNameSetTest;
+import software.amazon.ion.util.IonPathProjectionTest;
 import software.amazon.ion.util.IonStreamUtilsTest;
 import software.amazon.ion.util.JarInfoTest;
 import software.amazon.ion.util.TextTest;
@@ -109,6 +121,8 @@ import software.amazon.ion.util.TextTest;
 
     // General framework tests
     SimpleCatalogTest.class,
+    ConcurrentCatalogTest.class,
+    DirectoryCatalogTest.class,
 
     // Type-based DOM tests
     IonValueTest.class,
@@ -149,6 +163,7 @@ import software.amazon.ion.util.TextTest;
     SharedSymbolTableTest.class,
     LocalSymbolTableTest.class,
     IonContextTest.class,
+    LazyDomTest.class,
 
     // Equality tests
     EquivalenceTest.class,
@@ -167,7 +182,10 @@ import software.amazon.ion.util.TextTest;
     SpanTests.class,
 
     IonStreamUtilsTest.class,
+    IonPathProjectionTest.class,
+    FieldNameSetTest.class,
     TreeReaderTest.class,
+    PrivateIonBinaryIndexTest.class,
     MiscStreamingTest.class,
     BinaryStreamingTest.class,
     ReaderTest.class,
@@ -179,6 +197,7 @@ import software.amazon.ion.util.TextTest;
     ReaderDomCopyTest.class,
     ReaderSkippingTest.class,
     ReaderIntegerSizeTest.class,
+    ValueBytesProviderTest.class,
 
     IonSystemTest.class,
     ValueFactorySequenceTest.class,
@@ -188,12 +207,17 @@ import software.amazon.ion.util.TextTest;
     IonReaderToIonValueTest.class,
     BinaryReaderWrappedValueLengthTest.class,
     IonReaderBuilderTest.class,
+    IonReaderPoolTest.class,
+    IonIncrementalReaderTest.class,
 
     // experimental binary writer tests
     PooledBlockAllocatorProviderTest.class,
+    StripedBlockAllocatorProviderTest.class,
     WriteBufferTest.class,
     IonRawBinaryWriterTest.class,
     IonManagedBinaryWriterTest.class,
+    GatheringChannelOutputStreamTest.class,
+    PrivateIonParallelBinaryWriterTest.class,
 
     // Hash code tests
     HashCodeCorrectnessTest.class,
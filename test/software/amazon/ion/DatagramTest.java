@@ -282,6 +282,64 @@ public class DatagramTest
         assertIonEquals(dg, dg2);
     }
 
+    @Test
+    public void testGetBytesReturnsCopy()
+    {
+        IonDatagram dg = myLoader.load("hello 23");
+        byte[] bytes1 = dg.getBytes();
+        byte[] bytes2 = dg.getBytes();
+        assertNotSame(bytes1, bytes2);
+        assertArrayEquals(bytes1, bytes2);
+
+        bytes1[bytes1.length - 1] = 0;
+        assertArrayEquals(bytes2, dg.getBytes());
+    }
+
+    private void checkEncoding(IonDatagram dg)
+    {
+        byte[] bytes = dg.getBytes();
+        assertEquals(bytes.length, dg.byteSize());
+        assertIonEquals(dg, myLoader.load(bytes));
+    }
+
+    @Test
+    public void testEncodingTracksMutation()
+    {
+        IonDatagram dg = myLoader.load("a {b:[1, 2]} c");
+        checkEncoding(dg);
+
+        IonStruct s = (IonStruct) dg.get(1);
+        IonList list = (IonList) s.get("b");
+        ((IonInt) list.get(0)).setValue(123456789);
+        checkEncoding(dg);
+
+        list.add().newString("added");
+        checkEncoding(dg);
+
+        s.put("d").newSymbol("new_symbol");
+        checkEncoding(dg);
+
+        list.get(1).addTypeAnnotation("ann");
+        checkEncoding(dg);
+
+        list.remove(0);
+        checkEncoding(dg);
+
+        dg.add().newInt(7);
+        checkEncoding(dg);
+
+        dg.remove(0);
+        checkEncoding(dg);
+
+        IonValue detached = s.remove("b");
+        int size = dg.byteSize();
+        ((IonList) detached).add().newInt(1);
+        assertEquals(size, dg.byteSize());
+
+        dg.makeReadOnly();
+        checkEncoding(dg);
+    }
+
 
     @Test
     public void testEncodingAnnotatedSymbol()
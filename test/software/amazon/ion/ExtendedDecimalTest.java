@@ -99,6 +99,17 @@ public class ExtendedDecimalTest
         assertTrue(Decimal.equals(val, converted));
     }
 
+    @Test
+    public void testCreationFromChars()
+    {
+        char[] chars = "x-0.00x".toCharArray();
+        testNegativeZero(2, Decimal.valueOf(chars, 1, 5));
+        chars = "0.0".toCharArray();
+        testPositiveZero(1, Decimal.valueOf(chars, 0, 3));
+        chars = "[12.5e-1]".toCharArray();
+        assertEquals(new BigDecimal("1.25"), Decimal.valueOf(chars, 1, 7));
+    }
+
 
     @Test
     public void testToString()
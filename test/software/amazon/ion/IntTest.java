@@ -246,6 +246,21 @@ public class IntTest
         badValue("-0x");
     }
 
+    @Test
+    public void testLongBoundaries()
+    {
+        checkInt(Long.MAX_VALUE, oneValue("" + Long.MAX_VALUE));
+        checkInt(Long.MIN_VALUE, oneValue("" + Long.MIN_VALUE));
+
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+        assertEquals(big, ((IonInt) oneValue(big.toString())).bigIntegerValue());
+        big = BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE);
+        assertEquals(big, ((IonInt) oneValue(big.toString())).bigIntegerValue());
+
+        checkInt(Long.MIN_VALUE, oneValue("-0x8000_0000_0000_0000"));
+        checkInt(-5, oneValue("-0b101"));
+    }
+
     @Test
     public void testIntsFromSuite()
         throws Exception
@@ -479,6 +494,27 @@ public class IntTest
         testGetIntegerSizeIntBoundary(Integer.MIN_VALUE);
     }
 
+    @Test
+    public void testGetIntegerSizeLoadedFromBinary() {
+        BigInteger pastLong = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+        IonDatagram dg = system().newDatagram();
+        dg.add().newInt(Integer.MIN_VALUE);
+        dg.add().newInt(Long.MIN_VALUE);
+        dg.add().newInt(pastLong);
+        dg.add().newInt(pastLong.negate().subtract(BigInteger.ONE));
+
+        IonDatagram loaded = loader().load(dg.getBytes());
+        assertEquals(IntegerSize.INT, ((IonInt) loaded.get(0)).getIntegerSize());
+        assertEquals(Integer.MIN_VALUE, ((IonInt) loaded.get(0)).intValue());
+        assertEquals(IntegerSize.LONG, ((IonInt) loaded.get(1)).getIntegerSize());
+        assertEquals(Long.MIN_VALUE, ((IonInt) loaded.get(1)).longValue());
+        assertEquals(IntegerSize.BIG_INTEGER, ((IonInt) loaded.get(2)).getIntegerSize());
+        assertEquals(pastLong, ((IonInt) loaded.get(2)).bigIntegerValue());
+        assertEquals(IntegerSize.BIG_INTEGER, ((IonInt) loaded.get(3)).getIntegerSize());
+        assertEquals(pastLong.negate().subtract(BigInteger.ONE),
+                     ((IonInt) loaded.get(3)).bigIntegerValue());
+    }
+
     private void testGetIntegerSizeLongBoundary(long boundaryValue) {
         BigInteger boundary = BigInteger.valueOf(boundaryValue);
         IonInt boundaryIon = (IonInt)oneValue(boundary.toString());
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -29,6 +30,7 @@ import software.amazon.ion.IonDatagram;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.impl.PrivateUtils;
+import software.amazon.ion.system.IonReaderBuilder;
 
 /**
  * Abstracts the various ways that {@link IonReader}s can be created, so test
@@ -167,6 +169,36 @@ public enum ReaderMaker
     },
 
 
+    /**
+     * Invokes {@link IonReaderBuilder#build(ByteBuffer)} with Ion binary in a
+     * direct buffer.
+     */
+    FROM_DIRECT_BUFFER_BINARY(Feature.BINARY)
+    {
+        @Override
+        public IonReader newReader(IonSystem system, byte[] ionData)
+        {
+            ionData = ensureBinary(system, ionData);
+            return newBufferReader(system, ionData);
+        }
+    },
+
+
+    /**
+     * Invokes {@link IonReaderBuilder#build(ByteBuffer)} with Ion text in a
+     * direct buffer.
+     */
+    FROM_DIRECT_BUFFER_TEXT(Feature.TEXT)
+    {
+        @Override
+        public IonReader newReader(IonSystem system, byte[] ionData)
+        {
+            ionData = ensureText(system, ionData);
+            return newBufferReader(system, ionData);
+        }
+    },
+
+
     /**
      * Invokes {@link IonSystem#newReader(Reader)}.
      */
@@ -252,6 +284,23 @@ public enum ReaderMaker
     }
 
 
+    /**
+     * Copies the data into a direct buffer with some leading and trailing
+     * padding, to verify that only position to limit is read.
+     */
+    private static IonReader newBufferReader(IonSystem system, byte[] ionData)
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ionData.length + 70);
+        buffer.position(37);
+        buffer.put(ionData);
+        buffer.position(37);
+        buffer.limit(37 + ionData.length);
+        return IonReaderBuilder.standard()
+                               .withCatalog(system.getCatalog())
+                               .build(buffer);
+    }
+
+
     public static ReaderMaker[] valuesExcluding(ReaderMaker... exclusions)
     {
         ReaderMaker[] all = values();
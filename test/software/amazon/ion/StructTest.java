@@ -1385,6 +1385,54 @@ public class StructTest
     static final int C_CLEAR              = 14;
     static final int COMMAND_MAX          = 14;
 
+    @Test
+    public void testLargeStructWithDuplicates()
+    {
+        IonStruct s = system().newEmptyStruct();
+        for (int i = 0; i < 100; i++)
+        {
+            s.add("f" + (i % 10)).newInt(i);
+        }
+        assertNull(((PrivateIonValue) s).validate());
+        assertEquals(90, ((IonInt) s.get("f0")).intValue());
+        assertEquals(99, ((IonInt) s.get("f9")).intValue());
+
+        // removing the last copy exposes the one before it
+        s.remove(s.get("f0"));
+        assertEquals(80, ((IonInt) s.get("f0")).intValue());
+        s.remove("f1");
+        assertEquals(81, ((IonInt) s.get("f1")).intValue());
+        assertNull(((PrivateIonValue) s).validate());
+
+        Iterator<IonValue> it = s.iterator();
+        while (it.hasNext())
+        {
+            if (((IonInt) it.next()).intValue() < 50) it.remove();
+        }
+        assertEquals(48, s.size());
+        assertEquals(80, ((IonInt) s.get("f0")).intValue());
+        assertNull(((PrivateIonValue) s).validate());
+
+        s.put("f2").newString("only");
+        assertEquals(44, s.size());
+        assertEquals("only", ((IonString) s.get("f2")).stringValue());
+        assertNull(((PrivateIonValue) s).validate());
+
+        IonStruct copy = s.clone();
+        copy.remove(copy.get("f3"));
+        assertNull(((PrivateIonValue) copy).validate());
+        assertEquals(93, ((IonInt) s.get("f3")).intValue());
+        assertEquals(83, ((IonInt) copy.get("f3")).intValue());
+
+        assertTrue(s.removeAll("f4", "f5"));
+        assertFalse(s.containsKey("f4"));
+        assertNull(((PrivateIonValue) s).validate());
+        assertTrue(s.retainAll("f6"));
+        assertEquals(5, s.size());
+        assertEquals(96, ((IonInt) s.get("f6")).intValue());
+        assertNull(((PrivateIonValue) s).validate());
+    }
+
     @Test
     public void testRandomChanges()
     {
@@ -1783,14 +1831,12 @@ public class StructTest
             }
         }
 
-        if (_debug_print_flag) {
-            // now check the map, if there is one
-            PrivateIonValue l = (PrivateIonValue)s1;
-            String map_error = l.validate();
-            if (map_error != null) {
-                errors += map_error;
-                difference = true;
-            }
+        // now check the field index, if there is one
+        PrivateIonValue l = (PrivateIonValue)s1;
+        String map_error = l.validate();
+        if (map_error != null) {
+            errors += map_error;
+            difference = true;
         }
 
         // if so we're equal and everything's ok
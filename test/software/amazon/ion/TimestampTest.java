@@ -368,6 +368,56 @@ public class TimestampTest
         assertEquals(0L, UNIX_EPOCH_TIMESTAMP.getMillis());
     }
 
+    /**
+     * Checks field-built timestamps against the same instants computed by a
+     * GregorianCalendar, across day, month, and year rollovers.
+     */
+    @Test
+    public void testOffsetRolloverMatchesCalendar()
+    {
+        String[] texts = {
+            "2012-02-28T23:30-01:00",   // into a leap day
+            "2012-03-01T00:10+00:20",   // back out of it
+            "1900-03-01T00:00+23:59",   // 1900 isn't a leap year
+            "2000-03-01T00:00+23:59",   // 2000 is
+            "1999-12-31T23:59-00:01",   // into a new year
+            "1583-01-01T00:10+00:20",   // back into the cutover year
+        };
+        for (String text : texts)
+        {
+            Timestamp ts = Timestamp.valueOf(text);
+            assertEquals(text, ts.toString());
+
+            Calendar cal = new GregorianCalendar(UTC);
+            cal.clear();
+            cal.set(ts.getYear(), ts.getMonth() - 1, ts.getDay(),
+                    ts.getHour(), ts.getMinute(), ts.getSecond());
+            cal.add(Calendar.MINUTE, -ts.getLocalOffset());
+            assertEquals(text, cal.getTimeInMillis(), ts.getMillis());
+            assertEquals(text, cal.get(Calendar.YEAR), ts.getZYear());
+            assertEquals(text, cal.get(Calendar.MONTH) + 1, ts.getZMonth());
+            assertEquals(text, cal.get(Calendar.DAY_OF_MONTH), ts.getZDay());
+            assertEquals(text, cal.get(Calendar.HOUR_OF_DAY), ts.getZHour());
+
+            assertEquals(ts, Timestamp.forCalendar(ts.calendarValue()));
+            assertEquals(ts.getMillis(), ts.clone().getMillis());
+        }
+    }
+
+    @Test
+    public void testJulianDates()
+    {
+        // Before the cutover, leap years follow the Julian calendar.
+        Timestamp ts = Timestamp.valueOf("1500-02-29");
+        assertEquals("1500-02-29", ts.toString());
+        badValue("1900-02-29");
+
+        // The dates skipped by the cutover roll forward, as with Calendar.
+        ts = Timestamp.valueOf("1582-10-05");
+        assertEquals("1582-10-15", ts.toString());
+        assertEquals(15, ts.getDay());
+    }
+
     @Test
     public void testFactoryNullTimestamp()
     {
@@ -298,4 +298,87 @@ public class LocalSymbolTableTest
         SymbolTable st = makeLocalSymtab(system(), LOCAL_SYMBOLS_ABC);
         assertEquals(0, st.getVersion());
     }
+
+    @Test
+    public void testFindReturnsCachedToken()
+    {
+        SymbolTable st = makeLocalSymtab(system(), LOCAL_SYMBOLS_ABC);
+        st.makeReadOnly();
+        SymbolToken tok = st.find(OTHER_A);
+        assertSame(A, tok.getText());
+        assertSame(tok, st.find(OTHER_A));
+        assertSame(tok, st.intern(OTHER_A));
+    }
+
+    @Test
+    public void testInternManySymbolsWithDuplicates()
+    {
+        SymbolTable st = makeLocalSymtab(system(), EMPTY_STRING_ARRAY);
+        int firstSid = st.getImportedMaxId() + 1;
+        for (int i = 0; i < 500; i++)
+        {
+            assertEquals(firstSid + i, st.intern("s" + i).getSid());
+        }
+        ((LocalSymbolTable) st).putSymbol("s7");
+        assertEquals(firstSid + 500, st.getMaxId());
+        assertEquals("s7", st.findKnownSymbol(firstSid + 500));
+
+        // The lowest sid wins, even after copying.
+        assertEquals(firstSid + 7, st.findSymbol("s7"));
+        SymbolTable copy = copyLocalSymbolTable(st);
+        assertEquals(firstSid + 7, copy.find("s7").getSid());
+        assertEquals(firstSid + 499, copy.find("s499").getSid());
+    }
+
+    @Test
+    public void testConcurrentIntern()
+        throws Exception
+    {
+        final SymbolTable st = makeLocalSymtab(system(), EMPTY_STRING_ARRAY);
+        final int firstSid = st.getImportedMaxId() + 1;
+        final int symbolCount = 2000;
+        final Throwable[] failure = new Throwable[1];
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++)
+        {
+            final int start = t * 97;
+            threads[t] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        for (int i = 0; i < symbolCount; i++)
+                        {
+                            String text = "s" + ((start + i) % symbolCount);
+                            SymbolToken tok = st.intern(text);
+                            assertEquals(text, tok.getText());
+                            assertEquals(text, st.findKnownSymbol(tok.getSid()));
+                            assertSame(tok, st.find(text));
+                        }
+                    }
+                    catch (Throwable e)
+                    {
+                        synchronized (failure)
+                        {
+                            failure[0] = e;
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        if (failure[0] != null)
+        {
+            throw new AssertionError(failure[0]);
+        }
+
+        assertEquals(firstSid + symbolCount - 1, st.getMaxId());
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonWriter;
+
+@SuppressWarnings("deprecation")
+public class PrivateIonBinaryIndexTest
+    extends IonTestCase
+{
+    private byte[] myData;
+    private IonDatagram myExpected;
+
+    @Before
+    public void setUpData()
+        throws Exception
+    {
+        // three symbol table epochs: the last stream has no version marker,
+        // so its local symbol table follows on from the previous context
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(encode("{id:\"a\", x:foo} {id:\"b\", y:bar}"));
+        out.write(encode("{id:b, z:baz} 5"));
+        byte[] last = encode("{id:7, w:qux}");
+        out.write(last, 4, last.length - 4);
+        myData = out.toByteArray();
+        myExpected = loader().load(
+            "{id:\"a\", x:foo} {id:\"b\", y:bar} {id:b, z:baz} 5 {id:7, w:qux}");
+    }
+
+    private void checkAllValues(PrivateIonBinaryIndex index)
+    {
+        assertEquals(myExpected.size(), index.size());
+        IonReader reader = index.newReader();
+        // visit out of order to show no value depends on its predecessors
+        for (int i = index.size() - 1; i >= 0; i--)
+        {
+            index.seek(reader, i);
+            assertNotNull(reader.next());
+            assertEquals(myExpected.get(i), system().newValue(reader));
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void testSeek()
+    {
+        PrivateIonBinaryIndex index =
+            PrivateIonBinaryIndex.build(catalog(), myData, null);
+        checkAllValues(index);
+
+        assertEquals(0, index.getEpoch(0));
+        assertEquals(0, index.getEpoch(1));
+        assertEquals(1, index.getEpoch(2));
+        assertEquals(1, index.getEpoch(3));
+        assertEquals(2, index.getEpoch(4));
+        assertNull(index.getKey(0));
+    }
+
+    @Test
+    public void testKeys()
+    {
+        PrivateIonBinaryIndex index =
+            PrivateIonBinaryIndex.build(catalog(), myData, "id");
+        assertEquals(Arrays.asList("a", "b", "b", null, "7"),
+                     Arrays.asList(index.getKey(0), index.getKey(1),
+                                   index.getKey(2), index.getKey(3),
+                                   index.getKey(4)));
+        assertEquals(0, index.indexOfKey("a"));
+        assertEquals(1, index.indexOfKey("b"));
+        assertEquals(4, index.indexOfKey("7"));
+        assertEquals(-1, index.indexOfKey("c"));
+
+        IonReader reader = index.newReader();
+        index.seek(reader, index.indexOfKey("7"));
+        reader.next();
+        assertEquals(myExpected.get(4), system().newValue(reader));
+    }
+
+    @Test
+    public void testWriteAndRead()
+        throws Exception
+    {
+        PrivateIonBinaryIndex index =
+            PrivateIonBinaryIndex.build(catalog(), myData, "id");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = system().newBinaryWriter(out);
+        index.writeTo(writer);
+        writer.close();
+
+        IonReader indexReader = system().newReader(out.toByteArray());
+        PrivateIonBinaryIndex read =
+            PrivateIonBinaryIndex.read(catalog(), myData, indexReader);
+        for (int i = 0; i < index.size(); i++)
+        {
+            assertEquals(index.getOffset(i), read.getOffset(i));
+            assertEquals(index.getLength(i), read.getLength(i));
+            assertEquals(index.getEpoch(i), read.getEpoch(i));
+            assertEquals(index.getKey(i), read.getKey(i));
+        }
+        checkAllValues(read);
+    }
+
+    @Test(expected = IonException.class)
+    public void testTextIsRejected()
+    {
+        PrivateIonBinaryIndex.build(catalog(), "1 2".getBytes(), null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSeekOutOfBounds()
+    {
+        PrivateIonBinaryIndex index =
+            PrivateIonBinaryIndex.build(catalog(), myData, null);
+        index.seek(index.newReader(), index.size());
+    }
+}
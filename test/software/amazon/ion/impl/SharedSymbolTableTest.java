@@ -14,12 +14,16 @@
 
 package software.amazon.ion.impl;
 
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
 import static software.amazon.ion.impl.PrivateUtils.EMPTY_STRING_ARRAY;
 import static software.amazon.ion.impl.PrivateUtils.stringIterator;
 import static software.amazon.ion.impl.SymbolTableTest.checkSharedTable;
 import static software.amazon.ion.impl.Symtabs.sharedSymtabStruct;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import org.junit.Test;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
@@ -352,4 +356,74 @@ public class SharedSymbolTableTest
         SymbolTable st = makeAbcTable();
         st.find(null);
     }
+
+
+    //-------------------------------------------------------------------------
+    // findSymbol()
+
+    @Test
+    public void testFindSymbolInLargeTable()
+    {
+        String[] syms = new String[20000];
+        for (int i = 0; i < syms.length; i++)
+        {
+            // Every tenth symbol repeats an earlier one, and some are
+            // multi-byte or outside the BMP.
+            int n = (i % 10 == 9 ? i / 2 : i);
+            syms[i] = (n % 7 == 0 ? "\u00e9\u4e2d\ud83d\ude00" : "s") + n;
+        }
+        SymbolTable st = myMaker.newSharedSymtab(system(), "ST", 1, syms);
+
+        int sid = st.getImportedMaxId();
+        Map<String, Integer> firstSids = new HashMap<String, Integer>();
+        Iterator<String> names = st.iterateDeclaredSymbolNames();
+        while (names.hasNext())
+        {
+            String text = names.next();
+            sid++;
+            if (text != null && ! firstSids.containsKey(text))
+            {
+                firstSids.put(text, sid);
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : firstSids.entrySet())
+        {
+            String text = entry.getKey();
+            int expected = entry.getValue();
+            assertEquals(text, expected, st.findSymbol(new String(text)));
+            assertEquals(text, expected, st.find(text).getSid());
+            assertEquals(text, text, st.findKnownSymbol(expected));
+        }
+
+        assertEquals(UNKNOWN_SYMBOL_ID, st.findSymbol("s19999x"));
+        assertEquals(UNKNOWN_SYMBOL_ID, st.findSymbol(""));
+    }
+
+    @Test
+    public void testFindSymbolInEmptyTable()
+    {
+        SymbolTable st =
+            myMaker.newSharedSymtab(system(), "ST", 1, EMPTY_STRING_ARRAY);
+
+        assertEquals(UNKNOWN_SYMBOL_ID, st.findSymbol("a"));
+        assertNull(st.find("a"));
+    }
+
+    @Test
+    public void testFindSymbolWithCollidingHashCodes()
+    {
+        // "AaAa", "AaBB", "BBAa" and "BBBB" all have the same hashCode().
+        String[] syms = { "AaAa", "x", "BBBB", "AaBB", "AaAa", "BBBB", "y" };
+        SymbolTable st = myMaker.newSharedSymtab(system(), "ST", 1, syms);
+        assertEquals("BBAa".hashCode(), "AaAa".hashCode());
+
+        int base = st.getImportedMaxId();
+        assertEquals(base + 1, st.findSymbol(new String("AaAa")));
+        assertEquals(base + 2, st.findSymbol("x"));
+        assertEquals(base + 3, st.findSymbol(new String("BBBB")));
+        assertEquals(base + 4, st.findSymbol(new String("AaBB")));
+        assertEquals(base + 7, st.findSymbol("y"));
+        assertEquals(UNKNOWN_SYMBOL_ID, st.findSymbol("BBAa"));
+    }
 }
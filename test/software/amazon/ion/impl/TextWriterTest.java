@@ -200,6 +200,31 @@ public class TextWriterTest
         assertEquals("\"\\x80 through \\x9f\"", outputString());
     }
 
+    @Test
+    public void testNonAsciiUtf8Spans()
+        throws Exception
+    {
+        options = IonTextWriterBuilder.standard();
+        options.setInitialIvmHandling(SUPPRESS);
+
+        // Long enough to cross the appendable's buffer boundaries, with
+        // multi-byte code points landing on both sides of them.
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+        {
+            text.append("a\u00e9\u4e2d\ud83d\ude00");
+        }
+        String str = text.toString();
+
+        iw = makeWriter();
+        iw.writeString(str + "\n\u0085");
+        iw.writeSymbol(str);
+
+        String expected =
+            "\"" + str + "\\n\\x85\" '" + str + "'";
+        assertEquals(expected, outputString());
+    }
+
 
     private void expectRendering(String expected, IonDatagram original)
         throws Exception
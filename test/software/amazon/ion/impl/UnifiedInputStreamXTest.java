@@ -9,6 +9,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 public class UnifiedInputStreamXTest extends Assert {
@@ -50,4 +51,29 @@ public class UnifiedInputStreamXTest extends Assert {
 
         assertArrayEquals(expected, actual);
     }
+
+    @Test
+    public void testReadAcrossByteBufferSegments() throws Exception {
+        // segments larger than a page, so reads cross both page and segment boundaries
+        int segmentSize = UnifiedInputStreamX.DEFAULT_PAGE_SIZE + 7;
+        ByteBuffer first = ByteBuffer.allocateDirect(segmentSize);
+        ByteBuffer second = ByteBuffer.allocateDirect(segmentSize);
+        for (int i = 0; i < segmentSize; i++) {
+            first.put((byte) i);
+            second.put((byte) (segmentSize + i));
+        }
+        first.flip();
+        second.flip();
+
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(first, second);
+        for (int i = 0; i < 2 * segmentSize; i++) {
+            assertEquals(i & 0xFF, uix.read());
+        }
+        assertEquals(UnifiedInputStreamX.EOF, uix.read());
+        assertEquals(2 * segmentSize, uix.getPosition());
+
+        // the callers' buffers are untouched
+        assertEquals(0, first.position());
+        assertEquals(0, second.position());
+    }
 }
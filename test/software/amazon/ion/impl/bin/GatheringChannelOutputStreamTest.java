@@ -0,0 +1,286 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder.AllocatorMode;
+
+public class GatheringChannelOutputStreamTest
+{
+    /** Accepts at most {@link #maxPerWrite} bytes per write, to exercise partial writes. */
+    private static final class RecordingChannel implements GatheringByteChannel
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final int maxPerWrite;
+        final boolean slow;
+        int writes;
+        int lastBufferCount;
+        boolean open = true;
+
+        RecordingChannel(final int maxPerWrite)
+        {
+            this(maxPerWrite, false);
+        }
+
+        RecordingChannel(final int maxPerWrite, final boolean slow)
+        {
+            this.maxPerWrite = maxPerWrite;
+            this.slow = slow;
+        }
+
+        public long write(final ByteBuffer[] srcs, final int offset, final int length)
+        {
+            writes++;
+            lastBufferCount = length;
+            if (slow)
+            {
+                // give other writers sharing the block pool a chance to run before we read the buffers
+                try
+                {
+                    Thread.sleep(1);
+                }
+                catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            long written = 0;
+            for (int i = offset; i < offset + length && written < maxPerWrite; i++)
+            {
+                final ByteBuffer src = srcs[i];
+                while (src.hasRemaining() && written < maxPerWrite)
+                {
+                    bytes.write(src.get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        public long write(final ByteBuffer[] srcs)
+        {
+            return write(srcs, 0, srcs.length);
+        }
+
+        public int write(final ByteBuffer src)
+        {
+            return (int) write(new ByteBuffer[] { src });
+        }
+
+        public boolean isOpen()
+        {
+            return open;
+        }
+
+        public void close()
+        {
+            open = false;
+        }
+    }
+
+    private static PrivateIonManagedBinaryWriterBuilder builder()
+    {
+        // small blocks so that values span several of them
+        return PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.POOLED)
+                                                   .withUserBlockSize(16)
+                                                   .withSymbolsBlockSize(16);
+    }
+
+    private static void writeValues(final IonWriter writer) throws IOException
+    {
+        writeValues(writer, 50);
+    }
+
+    private static void writeValues(final IonWriter writer, final int count) throws IOException
+    {
+        for (int i = 0; i < count; i++)
+        {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("name" + (i % 7));
+            writer.writeString("value number " + i);
+            writer.setFieldName("n");
+            writer.writeInt(i);
+            writer.stepOut();
+            if (i % 10 == 9)
+            {
+                writer.finish();
+            }
+        }
+        writer.close();
+    }
+
+    private static byte[] expected() throws IOException
+    {
+        return expected(50);
+    }
+
+    private static byte[] expected(final int count) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeValues(builder().newWriter(out), count);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testGatheringWrites() throws IOException
+    {
+        final RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        writeValues(builder().newWriter(channel));
+        assertArrayEquals(expected(), channel.bytes.toByteArray());
+        assertFalse(channel.isOpen());
+        // one gathering write per finish
+        assertEquals(5, channel.writes);
+    }
+
+    @Test
+    public void testPartialWrites() throws IOException
+    {
+        final RecordingChannel channel = new RecordingChannel(7);
+        writeValues(builder().newWriter(channel));
+        assertArrayEquals(expected(), channel.bytes.toByteArray());
+        assertTrue(channel.writes > 5);
+    }
+
+    @Test
+    public void testFileChannel() throws IOException
+    {
+        final File file = File.createTempFile("gathering", ".10n");
+        try
+        {
+            final FileChannel channel = new FileOutputStream(file).getChannel();
+            writeValues(builder().newWriter(channel));
+            assertArrayEquals(expected(), Files.readAllBytes(file.toPath()));
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testSingleBytesAreBuffered() throws IOException
+    {
+        final RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        final GatheringChannelOutputStream out = new GatheringChannelOutputStream(channel);
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 100; i++)
+        {
+            out.write(i);
+            expected.write(i);
+        }
+        final byte[] range = { 42, 43 };
+        out.write(range, 0, range.length);
+        expected.write(range, 0, range.length);
+        out.write(7);
+        out.write(8);
+        expected.write(7);
+        expected.write(8);
+        out.flush();
+
+        assertArrayEquals(expected.toByteArray(), channel.bytes.toByteArray());
+        assertEquals(1, channel.writes);
+        // the 100 single bytes fill one buffer and start another, then the range, then the last two bytes
+        assertEquals(4, channel.lastBufferCount);
+
+        // the buffer is reused after the flush
+        out.write(9);
+        out.flush();
+        assertEquals(2, channel.writes);
+        assertEquals(1, channel.lastBufferCount);
+        assertEquals(9, channel.bytes.toByteArray()[expected.size()]);
+    }
+
+    @Test
+    public void testBlocksAreReleasedAfterFlush() throws IOException
+    {
+        final RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        final GatheringChannelOutputStream out = new GatheringChannelOutputStream(channel);
+        final StripedBlockAllocatorProvider pool = new StripedBlockAllocatorProvider(1, 8, 0);
+        final BlockAllocator allocator = out.deferReleases(pool).vendAllocator(4);
+
+        // nothing written refers to the block, so it goes straight back to the pool
+        allocator.allocateBlock().close();
+        assertEquals(4, pool.getRetainedBytes());
+
+        final Block block = allocator.allocateBlock();
+        assertEquals(1, pool.getPoolHitCount());
+        block.data[0] = 1;
+        block.limit = 1;
+        out.write(block.data, 0, block.limit);
+        block.close();
+        assertEquals(0, pool.getRetainedBytes());
+
+        out.flush();
+        assertEquals(4, pool.getRetainedBytes());
+        assertArrayEquals(new byte[] { 1 }, channel.bytes.toByteArray());
+    }
+
+    @Test
+    public void testConcurrentWritersSharingPool() throws Exception
+    {
+        final int threads = 4;
+        final int count = 200;
+        final byte[] expected = expected(count);
+        // one builder, so that all of the writers draw on the same block pool
+        final PrivateIonManagedBinaryWriterBuilder builder = builder();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            final List<Future<byte[]>> results = new ArrayList<Future<byte[]>>();
+            for (int t = 0; t < threads; t++)
+            {
+                results.add(executor.submit(new Callable<byte[]>()
+                {
+                    public byte[] call() throws IOException
+                    {
+                        final RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE, true);
+                        writeValues(builder.newWriter(channel), count);
+                        return channel.bytes.toByteArray();
+                    }
+                }));
+            }
+            for (final Future<byte[]> result : results)
+            {
+                assertArrayEquals(expected, result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.ion.impl.bin;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import org.junit.Test;
 import software.amazon.ion.IonContainer;
+import software.amazon.ion.IonDatagram;
 import software.amazon.ion.IonMutableCatalog;
 import software.amazon.ion.IonSymbol;
 import software.amazon.ion.IonType;
@@ -226,4 +228,63 @@ public class IonManagedBinaryWriterTest extends IonRawBinaryWriterTest
         bos.toByteArray();
 
     }
+
+    @Test
+    public void testResetToNewStream() throws Exception
+    {
+        final PrivateIonResettableWriter resettable = (PrivateIonResettableWriter) writer;
+        writer.writeSymbol("hello");
+        final ByteArrayOutputStream other = new ByteArrayOutputStream();
+        resettable.reset(other);
+        assertEquals(system().singleValue("hello"), system().singleValue(buffer.toByteArray()));
+        assertEquals(UNKNOWN_SYMBOL_ID, writer.getSymbolTable().findSymbol("hello"));
+
+        writer.writeSymbol("world");
+        writer.finish();
+        assertEquals(system().singleValue("world"), system().singleValue(other.toByteArray()));
+    }
+
+    @Test
+    public void testResetRetainingLocalSymbols() throws Exception
+    {
+        final PrivateIonResettableWriter resettable = (PrivateIonResettableWriter) writer;
+        writer.writeSymbol("hello");
+        final int sid = writer.getSymbolTable().findSymbol("hello");
+        final ByteArrayOutputStream other = new ByteArrayOutputStream();
+        resettable.reset(other, true);
+        assertEquals(system().singleValue("hello"), system().singleValue(buffer.toByteArray()));
+        assertEquals(sid, writer.getSymbolTable().findSymbol("hello"));
+
+        writer.writeSymbol("hello");
+        writer.writeSymbol("world");
+        writer.finish();
+        final IonDatagram dg = system().getLoader().load(other.toByteArray());
+        assertEquals(2, dg.size());
+        assertEquals(system().singleValue("hello"), dg.get(0));
+        assertEquals(system().singleValue("world"), dg.get(1));
+        assertEquals(sid, ((IonSymbol) dg.get(0)).symbolValue().getSid());
+    }
+
+    @Test
+    public void testResetWithoutValuesBetween() throws Exception
+    {
+        final PrivateIonResettableWriter resettable = (PrivateIonResettableWriter) writer;
+        writer.writeSymbol("hello");
+        final ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        resettable.reset(empty, true);
+        final ByteArrayOutputStream other = new ByteArrayOutputStream();
+        resettable.reset(other, true);
+        assertEquals(0, system().getLoader().load(empty.toByteArray()).size());
+
+        writer.writeSymbol("hello");
+        writer.finish();
+        assertEquals(system().singleValue("hello"), system().singleValue(other.toByteArray()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testResetWithinContainer() throws Exception
+    {
+        writer.stepIn(IonType.LIST);
+        ((PrivateIonResettableWriter) writer).reset(new ByteArrayOutputStream());
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder.AllocatorMode;
+import software.amazon.ion.system.IonSystemBuilder;
+import software.amazon.ion.system.SimpleCatalog;
+
+public class PrivateIonParallelBinaryWriterTest
+{
+    private final IonSystem system = IonSystemBuilder.standard().build();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void teardown()
+    {
+        executor.shutdownNow();
+    }
+
+    private IonDatagram values(final int count)
+    {
+        final IonDatagram values = system.newDatagram();
+        for (int i = 0; i < count; i++)
+        {
+            final IonStruct struct = system.newEmptyStruct();
+            struct.add("id").newInt(i);
+            struct.add("name" + (i % 13)).newSymbol("sym" + (i % 17));
+            values.add(struct);
+        }
+        values.makeReadOnly();
+        return values;
+    }
+
+    private void assertRoundTrip(final PrivateIonManagedBinaryWriterBuilder builder,
+                                 final IonSystem reader,
+                                 final int count,
+                                 final int valuesPerSegment,
+                                 final int maxPendingSegments)
+        throws IOException
+    {
+        final IonDatagram expected = values(count);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PrivateIonParallelBinaryWriter writer =
+            builder.newParallelWriter(out, executor, valuesPerSegment, maxPendingSegments);
+        for (final IonValue value : expected)
+        {
+            writer.writeValue(value);
+        }
+        writer.close();
+
+        final IonDatagram actual = reader.getLoader().load(out.toByteArray());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testSegmentsInSubmissionOrder() throws IOException
+    {
+        final PrivateIonManagedBinaryWriterBuilder builder =
+            PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.POOLED);
+        assertRoundTrip(builder, system, 1000, 7, 8);
+        assertRoundTrip(builder, system, 1000, 100, 1);
+        assertRoundTrip(builder, system, 3, 10, 4);
+        assertRoundTrip(builder, system, 0, 10, 4);
+    }
+
+    @Test
+    public void testSharedSymbolTableImports() throws IOException
+    {
+        final SimpleCatalog catalog = new SimpleCatalog();
+        final SymbolTable shared = system.newSharedSymbolTable(
+            "shared", 1, Arrays.asList("id", "name0", "name1", "sym0").iterator());
+        catalog.putTable(shared);
+
+        final PrivateIonManagedBinaryWriterBuilder builder =
+            PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.STRIPED)
+                                                .withCatalog(catalog)
+                                                .withImports(shared);
+        assertRoundTrip(builder, IonSystemBuilder.standard().withCatalog(catalog).build(), 500, 20, 4);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testEncodingFailureIsRethrown() throws IOException
+    {
+        final PrivateIonParallelBinaryWriter writer =
+            PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.POOLED)
+                                                .newParallelWriter(new ByteArrayOutputStream(), executor, 10, 4);
+        writer.writeValue(system.newInt(1));
+        writer.writeValue(null);
+        writer.flush();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFlushAfterClose() throws IOException
+    {
+        final PrivateIonParallelBinaryWriter writer =
+            PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.POOLED)
+                                                .newParallelWriter(new ByteArrayOutputStream(), executor, 10, 4);
+        writer.writeValue(system.newInt(1));
+        writer.close();
+        writer.flush();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder.AllocatorMode;
+
+public class StripedBlockAllocatorProviderTest
+{
+    @Test
+    public void testReuseBlockAfterClose()
+    {
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider(4, 8, 0);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        assertSame(allocator, provider.vendAllocator(8));
+
+        final Block block1 = allocator.allocateBlock();
+        final Block block2 = allocator.allocateBlock();
+        assertNotSame(block1.data, block2.data);
+        assertEquals(8, block1.data.length);
+        block1.limit = 7;
+        block1.close();
+        assertEquals(8, provider.getRetainedBytes());
+
+        final Block block1Again = allocator.allocateBlock();
+        assertSame(block1, block1Again);
+        assertEquals(0, block1Again.limit);
+
+        assertEquals(3, provider.getAllocationCount());
+        assertEquals(1, provider.getPoolHitCount());
+        assertEquals(2, provider.getPoolMissCount());
+        assertEquals(0, provider.getRetainedBytes());
+    }
+
+    @Test
+    public void testRetentionCap()
+    {
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider(1, 2, 0);
+        final BlockAllocator allocator = provider.vendAllocator(16);
+        final List<Block> blocks = new ArrayList<Block>();
+        for (int i = 0; i < 5; i++)
+        {
+            blocks.add(allocator.allocateBlock());
+        }
+        for (final Block block : blocks)
+        {
+            block.close();
+        }
+        assertEquals(32, provider.getRetainedBytes());
+
+        allocator.allocateBlock();
+        allocator.allocateBlock();
+        allocator.allocateBlock();
+        assertEquals(2, provider.getPoolHitCount());
+        assertEquals(6, provider.getPoolMissCount());
+    }
+
+    private static void allocateAndClose(final BlockAllocator allocator, final int count)
+    {
+        final List<Block> blocks = new ArrayList<Block>();
+        for (int i = 0; i < count; i++)
+        {
+            blocks.add(allocator.allocateBlock());
+        }
+        for (final Block block : blocks)
+        {
+            block.close();
+        }
+    }
+
+    @Test
+    public void testRetentionCapAcrossStripes()
+    {
+        // the cap doesn't divide evenly, and all of the blocks come back to one stripe
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider(4, 6, 0);
+        allocateAndClose(provider.vendAllocator(8), 20);
+        assertEquals(6 * 8, provider.getRetainedBytes());
+    }
+
+    @Test
+    public void testCapBelowStripeCount()
+    {
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider(8, 3, 0);
+        allocateAndClose(provider.vendAllocator(8), 10);
+        assertEquals(3 * 8, provider.getRetainedBytes());
+    }
+
+    @Test
+    public void testZeroRetention()
+    {
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider(4, 0, 0);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        allocateAndClose(allocator, 5);
+        assertEquals(0, provider.getRetainedBytes());
+
+        allocator.allocateBlock();
+        assertEquals(0, provider.getPoolHitCount());
+        assertEquals(6, provider.getPoolMissCount());
+    }
+
+    @Test
+    public void testTrimIdleBlocks()
+    {
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider(1, 8, 0);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block block1 = allocator.allocateBlock();
+        final Block block2 = allocator.allocateBlock();
+        block1.close();
+        block2.close();
+
+        // Nothing has been idle for a whole period yet.
+        provider.trimIdleBlocks();
+        assertEquals(16, provider.getRetainedBytes());
+
+        // Using one block leaves the other idle for the next period.
+        allocator.allocateBlock().close();
+        provider.trimIdleBlocks();
+        assertEquals(8, provider.getRetainedBytes());
+
+        provider.trimIdleBlocks();
+        assertEquals(0, provider.getRetainedBytes());
+    }
+
+    @Test
+    public void testBlocksAreSharedAcrossThreads()
+        throws Exception
+    {
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider(64, 64, 0);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block block = allocator.allocateBlock();
+        block.close();
+
+        final AtomicReference<Block> other = new AtomicReference<Block>();
+        final Thread thread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                other.set(allocator.allocateBlock());
+            }
+        };
+        thread.start();
+        thread.join();
+        assertSame(block, other.get());
+        assertEquals(1, provider.getPoolHitCount());
+    }
+
+    private static void writeValues(final PrivateIonManagedBinaryWriterBuilder builder)
+        throws Exception
+    {
+        final IonWriter writer = builder.newWriter(new ByteArrayOutputStream());
+        writer.writeSymbol("hello");
+        writer.writeString("world");
+        writer.close();
+    }
+
+    @Test
+    public void testBlockPoolThroughBuilder()
+        throws Exception
+    {
+        final PrivateIonManagedBinaryWriterBuilder builder = PrivateIonManagedBinaryWriterBuilder.createStriped(8, 0);
+        final PrivateBlockPool pool = builder.getBlockPool();
+        assertSame(pool, builder.copy().getBlockPool());
+
+        writeValues(builder);
+        final long allocations = pool.getAllocationCount();
+        final long hits = pool.getPoolHitCount();
+        final long misses = pool.getPoolMissCount();
+        assertTrue(misses > 0);
+        assertEquals(allocations, hits + misses);
+        assertTrue(pool.getRetainedBytes() > 0);
+
+        // a second writer is served entirely from the blocks the first one released
+        writeValues(builder.copy());
+        assertEquals(2 * allocations, pool.getAllocationCount());
+        assertEquals(allocations + hits, pool.getPoolHitCount());
+        assertEquals(misses, pool.getPoolMissCount());
+
+        pool.trimIdleBlocks();
+        pool.trimIdleBlocks();
+        assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testNoBlockPoolForOtherModes()
+    {
+        assertTrue(PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.STRIPED).getBlockPool() != null);
+        assertNull(PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.POOLED).getBlockPool());
+        assertNull(PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.BASIC).getBlockPool());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize()
+    {
+        new StripedBlockAllocatorProvider().vendAllocator(0);
+    }
+}
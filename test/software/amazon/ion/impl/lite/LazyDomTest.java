@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static software.amazon.ion.BinaryTest.hexToBytes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonString;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSymbol;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonSystemBuilder;
+
+public class LazyDomTest
+{
+    private static final String DATA =
+        "$ion_1_0 {a:1, b:[1, two, \"three\", {c:d::{e:null.struct}}], f:(g h)} "
+        + "ann::[1, [2, [3]]] "
+        + "$ion_symbol_table::{symbols:[\"local\"]} {local:$10} plain";
+
+    private final IonSystem eagerSystem = IonSystemBuilder.standard().build();
+    private final IonSystem lazySystem =
+        IonSystemBuilder.standard().withLazyDom(true).build();
+
+    private byte[] binary()
+    {
+        return eagerSystem.getLoader().load(DATA).getBytes();
+    }
+
+    private IonDatagram lazyLoad()
+    {
+        return lazySystem.getLoader().load(binary());
+    }
+
+    private static void assertValuesEqual(IonDatagram expected, IonDatagram actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testLoadMatchesEagerLoad()
+    {
+        IonDatagram eager = eagerSystem.getLoader().load(binary());
+        IonDatagram lazy = lazyLoad();
+        assertValuesEqual(eager, lazy);
+        assertEquals(eager.toString(), lazy.toString());
+        assertValuesEqual(eager, lazySystem.getLoader().load(lazy.getBytes()));
+    }
+
+    @Test
+    public void testChildrenMaterializeOnAccess()
+    {
+        IonDatagram dg = lazyLoad();
+        IonStruct struct = (IonStruct) dg.get(0);
+
+        IonList b = (IonList) struct.get("b");
+        assertNotNull(b);
+        assertEquals(4, b.size());
+        assertEquals("three", ((IonString) b.get(2)).stringValue());
+
+        IonStruct nested = (IonStruct) b.get(3);
+        IonStruct c = (IonStruct) nested.get("c");
+        assertEquals("d", c.getTypeAnnotations()[0]);
+        assertTrue(c.get("e").isNullValue());
+
+        IonStruct local = (IonStruct) dg.get(2);
+        assertEquals("local", local.iterator().next().getFieldName());
+        assertEquals("local", ((IonSymbol) local.get("local")).stringValue());
+    }
+
+    @Test
+    public void testMutation()
+    {
+        IonDatagram dg = lazyLoad();
+        IonStruct struct = (IonStruct) dg.get(0);
+        struct.put("a").newInt(2);
+        struct.remove(struct.get("f"));
+        ((IonList) struct.get("b")).add().newString("four");
+        ((IonList) dg.get(1)).clearTypeAnnotations();
+
+        IonDatagram expected = eagerSystem.getLoader().load(
+            "{a:2, b:[1, two, \"three\", {c:d::{e:null.struct}}, \"four\"]} "
+            + "[1, [2, [3]]] {local:local} plain");
+        assertValuesEqual(expected, dg);
+        assertValuesEqual(expected, eagerSystem.getLoader().load(dg.getBytes()));
+        assertValuesEqual(expected, eagerSystem.getLoader().load(dg.toString()));
+    }
+
+    @Test
+    public void testClearUnmaterialized()
+    {
+        IonDatagram dg = lazyLoad();
+        IonStruct struct = (IonStruct) dg.get(0);
+        struct.clear();
+        assertTrue(struct.isEmpty());
+        assertEquals("{}", struct.toString());
+
+        IonList list = (IonList) dg.get(1);
+        list.makeNull();
+        assertTrue(list.isNullValue());
+        assertEquals("ann::null.list", list.toString());
+    }
+
+    @Test
+    public void testCloneOfUnmaterialized()
+    {
+        IonDatagram dg = lazyLoad();
+        IonStruct original = (IonStruct) dg.get(0);
+        IonStruct copy = original.clone();
+        copy.put("z").newBool(true);
+
+        assertFalse(original.containsKey("z"));
+        assertEquals(4, copy.size());
+        assertEquals(3, original.size());
+        assertEquals(original.get("b"), copy.get("b"));
+    }
+
+    @Test
+    public void testWriteUnmaterialized()
+    {
+        IonDatagram dg = lazyLoad();
+        IonList list = (IonList) dg.get(1);
+        list.setTypeAnnotations("changed");
+        assertEquals("changed::[1,[2,[3]]]", list.toString());
+
+        list.clearTypeAnnotations();
+        assertEquals("[1,[2,[3]]]", list.toString());
+
+        IonStruct struct = (IonStruct) dg.get(0);
+        struct.addTypeAnnotation("added");
+        assertEquals("added::{a:1,b:[1,two,\"three\",{c:d::{e:null.struct}}],f:(g h)}",
+                     struct.toString());
+    }
+
+    @Test
+    public void testMakeReadOnlyMaterializes()
+    {
+        IonDatagram dg = lazyLoad();
+        IonStruct struct = (IonStruct) dg.get(0);
+        struct.makeReadOnly();
+        assertTrue(struct.get("b").isReadOnly());
+        assertTrue(((IonList) struct.get("b")).get(3).isReadOnly());
+    }
+
+    @Test
+    public void testIterateAndSingleValue()
+    {
+        Iterator<IonValue> values = lazySystem.iterate(binary());
+        IonStruct struct = (IonStruct) values.next();
+        assertEquals(3, struct.size());
+
+        byte[] single = eagerSystem.getLoader().load("{x:[y]}").getBytes();
+        IonStruct value = (IonStruct) lazySystem.singleValue(single);
+        assertEquals(eagerSystem.singleValue("{x:[y]}"), value);
+    }
+
+    @Test
+    public void testTextLoadIsUnaffected()
+    {
+        assertValuesEqual(eagerSystem.getLoader().load(DATA),
+                          lazySystem.getLoader().load(DATA));
+    }
+
+    @Test
+    public void testUnmaterializedIsCopiedRaw()
+        throws Exception
+    {
+        // A list holding an int encoded with a redundant leading zero byte,
+        // which the writer would never produce itself.
+        byte[] data = hexToBytes("E0 01 00 EA B3 22 00 01");
+        IonSystem system = IonSystemBuilder.standard()
+                                           .withLazyDom(true)
+                                           .withStreamCopyOptimized(true)
+                                           .build();
+        IonDatagram dg = system.getLoader().load(data);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = system.newBinaryWriter(out);
+        dg.get(0).writeTo(writer);
+        writer.close();
+
+        byte[] bytes = out.toByteArray();
+        byte[] tail = new byte[4];
+        System.arraycopy(bytes, bytes.length - 4, tail, 0, 4);
+        assertEquals("B3 22 00 01", hex(tail));
+    }
+
+    /** Returns the array that getBytes(OutputStream) wrote, which is the cached encoding itself. */
+    private static byte[] encoding(IonDatagram dg)
+        throws IOException
+    {
+        final byte[][] written = new byte[1][];
+        dg.getBytes(new OutputStream()
+        {
+            @Override
+            public void write(int b)
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len)
+            {
+                written[0] = b;
+            }
+        });
+        return written[0];
+    }
+
+    @Test
+    public void testEncodingSurvivesMaterialization()
+        throws Exception
+    {
+        IonDatagram dg = lazyLoad();
+        int size = dg.byteSize();
+        byte[] encoding = encoding(dg);
+
+        // reading the lazily loaded children doesn't change the datagram
+        IonStruct struct = (IonStruct) dg.get(0);
+        IonList b = (IonList) struct.get("b");
+        IonStruct nested = (IonStruct) b.get(3);
+        assertTrue(((IonStruct) nested.get("c")).get("e").isNullValue());
+        assertSame(encoding, encoding(dg));
+        assertEquals(size, dg.byteSize());
+
+        // but changing them does
+        ((IonStruct) nested.get("c")).put("x").newInt(1);
+        byte[] changed = encoding(dg);
+        assertNotSame(encoding, changed);
+        assertValuesEqual(dg, lazySystem.getLoader().load(changed));
+
+        // as does changing values nested further down
+        IonList inner = (IonList) ((IonList) dg.get(1)).get(1);
+        ((IonList) inner.get(1)).add().newInt(4);
+        assertNotSame(changed, encoding(dg));
+        assertValuesEqual(dg, lazySystem.getLoader().load(dg.getBytes()));
+    }
+
+    private static String hex(byte[] bytes)
+    {
+        StringBuilder b = new StringBuilder();
+        for (byte v : bytes)
+        {
+            if (b.length() > 0) b.append(' ');
+            b.append(String.format("%02X", v & 0xff));
+        }
+        return b.toString();
+    }
+}
@@ -16,6 +16,7 @@ package software.amazon.ion.streaming;
 import static software.amazon.ion.impl.PrivateUtils.newSymbolToken;
 import static software.amazon.ion.junit.IonAssert.expectField;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -26,6 +27,7 @@ import java.util.Iterator;
 import org.junit.Test;
 import software.amazon.ion.Decimal;
 import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonStruct;
 import software.amazon.ion.IonSystem;
@@ -36,6 +38,7 @@ import software.amazon.ion.IonWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.Timestamp;
 import software.amazon.ion.junit.IonAssert;
+import software.amazon.ion.system.IonReaderBuilder;
 
 public class BinaryStreamingTest
     extends IonTestCase
@@ -894,4 +897,111 @@ new TestValue("Null.timestamp",IonType.NULL, IonType.TIMESTAMP),
         ir.stepOut();
         assertEquals(null, ir.next());
     }
+
+
+    private static final String[] STRINGS = {
+        "",
+        "ascii",
+        "caf\u00e9",                        // two-byte
+        "\u20ac100 and \u4e2d\u6587",      // three-byte
+        "\ud834\udd1e clef",               // four-byte, surrogate pair
+        "trailing two-byte \u00e9",
+    };
+
+    private byte[] binaryStrings(int repeat, String... strings)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = system().newBinaryWriter(out);
+        for (int i = 0; i < repeat; i++)
+        {
+            for (String s : strings)
+            {
+                writer.writeString(s);
+            }
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testReadStrings()
+        throws Exception
+    {
+        IonReader reader = system().newReader(binaryStrings(1, STRINGS));
+        for (String expected : STRINGS)
+        {
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals(expected, reader.stringValue());
+        }
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testReadStringsSpanningPages()
+        throws Exception
+    {
+        // Enough repetitions that some values straddle the reader's pages.
+        StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 5000; i++)
+        {
+            big.append(STRINGS[i % STRINGS.length]);
+        }
+        String[] strings = { big.toString(), "\u00e9\u00e9\u00e9" };
+        byte[] data = binaryStrings(20, strings);
+
+        IonReader reader = system().newReader(new ByteArrayInputStream(data));
+        for (int i = 0; i < 20; i++)
+        {
+            for (String expected : strings)
+            {
+                assertEquals(IonType.STRING, reader.next());
+                assertEquals(expected, reader.stringValue());
+            }
+        }
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testTruncatedUtf8String()
+        throws Exception
+    {
+        // A one-byte string holding the first byte of a two-byte sequence.
+        byte[] data = { (byte) 0xE0, 0x01, 0x00, (byte) 0xEA, (byte) 0x81, (byte) 0xC3 };
+        IonReader reader = system().newReader(data);
+        assertEquals(IonType.STRING, reader.next());
+        try
+        {
+            reader.stringValue();
+            fail("expected exception");
+        }
+        catch (IonException e) { }
+    }
+
+    @Test
+    public void testStringCache()
+        throws Exception
+    {
+        byte[] data = binaryStrings(2, STRINGS);
+        IonReader reader = IonReaderBuilder.standard()
+                                           .withStringCacheEnabled(true)
+                                           .build(data);
+        String[] first = new String[STRINGS.length];
+        for (int i = 0; i < STRINGS.length; i++)
+        {
+            reader.next();
+            first[i] = reader.stringValue();
+            assertEquals(STRINGS[i], first[i]);
+        }
+        reader.next();
+        reader.next();
+        // The short ASCII string is cached, so it's the very same instance.
+        assertSame(first[1], reader.stringValue());
+        for (int i = 2; i < STRINGS.length; i++)
+        {
+            reader.next();
+            assertEquals(STRINGS[i], reader.stringValue());
+        }
+        assertNull(reader.next());
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.streaming;
+
+import static software.amazon.ion.impl.PrivateUtils.utf8;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonType;
+import software.amazon.ion.NullValueException;
+import software.amazon.ion.ReaderMaker;
+import software.amazon.ion.ValueBytesProvider;
+import software.amazon.ion.junit.Injected.Inject;
+
+public class ValueBytesProviderTest
+    extends ReaderTestCase
+{
+    @Inject("readerMaker")
+    public static final ReaderMaker[] READER_MAKERS =
+        ReaderMaker.valuesWith(ReaderMaker.Feature.BINARY);
+
+
+    private ValueBytesProvider vbp;
+
+    private void readBytes(IonDatagram dg)
+    {
+        read(dg.getBytes());
+        vbp = in.asFacet(ValueBytesProvider.class);
+        assertNotNull("ValueBytesProvider not available", vbp);
+    }
+
+    private byte[] currentBytes()
+    {
+        byte[] array = vbp.currentBytesArray();
+        int offset = vbp.currentBytesOffset();
+        int length = vbp.currentBytesLength();
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    private void checkBytes(byte[] expected)
+    {
+        assertTrue(Arrays.equals(expected, currentBytes()));
+
+        ByteBuffer buffer = vbp.currentBytes();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(expected.length, buffer.remaining());
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.get(copy);
+        assertTrue(Arrays.equals(expected, copy));
+
+        assertEquals(0, vbp.compareCurrentBytes(expected, 0, expected.length));
+    }
+
+
+    @Test
+    public void testTextAndLobBytes()
+    {
+        String text = "café 𝄞";
+        byte[] lob = { 0, 1, (byte) 0xff, 0x7f };
+
+        IonDatagram dg = system().newDatagram();
+        dg.add().newString(text);
+        dg.add().newSymbol(text);
+        dg.add().newBlob(lob);
+        dg.add().newClob(lob);
+        readBytes(dg);
+
+        assertEquals(IonType.STRING, in.next());
+        checkBytes(utf8(text));
+        assertEquals(text, in.stringValue());
+        checkBytes(utf8(text));
+
+        assertEquals(IonType.SYMBOL, in.next());
+        checkBytes(utf8(text));
+        assertEquals(text, in.stringValue());
+
+        assertEquals(IonType.BLOB, in.next());
+        checkBytes(lob);
+        assertTrue(Arrays.equals(lob, in.newBytes()));
+
+        assertEquals(IonType.CLOB, in.next());
+        checkBytes(lob);
+        assertTrue(Arrays.equals(lob, in.newBytes()));
+        expectTopEof();
+    }
+
+    @Test
+    public void testLargeValues()
+    {
+        // Large enough to span the pages of stream-based readers.
+        char[] chars = new char[100000];
+        for (int i = 0; i < chars.length; i++)
+        {
+            chars[i] = (char) ('a' + i % 26);
+        }
+        String text = new String(chars);
+        byte[] lob = utf8(text);
+
+        IonDatagram dg = system().newDatagram();
+        dg.add().newString(text);
+        dg.add().newBlob(lob);
+        dg.add().newString("after");
+        readBytes(dg);
+
+        in.next();
+        checkBytes(lob);
+        assertEquals(text, in.stringValue());
+
+        in.next();
+        checkBytes(lob);
+        assertTrue(Arrays.equals(lob, in.newBytes()));
+
+        in.next();
+        checkBytes(utf8("after"));
+        expectTopEof();
+    }
+
+    @Test
+    public void testCompareCurrentBytes()
+    {
+        IonDatagram dg = system().newDatagram();
+        dg.add().newString("abc");
+        readBytes(dg);
+        in.next();
+
+        byte[] abd = utf8("xabdx");
+        assertTrue(vbp.compareCurrentBytes(abd, 1, 3) < 0);
+        assertTrue(vbp.compareCurrentBytes(abd, 1, 2) > 0);
+        assertTrue(vbp.compareCurrentBytes(utf8("ab"), 0, 2) > 0);
+        assertTrue(vbp.compareCurrentBytes(utf8("abcd"), 0, 4) < 0);
+        assertTrue(vbp.compareCurrentBytes(utf8("é"), 0, 2) < 0);
+        assertEquals("abc", in.stringValue());
+    }
+
+    @Test
+    public void testNullValues()
+    {
+        read("null.string null.symbol null.blob");
+        vbp = in.asFacet(ValueBytesProvider.class);
+        for (int i = 0; i < 3; i++)
+        {
+            in.next();
+            assertNull(vbp.currentBytes());
+            assertNull(vbp.currentBytesArray());
+            assertEquals(-1, vbp.currentBytesLength());
+            try
+            {
+                vbp.compareCurrentBytes(new byte[0], 0, 0);
+                fail("expected exception");
+            }
+            catch (NullValueException e) { }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNonTextValue()
+    {
+        read("12");
+        vbp = in.asFacet(ValueBytesProvider.class);
+        in.next();
+        vbp.currentBytes();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConsumedLob()
+    {
+        read("{{ YWJj }}");
+        vbp = in.asFacet(ValueBytesProvider.class);
+        in.next();
+        in.newBytes();
+        vbp.currentBytes();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.system;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.SymbolTable;
+
+public class ConcurrentCatalogTest
+    extends IonTestCase
+{
+    private SymbolTable table(String name, int version)
+    {
+        return loadSharedSymtab("$ion_shared_symbol_table::{"
+                                + "  name:'''" + name + "''', version:" + version
+                                + ", symbols:[ '''s" + version + "''' ]"
+                                + "}");
+    }
+
+    @Test
+    public void testGetMissingVersion()
+    {
+        ConcurrentCatalog cat = new ConcurrentCatalog();
+        assertNull(cat.getTable("T"));
+        assertNull(cat.getTable("T", 3));
+
+        SymbolTable t1 = table("T", 1);
+        cat.putTable(t1);
+        assertSame(t1, cat.getTable("T", 1));
+        assertSame(t1, cat.getTable("T"));
+        assertSame(t1, cat.getTable("T", 5));
+
+        SymbolTable t2 = table("T", 2);
+        cat.putTable(t2);
+        assertSame(t2, cat.getTable("T"));
+        assertSame(t1, cat.getTable("T", 1));
+        assertSame(t2, cat.getTable("T", 2));
+        assertSame(t2, cat.getTable("T", 5));
+
+        assertSame(t1, cat.removeTable("T", 1));
+        assertNull(cat.removeTable("T", 1));
+
+        assertSame(t2, cat.getTable("T"));
+        assertSame(t2, cat.getTable("T", 1));
+        assertSame(t2, cat.getTable("T", 5));
+
+        assertSame(t2, cat.removeTable("T", 2));
+        assertNull(cat.getTable("T"));
+        assertNull(cat.getTable("T", 2));
+    }
+
+    @Test
+    public void testPutReplacesSameVersion()
+    {
+        ConcurrentCatalog cat = new ConcurrentCatalog();
+        SymbolTable first = table("T", 3);
+        SymbolTable second = table("T", 3);
+        cat.putTable(first);
+        cat.putTable(second);
+
+        assertSame(second, cat.getTable("T", 3));
+        assertSame(second, cat.getTable("T", 1));
+
+        Iterator<SymbolTable> tables = cat.iterator();
+        assertSame(second, tables.next());
+        assertFalse(tables.hasNext());
+    }
+
+    /**
+     * Checks resolution against {@link SimpleCatalog#bestMatch}, both within
+     * and beyond the range of pre-resolved versions.
+     */
+    @Test
+    public void testBestMatchAgreesWithSimpleCatalog()
+    {
+        int[][] layouts = {
+            { 1 },
+            { 2, 5, 9 },
+            { 3, 4, 300 },
+            { 250, 257, 1000, 1002 },
+        };
+
+        for (int[] layout : layouts)
+        {
+            ConcurrentCatalog cat = new ConcurrentCatalog();
+            List<Integer> available = new ArrayList<Integer>();
+            for (int version : layout)
+            {
+                cat.putTable(table("T", version));
+                available.add(version);
+            }
+
+            for (int requested = 1; requested <= 1010; requested++)
+            {
+                int expected = (available.contains(requested)
+                                ? requested
+                                : SimpleCatalog.bestMatch(requested, available));
+                assertEquals(Arrays.toString(layout) + " @" + requested,
+                             expected,
+                             cat.getTable("T", requested).getVersion());
+            }
+        }
+    }
+
+    @Test
+    public void testIterator()
+    {
+        ConcurrentCatalog cat = new ConcurrentCatalog();
+        Set<SymbolTable> expected = new HashSet<SymbolTable>();
+        for (String name : new String[] { "A", "B" })
+        {
+            for (int version = 1; version <= 3; version++)
+            {
+                SymbolTable table = table(name, version);
+                cat.putTable(table);
+                expected.add(table);
+            }
+        }
+
+        Set<SymbolTable> actual = new HashSet<SymbolTable>();
+        for (SymbolTable table : cat)
+        {
+            actual.add(table);
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutSystemTable()
+    {
+        new ConcurrentCatalog().putTable(system().getSystemSymbolTable());
+    }
+
+    @Test
+    public void testConcurrentPutAndGet()
+        throws Exception
+    {
+        final ConcurrentCatalog cat = new ConcurrentCatalog();
+        final int versionCount = 50;
+        final SymbolTable[] tables = new SymbolTable[versionCount];
+        for (int i = 0; i < versionCount; i++)
+        {
+            tables[i] = table("T", i + 1);
+        }
+
+        final int threadCount = 4;
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure =
+            new AtomicReference<Throwable>();
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++)
+        {
+            final int offset = t;
+            threads[t] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                        for (int i = offset; i < versionCount; i += threadCount)
+                        {
+                            cat.putTable(tables[i]);
+                            assertNotNull(cat.getTable("T", i + 1));
+                            assertNotNull(cat.getTable("T"));
+                        }
+                    }
+                    catch (Throwable e)
+                    {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        if (failure.get() != null)
+        {
+            throw new AssertionError(failure.get());
+        }
+
+        for (int i = 0; i < versionCount; i++)
+        {
+            assertSame(tables[i], cat.getTable("T", i + 1));
+        }
+        assertSame(tables[versionCount - 1], cat.getTable("T"));
+    }
+}
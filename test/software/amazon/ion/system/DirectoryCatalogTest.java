@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.system;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.impl.PrivateUtils;
+
+public class DirectoryCatalogTest
+    extends IonTestCase
+{
+    @Rule
+    public TemporaryFolder myFolder = new TemporaryFolder();
+
+    private File myDirectory;
+
+    @Before
+    public void writeTables()
+        throws IOException
+    {
+        myDirectory = myFolder.getRoot();
+        writeTable("T.1.ion", "T", 1, "'''yes''', '''no'''");
+        writeTable("T.3.ion", "T", 3, "'''yes''', '''no''', '''maybe'''");
+        writeTable("com.example.U.1.ion", "com.example.U", 1, "'''u'''");
+        writeTable("README.txt", "T", 2, "'''ignored'''");
+    }
+
+    private void writeTable(String file, String name, int version,
+                            String symbols)
+        throws IOException
+    {
+        String text =
+            "$ion_shared_symbol_table::{" +
+            "  name:'''" + name + "''', version:" + version + "," +
+            "  symbols:[ " + symbols + " ]" +
+            "}";
+        OutputStream out = new FileOutputStream(new File(myDirectory, file));
+        try
+        {
+            out.write(PrivateUtils.utf8(text));
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    @Test
+    public void testLazyLoadingAndBestMatch()
+    {
+        DirectoryCatalog cat = new DirectoryCatalog(myDirectory, 10);
+        assertEquals(0, cat.getRetainedTableCount());
+
+        assertNull(cat.getTable("V"));
+        assertNull(cat.getTable("V", 1));
+        assertEquals(0, cat.getMissCount());
+
+        SymbolTable t1 = cat.getTable("T", 1);
+        assertEquals("T", t1.getName());
+        assertEquals(1, t1.getVersion());
+        assertEquals(2, t1.getMaxId());
+        assertEquals(1, cat.getRetainedTableCount());
+
+        SymbolTable t3 = cat.getTable("T", 2);
+        assertEquals(3, t3.getVersion());
+        assertSame(t3, cat.getTable("T"));
+        assertSame(t3, cat.getTable("T", 9));
+        assertSame(t1, cat.getTable("T", 1));
+
+        SymbolTable u = cat.getTable("com.example.U", 1);
+        assertEquals("com.example.U", u.getName());
+
+        assertEquals(3, cat.getMissCount());
+        assertEquals(3, cat.getHitCount());
+        assertEquals(0, cat.getEvictionCount());
+    }
+
+    @Test
+    public void testEviction()
+    {
+        DirectoryCatalog cat = new DirectoryCatalog(myDirectory, 2);
+
+        SymbolTable t1 = cat.getTable("T", 1);
+        cat.getTable("T", 3);
+        assertSame(t1, cat.getTable("T", 1)); // T.3 is now eldest
+        cat.getTable("com.example.U", 1);
+
+        assertEquals(2, cat.getRetainedTableCount());
+        assertEquals(1, cat.getEvictionCount());
+        assertSame(t1, cat.getTable("T", 1));
+        assertEquals(3, cat.getMissCount());
+
+        cat.getTable("T", 3);
+        assertEquals(4, cat.getMissCount());
+        assertEquals(2, cat.getEvictionCount());
+
+        cat.clear();
+        assertEquals(0, cat.getRetainedTableCount());
+    }
+
+    @Test
+    public void testReaderResolvesImports()
+    {
+        DirectoryCatalog cat = new DirectoryCatalog(myDirectory, 10);
+        IonSystem system = IonSystemBuilder.standard().withCatalog(cat).build();
+
+        String data =
+            "$ion_symbol_table::{" +
+            "  imports:[ { name:'''T''', version:3, max_id:3 } ]" +
+            "}" +
+            "$12";
+        IonReader reader = system.newReader(data);
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("maybe", reader.stringValue());
+        assertEquals(1, cat.getMissCount());
+    }
+
+    @Test
+    public void testTableFileImportsFromDirectory()
+        throws IOException
+    {
+        // a binary table file whose own local symbol table imports U
+        SymbolTable u = new DirectoryCatalog(myDirectory, 1).getTable("com.example.U");
+        OutputStream out = new FileOutputStream(new File(myDirectory, "X.1.ion"));
+        try
+        {
+            IonWriter writer = system().newBinaryWriter(out, u);
+            writer.setTypeAnnotations("$ion_shared_symbol_table");
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("name");
+            writer.writeString("X");
+            writer.setFieldName("symbols");
+            writer.stepIn(IonType.LIST);
+            writer.writeString("x");
+            writer.stepOut();
+            writer.setFieldName("u");
+            writer.writeSymbol("u");
+            writer.stepOut();
+            writer.close();
+        }
+        finally
+        {
+            out.close();
+        }
+
+        DirectoryCatalog cat = new DirectoryCatalog(myDirectory, 10);
+        SymbolTable x = cat.getTable("X");
+        assertEquals("x", x.findKnownSymbol(1));
+        // U was loaded through this catalog, not substituted
+        assertEquals(2, cat.getRetainedTableCount());
+        assertEquals(2, cat.getMissCount());
+        cat.getTable("com.example.U", 1);
+        assertEquals(1, cat.getHitCount());
+    }
+
+    @Test(expected = IonException.class)
+    public void testMismatchedFileName()
+        throws IOException
+    {
+        writeTable("W.2.ion", "W", 1, "'''w'''");
+        new DirectoryCatalog(myDirectory, 10).getTable("W");
+    }
+
+    @Test(expected = IonException.class)
+    public void testMissingDirectory()
+    {
+        new DirectoryCatalog(new File(myDirectory, "absent"), 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveMaxTables()
+    {
+        new DirectoryCatalog(myDirectory, 0);
+    }
+}
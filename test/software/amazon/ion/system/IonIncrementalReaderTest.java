@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.system;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonIncrementalReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.ResettableReader;
+import software.amazon.ion.UnexpectedEofException;
+
+public class IonIncrementalReaderTest
+    extends IonTestCase
+{
+    private static final String DATA =
+        "{a:1, b:[x, y], c:null.list} first true null 12.5e0 "
+        + "second::{d:\"two\", e:{{aGVsbG8=}}} (z 2018-10-17T) "
+        + "\"" + repeat('s', 300) + "\"";
+
+    private final IonIncrementalReader myReader =
+        IonReaderBuilder.standard().buildIncremental();
+
+    private static String repeat(char c, int count)
+    {
+        StringBuilder buf = new StringBuilder(count);
+        for (int i = 0; i < count; i++)
+        {
+            buf.append(c);
+        }
+        return buf.toString();
+    }
+
+    /** Reads every value available now into the given datagram. */
+    private void drain(IonDatagram into)
+    {
+        while (myReader.next() != null)
+        {
+            into.add(system().newValue(myReader));
+        }
+    }
+
+    private void checkFedInChunks(byte[] data, int chunkSize)
+    {
+        IonDatagram actual = system().newDatagram();
+        for (int offset = 0; offset < data.length; offset += chunkSize)
+        {
+            int length = Math.min(chunkSize, data.length - offset);
+            myReader.feed(data, offset, length);
+            drain(actual);
+            assertTrue(myReader.needsData());
+        }
+        myReader.endOfInput();
+        assertFalse(myReader.needsData());
+        assertNull(myReader.next());
+
+        assertEquals(loader().load(data), actual);
+    }
+
+    @Test
+    public void testFeedByteAtATime()
+    {
+        checkFedInChunks(encode(DATA), 1);
+    }
+
+    @Test
+    public void testFeedInChunks()
+    {
+        checkFedInChunks(encode(DATA), 7);
+    }
+
+    @Test
+    public void testSymbolTablesCarryAcrossStreams()
+        throws Exception
+    {
+        // the second stream restarts the symbol table with a new IVM
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(encode("{a:b} c"));
+        out.write(encode("{d:e} f"));
+        byte[] data = out.toByteArray();
+
+        IonDatagram actual = system().newDatagram();
+        for (int i = 0; i < data.length; i++)
+        {
+            myReader.feed(data, i, 1);
+            drain(actual);
+        }
+        assertEquals(loader().load("{a:b} c {d:e} f"), actual);
+    }
+
+    @Test
+    public void testPartialValueIsNotVisible()
+    {
+        byte[] data = encode("\"" + repeat('x', 40) + "\"");
+        myReader.feed(data, 0, data.length - 1);
+        assertNull(myReader.next());
+        assertTrue(myReader.needsData());
+
+        myReader.feed(data, data.length - 1, 1);
+        assertFalse(myReader.needsData());
+        assertEquals(IonType.STRING, myReader.next());
+        assertEquals(repeat('x', 40), myReader.stringValue());
+        assertNull(myReader.next());
+    }
+
+    @Test
+    public void testValueLargerThanBuffer()
+    {
+        checkFedInChunks(encode("[\"" + repeat('v', 100000) + "\", 1] 2"), 1000);
+    }
+
+    @Test
+    public void testFeedByteBuffer()
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(encode("1 2"));
+        myReader.feed(buffer);
+        assertEquals(0, buffer.remaining());
+        assertEquals(IonType.INT, myReader.next());
+        assertEquals(1, myReader.intValue());
+        assertEquals(IonType.INT, myReader.next());
+        assertEquals(2, myReader.intValue());
+        assertNull(myReader.next());
+        assertTrue(myReader.needsData());
+    }
+
+    @Test(expected = UnexpectedEofException.class)
+    public void testEndOfInputWithinValue()
+    {
+        byte[] data = encode("{a:1}");
+        myReader.feed(data, 0, data.length - 1);
+        myReader.endOfInput();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFeedAfterEndOfInput()
+    {
+        myReader.endOfInput();
+        myReader.feed(new byte[1], 0, 1);
+    }
+
+    @Test
+    public void testNotResettable()
+    {
+        assertNull(myReader.asFacet(ResettableReader.class));
+    }
+}
@@ -15,13 +15,21 @@
 package software.amazon.ion.system;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.GZIPOutputStream;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.rules.ExpectedException;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonReader;
@@ -39,6 +47,9 @@ public class IonReaderBuilderTest
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testMutable()
     {
@@ -110,4 +121,88 @@ public class IonReaderBuilderTest
         assertEquals(42, reader.intValue());
     }
 
+    /** Binary Ion for a few thousand ints, spanning several reader pages. */
+    private static byte[] manyInts(int count) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = PrivateIonBinaryWriterBuilder.standard().build(out);
+        for (int i = 0; i < count; i++)
+        {
+            writer.writeInt(i);
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void assertManyInts(IonReader reader, int count)
+        throws IOException
+    {
+        for (int i = 0; i < count; i++)
+        {
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(i, reader.intValue());
+        }
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void testBuildFromHeapByteBuffer() throws IOException
+    {
+        byte[] data = manyInts(10);
+        byte[] padded = new byte[data.length + 10];
+        System.arraycopy(data, 0, padded, 5, data.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 5, data.length).slice();
+        assertManyInts(IonReaderBuilder.standard().build(buffer), 10);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testBuildFromDirectByteBuffer() throws IOException
+    {
+        byte[] data = manyInts(50000);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data).flip();
+        assertManyInts(IonReaderBuilder.standard().build(buffer), 50000);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testBuildFromGzippedDirectByteBuffer() throws IOException
+    {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(gzipped);
+        gzip.write(manyInts(50000));
+        gzip.close();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(gzipped.size());
+        buffer.put(gzipped.toByteArray()).flip();
+        assertManyInts(IonReaderBuilder.standard().build(buffer), 50000);
+    }
+
+    @Test
+    public void testBuildFromFileChannel() throws IOException
+    {
+        File file = folder.newFile("ints.10n");
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(manyInts(50000));
+        out.close();
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        FileChannel channel = raf.getChannel();
+        IonReader reader = IonReaderBuilder.standard().build(channel);
+        // The mapping outlives the channel.
+        raf.close();
+        assertManyInts(reader, 50000);
+    }
+
+    @Test
+    public void testBuildFromEmptyFileChannel() throws IOException
+    {
+        File file = folder.newFile("empty.10n");
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        IonReader reader = IonReaderBuilder.standard().build(raf.getChannel());
+        raf.close();
+        assertNull(reader.next());
+    }
+
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package software.amazon.ion.system;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+import org.junit.Test;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.ResettableReader;
+
+public class IonReaderPoolTest
+    extends IonTestCase
+{
+    private static final String FIRST  = "{a:1, b:[x, y]} first";
+    private static final String SECOND = "second::{c:\"two\"} (z)";
+
+    private final IonReaderBuilder myBuilder = IonReaderBuilder.standard();
+
+    private void checkFirst(IonReader reader)
+    {
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals("a", reader.getFieldName());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("x", reader.stringValue());
+        reader.stepOut();
+        reader.stepOut();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("first", reader.stringValue());
+        assertNull(reader.next());
+    }
+
+    private void checkSecond(IonReader reader)
+    {
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals("second", reader.getTypeAnnotations()[0]);
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("c", reader.getFieldName());
+        assertEquals("two", reader.stringValue());
+        reader.stepOut();
+        assertEquals(IonType.SEXP, reader.next());
+        assertNull(reader.next());
+    }
+
+    private static byte[] gzip(byte[] data)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        gzip.write(data);
+        gzip.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testResetOverBytes()
+        throws IOException
+    {
+        byte[] first = encode(FIRST);
+        byte[] second = encode(SECOND);
+
+        IonReader reader = myBuilder.build(first);
+        ResettableReader resettable = reader.asFacet(ResettableReader.class);
+        assertNotNull(resettable);
+        checkFirst(reader);
+
+        resettable.reset(second, 0, second.length);
+        checkSecond(reader);
+
+        // Abandon the source part way, inside a container.
+        resettable.reset(first, 0, first.length);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        reader.next();
+
+        byte[] padded = new byte[second.length + 7];
+        System.arraycopy(second, 0, padded, 3, second.length);
+        resettable.reset(padded, 3, second.length);
+        checkSecond(reader);
+
+        resettable.reset(padded, 0, 0);
+        assertNull(reader.next());
+
+        reader.close();
+    }
+
+    @Test
+    public void testResetAcrossSourceKinds()
+        throws IOException
+    {
+        byte[] first = encode(FIRST);
+        byte[] second = encode(SECOND);
+
+        IonReader reader = myBuilder.build(new ByteArrayInputStream(first));
+        ResettableReader resettable = reader.asFacet(ResettableReader.class);
+        checkFirst(reader);
+
+        resettable.reset(new ByteArrayInputStream(second));
+        checkSecond(reader);
+
+        resettable.reset(first, 0, first.length);
+        checkFirst(reader);
+
+        byte[] zipped = gzip(second);
+        resettable.reset(zipped, 0, zipped.length);
+        checkSecond(reader);
+
+        resettable.reset(new ByteArrayInputStream(gzip(first)));
+        checkFirst(reader);
+
+        reader.close();
+    }
+
+    @Test
+    public void testResetOverLargeStream()
+        throws IOException
+    {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++)
+        {
+            text.append("{n:").append(i).append(", s:\"value ").append(i)
+                .append("\"} ");
+        }
+        byte[] data = encode(text.toString());
+        assertTrue(data.length > 100000);
+
+        IonReader reader = myBuilder.build(new ByteArrayInputStream(data));
+        ResettableReader resettable = reader.asFacet(ResettableReader.class);
+        for (int pass = 0; pass < 3; pass++)
+        {
+            int count = 0;
+            while (reader.next() != null)
+            {
+                reader.stepIn();
+                reader.next();
+                assertEquals(count, reader.intValue());
+                reader.stepOut();
+                count++;
+            }
+            assertEquals(20000, count);
+            resettable.reset(new ByteArrayInputStream(data));
+        }
+        reader.close();
+    }
+
+    @Test(expected = IonException.class)
+    public void testResetOverText()
+    {
+        byte[] first = encode(FIRST);
+        IonReader reader = myBuilder.build(first);
+        byte[] text = "hello".getBytes();
+        reader.asFacet(ResettableReader.class).reset(text, 0, text.length);
+    }
+
+    @Test
+    public void testTextReaderIsNotResettable()
+    {
+        IonReader reader = myBuilder.build(FIRST.getBytes());
+        assertNull(reader.asFacet(ResettableReader.class));
+    }
+
+    @Test
+    public void testPoolReusesBinaryReaders()
+    {
+        IonReaderPool pool = new IonReaderPool(myBuilder, 2);
+        byte[] first = encode(FIRST);
+        byte[] second = encode(SECOND);
+
+        IonReader reader = pool.acquire(first);
+        checkFirst(reader);
+        pool.release(reader);
+        assertEquals(1, pool.getIdleCount());
+
+        IonReader again = pool.acquire(second, 0, second.length);
+        assertSame(reader, again);
+        assertEquals(0, pool.getIdleCount());
+        checkSecond(again);
+        pool.release(again);
+
+        IonReader streamed = pool.acquire(new ByteArrayInputStream(first));
+        assertSame(reader, streamed);
+        checkFirst(streamed);
+        pool.release(streamed);
+    }
+
+    @Test
+    public void testPoolHandlesText()
+    {
+        IonReaderPool pool = new IonReaderPool(myBuilder, 2);
+        byte[] binary = encode(FIRST);
+
+        pool.release(pool.acquire(binary));
+        assertEquals(1, pool.getIdleCount());
+
+        IonReader text = pool.acquire(SECOND.getBytes());
+        checkSecond(text);
+        pool.release(text);
+        assertEquals(0, pool.getIdleCount());
+
+        pool.release(pool.acquire(binary));
+        IonReader streamed =
+            pool.acquire(new ByteArrayInputStream(SECOND.getBytes()));
+        checkSecond(streamed);
+        pool.release(streamed);
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testPoolRetentionLimit()
+    {
+        IonReaderPool pool = new IonReaderPool(myBuilder, 1);
+        byte[] binary = encode(FIRST);
+
+        IonReader one = pool.acquire(binary);
+        IonReader two = pool.acquire(binary);
+        assertNotSame(one, two);
+        pool.release(one);
+        pool.release(two);
+        assertEquals(1, pool.getIdleCount());
+    }
+}
@@ -15,6 +15,7 @@
 package software.amazon.ion.system;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -140,6 +141,29 @@ public class IonSystemBuilderTest
         b2.setStreamCopyOptimized(false);
     }
 
+    //-------------------------------------------------------------------------
+
+    @Test
+    public void testLazyDom()
+    {
+        IonSystemBuilder b = IonSystemBuilder.standard().copy();
+        assertFalse(b.isLazyDom());
+        b.setLazyDom(true);
+        IonSystem ion = b.build();
+        assertTrue(isLiteSystem(ion));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLazyDomImmutability()
+    {
+        IonSystemBuilder b = IonSystemBuilder.standard().copy();
+        b.setLazyDom(true);
+
+        IonSystemBuilder b2 = b.immutable();
+        assertTrue(b2.isLazyDom());
+        b2.setLazyDom(false);
+    }
+
 
     //-------------------------------------------------------------------------
 
@@ -160,10 +184,12 @@ public class IonSystemBuilderTest
         IonCatalog catalog = new SimpleCatalog();
         IonSystemBuilder b1 = IonSystemBuilder.standard()
                                               .withCatalog(catalog)
-                                              .withStreamCopyOptimized(true);
+                                              .withStreamCopyOptimized(true)
+                                              .withLazyDom(true);
         IonSystemBuilder b2 = b1.copy();
         assertNotSame(b1, b2);
         assertSame(b1.getCatalog(),     b2.getCatalog());
         assertSame(b1.isStreamCopyOptimized(), b2.isStreamCopyOptimized());
+        assertSame(b1.isLazyDom(),             b2.isLazyDom());
     }
 }
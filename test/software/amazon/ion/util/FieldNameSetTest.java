@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import static software.amazon.ion.BinaryTest.hexToBytes;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.ion.FieldIdProvider;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+
+public class FieldNameSetTest
+    extends IonTestCase
+{
+    /** Collects the values of the wanted fields of each top-level struct. */
+    private List<String> scan(FieldNameSet wanted, IonReader reader)
+    {
+        List<String> found = new ArrayList<String>();
+        while (reader.next() != null)
+        {
+            assertEquals(-1, wanted.indexOf(reader));
+            reader.stepIn();
+            while (reader.next() != null)
+            {
+                int index = wanted.indexOf(reader);
+                if (index >= 0)
+                {
+                    found.add(wanted.get(index) + "=" + reader.intValue());
+                }
+            }
+            reader.stepOut();
+        }
+        return found;
+    }
+
+    private void checkScan(String data, String expected, String... names)
+    {
+        List<String> text = scan(new FieldNameSet(names), system().newReader(data));
+        List<String> binary = scan(new FieldNameSet(names), system().newReader(encode(data)));
+        assertEquals(expected, text.toString());
+        assertEquals(expected, binary.toString());
+    }
+
+    @Test
+    public void testMatching()
+    {
+        checkScan("{a:1, b:2, c:3} {c:4, d:5, a:6}",
+                  "[a=1, c=3, c=4, a=6]",
+                  "c", "a", "missing");
+    }
+
+    @Test
+    public void testSystemSymbolFieldNames()
+    {
+        checkScan("{name:1, version:2, other:3}",
+                  "[version=2]",
+                  "version");
+    }
+
+    @Test
+    public void testDuplicateNames()
+    {
+        FieldNameSet wanted = new FieldNameSet("a", "b", "a");
+        assertEquals(3, wanted.size());
+        assertEquals("[a=1, b=2]",
+                     scan(wanted, system().newReader(encode("{a:1, b:2}"))).toString());
+    }
+
+    @Test
+    public void testSymbolTablesChange()
+        throws Exception
+    {
+        // each stream declares the names with different symbol IDs
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(encode("{x:0, a:1, b:2}"));
+        out.write(encode("{b:3, y:0, z:0, a:4}"));
+        out.write(encode("{a:5}"));
+
+        IonReader reader = system().newReader(out.toByteArray());
+        assertNotNull(reader.asFacet(FieldIdProvider.class));
+        assertEquals("[a=1, b=2, b=3, a=4, a=5]",
+                     scan(new FieldNameSet("a", "b"), reader).toString());
+    }
+
+    @Test
+    public void testOneSetAcrossReaders()
+    {
+        FieldNameSet wanted = new FieldNameSet("b");
+        assertEquals("[b=2]",
+                     scan(wanted, system().newReader(encode("{a:1, b:2}"))).toString());
+        assertEquals("[b=3]",
+                     scan(wanted, system().newReader("{b:3, a:4}")).toString());
+        assertEquals("[b=5]",
+                     scan(wanted, system().newReader(encode("{c:0, b:5}"))).toString());
+    }
+
+    @Test
+    public void testNameDeclaredTwice()
+    {
+        String text = "$ion_symbol_table::{symbols:[\"a\", \"a\"]} {$10:1, $11:2}";
+        // the same data, with the fields encoded by each of the two IDs
+        byte[] binary = hexToBytes("E0 01 00 EA"
+                                   + " E9 81 83 D6 87 B4 81 61 81 61"
+                                   + " D6 8A 21 01 8B 21 02");
+
+        IonReader reader = system().newReader(binary);
+        assertNotNull(reader.asFacet(FieldIdProvider.class));
+        assertEquals("[a=1, a=2]", scan(new FieldNameSet("a"), reader).toString());
+        assertEquals("[a=1, a=2]",
+                     scan(new FieldNameSet("a"), system().newReader(text)).toString());
+    }
+
+    @Test
+    public void testManyFieldIds()
+    {
+        // more distinct field IDs than the set starts out with room for
+        StringBuilder data = new StringBuilder("{");
+        for (int i = 0; i < 100; i++)
+        {
+            data.append("f").append(i).append(':').append(i).append(',');
+        }
+        data.append('}');
+        checkScan(data.toString(), "[f7=7, f70=70, f99=99]", "f99", "f7", "f70");
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+
+public class IonPathProjectionTest
+    extends IonTestCase
+{
+    private static final String DATA =
+        "{id:1, a:{b:[{c:10, d:x}, {c:11}, {e:12}], f:\"skipped\"}, g:[1, 2]}"
+        + " 42"
+        + " {id:2, a:{b:[{c:20}]}, g:[3, 4, 5]}"
+        + " {id:3, a:null.struct, g:{not:list}}";
+
+    /** Projects the data, read as text and as binary, to its Ion text. */
+    private List<String> project(String... paths)
+    {
+        IonPathProjection projection = IonPathProjection.compile(paths);
+        List<String> text = project(projection, system().newReader(DATA));
+        List<String> binary = project(projection, system().newReader(encode(DATA)));
+        assertEquals(text, binary);
+        return text;
+    }
+
+    private List<String> project(IonPathProjection projection, IonReader source)
+    {
+        ProjectingIonReader reader = projection.newReader(source);
+        List<String> values = new ArrayList<String>();
+        while (reader.next() != null)
+        {
+            assertEquals(0, reader.getDepth());
+            assertNotNull(reader.getMatchedPath());
+            values.add(system().newValue(reader).toString());
+        }
+        assertNull(reader.getMatchedPath());
+        return values;
+    }
+
+    private static List<String> list(String... values)
+    {
+        List<String> list = new ArrayList<String>();
+        for (String value : values)
+        {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Test
+    public void testWildcardElements()
+    {
+        assertEquals(list("10", "11", "20"), project("a.b[*].c"));
+    }
+
+    @Test
+    public void testIndexedElement()
+    {
+        assertEquals(list("2", "4"), project("g[1]"));
+    }
+
+    @Test
+    public void testSeveralIndexedElements()
+    {
+        assertEquals(list("1", "3", "5"), project("g[2]", "g[0]", "g[2]"));
+    }
+
+    @Test
+    public void testMultiplePaths()
+    {
+        assertEquals(list("1", "x", "2", "3"), project("id", "a.b[0].d"));
+    }
+
+    @Test
+    public void testWildcardField()
+    {
+        assertEquals(list("12"), project("a.b[*].e", "a.*.e"));
+        assertEquals(list("[{c:10,d:x},{c:11},{e:12}]", "\"skipped\"", "[{c:20}]"),
+                     project("a.*"));
+    }
+
+    /** Wraps a reader, counting the containers it steps into. */
+    private static IonReader countingStepIns(final IonReader source, final int[] count)
+    {
+        InvocationHandler handler = new InvocationHandler()
+        {
+            public Object invoke(Object proxy, Method method, Object[] args)
+                throws Throwable
+            {
+                if (method.getName().equals("stepIn"))
+                {
+                    count[0]++;
+                }
+                try
+                {
+                    return method.invoke(source, args);
+                }
+                catch (InvocationTargetException e)
+                {
+                    throw e.getCause();
+                }
+            }
+        };
+        return (IonReader) Proxy.newProxyInstance(IonReader.class.getClassLoader(),
+                                                  new Class<?>[] { IonReader.class },
+                                                  handler);
+    }
+
+    @Test
+    public void testOnlyStepsIntoMatchingContainers()
+    {
+        IonPathProjection projection = IonPathProjection.compile("g[1]", "a.b");
+        for (IonReader source : new IonReader[] { system().newReader(DATA),
+                                                  system().newReader(encode(DATA)) })
+        {
+            int[] stepIns = new int[1];
+            ProjectingIonReader reader =
+                projection.newReader(countingStepIns(source, stepIns));
+            List<String> paths = new ArrayList<String>();
+            while (reader.next() != null)
+            {
+                paths.add(reader.getMatchedPath());
+            }
+            assertEquals(list("a.b", "g[1]", "a.b", "g[1]"), paths);
+            // the three top-level structs, both non-null a's, and the two
+            // lists under g; not the struct under g, nor any selected value
+            assertEquals(7, stepIns[0]);
+        }
+    }
+
+    @Test
+    public void testSelectedContainerIsWhole()
+    {
+        assertEquals(list("[{c:10,d:x},{c:11},{e:12}]", "[{c:20}]"),
+                     project("a.b", "a.b[*].c"));
+    }
+
+    @Test
+    public void testStepIntoSelectedValue()
+    {
+        ProjectingIonReader reader = IonPathProjection.compile("a")
+            .newReader(system().newReader(encode(DATA)));
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals("a", reader.getFieldName());
+        assertFalse(reader.isInStruct());
+        reader.stepIn();
+        assertEquals(1, reader.getDepth());
+        assertTrue(reader.isInStruct());
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals("b", reader.getFieldName());
+        reader.stepOut();
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(IonType.STRUCT, reader.next());
+        assertTrue(reader.isNullValue());
+        assertNull(reader.next());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStepOutOfProjection()
+    {
+        IonPathProjection.compile("a")
+            .newReader(system().newReader(DATA))
+            .stepOut();
+    }
+
+    @Test
+    public void testMalformedPaths()
+    {
+        String[] bad = { "", "a.", ".a", "a..b", "a[", "a[x]", "a[-1]", "a b", "a]b" };
+        for (String path : bad)
+        {
+            try
+            {
+                IonPathProjection.compile(path);
+                fail("Expected IllegalArgumentException for " + path);
+            }
+            catch (IllegalArgumentException e) { }
+        }
+    }
+}
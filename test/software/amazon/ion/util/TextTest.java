@@ -15,6 +15,7 @@
 package software.amazon.ion.util;
 
 import java.math.BigDecimal;
+import java.util.Random;
 import org.junit.Test;
 import software.amazon.ion.BlobTest;
 import software.amazon.ion.Decimal;
@@ -167,6 +168,16 @@ public class TextTest
         checkDecimal("-0.", Decimal.NEGATIVE_ZERO);
         checkDecimal("0.",  Decimal.ZERO);
         checkDecimal("1.",  Decimal.ONE);
+        checkDecimal("-12.345", new BigDecimal("-12.345"));
+        checkDecimal("0.00012", new BigDecimal("0.00012"));
+        checkDecimal("12d-8", new BigDecimal("1.2E-7"));
+        checkDecimal("12d3", new BigDecimal("1.2E4"));
+        checkDecimal("-9223372036854775.808",
+                     new BigDecimal("-9223372036854775.808"));
+        checkDecimal("9223372036854775.807",
+                     new BigDecimal("9223372036854775.807"));
+        checkDecimal("123456789012345678901234567890.1",
+                     new BigDecimal("123456789012345678901234567890.1"));
     }
 
 
@@ -199,6 +210,39 @@ public class TextTest
         checkFloat("null.float", null);
         checkFloat("0e0", 0.0);
         checkFloat("1e0", 1.0);
+        checkFloat("-0e0", -0.0);
+        checkFloat("nan", Double.NaN);
+        checkFloat("+inf", Double.POSITIVE_INFINITY);
+        checkFloat("-inf", Double.NEGATIVE_INFINITY);
+        checkFloat("-123.456e0", -123.456);
+        checkFloat("0.001e0", 0.001);
+        checkFloat("1.0E-4", 0.0001);
+        checkFloat("9999999e0", 9999999.0);
+        checkFloat("1.0E7", 1.0E7);
+        checkFloat("4.9E-324", Double.MIN_VALUE);
+        checkFloat("1.7976931348623157E308", Double.MAX_VALUE);
+        checkFloat("2.2250738585072014E-308", Double.MIN_NORMAL);
+
+        // Shortest digits, where Double.toString() may give more.
+        checkFloat("0.002e0", 2.0E-3);
+        checkFloat("1.0E23", 1.0E23);
+    }
+
+    @Test
+    public void testPrintFloatRoundTrips()
+        throws Exception
+    {
+        Random random = new Random(0x10AF);
+        for (int i = 0; i < 10000; i++)
+        {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(d) || Double.isInfinite(d)) continue;
+
+            String text = IonTextUtils.printFloat(d);
+            double read = Double.parseDouble(text.replace('E', 'e'));
+            assertEquals(text, Double.doubleToRawLongBits(d),
+                         Double.doubleToRawLongBits(read));
+        }
     }
 
 